@@ -2,6 +2,7 @@ package cn.edu.thssdb.client;
 
 import cn.edu.thssdb.rpc.thrift.*;
 import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.service.ColumnarCodec;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -10,7 +11,9 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.thrift.TException;
 import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
 import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
@@ -34,6 +37,15 @@ public class Client {
   static final String PORT_ARGS = "p";
   static final String PORT_NAME = "port";
 
+  static final String COLUMNAR_ARGS = "c";
+  static final String COLUMNAR_NAME = "columnar";
+
+  static final String FRAMED_ARGS = "f";
+  static final String FRAMED_NAME = "framed";
+
+  static final String COMPACT_ARGS = "cp";
+  static final String COMPACT_NAME = "compact";
+
   private static final PrintStream SCREEN_PRINTER = new PrintStream(System.out);
   private static final Scanner SCANNER = new Scanner(System.in);
 
@@ -46,34 +58,47 @@ public class Client {
 
   private static long session = -1;
 
+  private static boolean columnar = false;
+
+  private static boolean framed = false;
+
+  private static boolean compact = false;
+
+  private static String host;
+
+  private static int port;
+
   public static void main(String[] args) {
     commandLine = parseCmd(args);
     if (commandLine.hasOption(HELP_ARGS)) {
       showHelp();
       return;
     }
-    try {
-      echoStarting();
-      String host = commandLine.getOptionValue(HOST_ARGS, Global.DEFAULT_SERVER_HOST);
-      int port = Integer.parseInt(commandLine.getOptionValue(PORT_ARGS, String.valueOf(Global.DEFAULT_SERVER_PORT)));
-      boolean open = true;
-      while (true) {
-        print(Global.CLI_PREFIX + inTransaction + ">");
-        String msg = SCANNER.nextLine();
-        long startTime = System.currentTimeMillis();
-
-        transport = new TSocket(host, port);
-        transport.open();
-        protocol = new TBinaryProtocol(transport);
-        client = new IService.Client(protocol);
+    echoStarting();
+    host = commandLine.getOptionValue(HOST_ARGS, Global.DEFAULT_SERVER_HOST);
+    port = Integer.parseInt(commandLine.getOptionValue(PORT_ARGS, String.valueOf(Global.DEFAULT_SERVER_PORT)));
+    columnar = commandLine.hasOption(COLUMNAR_ARGS);
+    framed = commandLine.hasOption(FRAMED_ARGS);
+    compact = commandLine.hasOption(COMPACT_ARGS);
+    boolean open = true;
+    while (true) {
+      print(Global.CLI_PREFIX + inTransaction + ">");
+      String msg = SCANNER.nextLine();
+      long startTime = System.currentTimeMillis();
 
+      if (msg.trim().equals(Global.QUIT)) {
+        open = false;
+      } else {
+        try {
+          openTransport();
+        } catch (TTransportException e) {
+          logger.error(e.getMessage());
+          continue;
+        }
         switch (msg.trim()) {
           case Global.SHOW_TIME:
             getTime();
             break;
-          case Global.QUIT:
-            open = false;
-            break;
           case Global.CONNECT:
             connect();
             break;
@@ -84,15 +109,41 @@ public class Client {
             execute(msg.trim());
             break;
         }
-        long endTime = System.currentTimeMillis();
-        println("It costs " + (endTime - startTime) + " ms.");
-        if (!open) {
-          break;
-        }
-        transport.close();
       }
-    } catch (TTransportException e) {
-      logger.error(e.getMessage());
+      long endTime = System.currentTimeMillis();
+      println("It costs " + (endTime - startTime) + " ms.");
+      if (!open) {
+        break;
+      }
+    }
+    closeTransport();
+  }
+
+  // One transport serves every command; it is only opened again after it failed.
+  private static void openTransport() throws TTransportException {
+    if (transport != null && transport.isOpen())
+      return;
+    transport = new TSocket(host, port);
+    if (framed)
+      transport = new TFramedTransport(transport);
+    transport.open();
+    protocol = compact ? new TCompactProtocol(transport) : new TBinaryProtocol(transport);
+    client = new IService.Client(protocol);
+  }
+
+  private static void closeTransport() {
+    if (transport != null)
+      transport.close();
+    transport = null;
+  }
+
+  // A broken connection is closed so that the next command reconnects. The failed command is not
+  // sent again: the server may have executed it before the connection broke.
+  private static void handleError(TException e) {
+    logger.error(e.getMessage());
+    if (e instanceof TTransportException) {
+      closeTransport();
+      println("Connection lost, it is opened again for the next command.");
     }
   }
 
@@ -101,7 +152,7 @@ public class Client {
     try {
       println(client.getTime(req).getTime());
     } catch (TException e) {
-      logger.error(e.getMessage());
+      handleError(e);
     }
   }
 
@@ -121,7 +172,7 @@ public class Client {
       if (resp.getStatus().code == Global.SUCCESS_CODE)
         session = resp.getSessionId();
     } catch (TException e) {
-      logger.error(e.getMessage());
+      handleError(e);
     }
   }
 
@@ -137,7 +188,7 @@ public class Client {
       if (resp.getStatus().code == Global.SUCCESS_CODE)
         session = -1;
     } catch (TException e) {
-      logger.error(e.getMessage());
+      handleError(e);
     }
   }
 
@@ -149,16 +200,24 @@ public class Client {
     ExecuteStatementReq req = new ExecuteStatementReq();
     req.setSessionId(session);
     req.setStatement(msg);
+    req.setFetchSize(Global.DEFAULT_FETCH_SIZE);
+    req.setColumnar(columnar);
     try {
       ExecuteStatementResp resp = client.executeStatement(req);
       if (resp.getStatus().code == Global.FAILURE_CODE) {
         println("Connection Failure!");
         println(resp.getStatus().msg);
       } else {
+        if (resp.isSetInTransaction()) inTransaction = resp.isInTransaction() ? "(T)" : "";
         if (resp.isAbort) {
-          println("illegal SQL statement!");
+          if (resp.isSetColumnsList()) {
+            for (String column : resp.columnsList) println(column);
+            inTransaction = "";
+          } else {
+            println("illegal SQL statement!");
+          }
         }
-        else if (resp.isSetRowList()) {
+        else if (resp.isSetRowList() || resp.isSetColumnList()) {
           StringBuilder column_str = new StringBuilder();
           int column_size = resp.columnsList.size();
           for (int i = 0; i < column_size; ++i) {
@@ -168,19 +227,24 @@ public class Client {
           println(column_str.toString());
           println("---------------------------------------");
 
-          for (List<String> row : resp.rowList) {
-            StringBuilder row_str = new StringBuilder();
-            for (int i = 0; i < column_size; ++i) {
-              row_str.append(row.get(i));
-              if (i != column_size - 1) row_str.append(", ");
+          printRows(resp.isSetColumnList() ? ColumnarCodec.toRowList(resp.columnList) : resp.rowList, column_size);
+          boolean hasMoreRows = resp.isSetHasMoreRows() && resp.isHasMoreRows();
+          while (hasMoreRows) {
+            FetchResultsReq fetchReq = new FetchResultsReq(session, resp.getQueryId());
+            fetchReq.setFetchSize(Global.DEFAULT_FETCH_SIZE);
+            fetchReq.setColumnar(columnar);
+            FetchResultsResp fetchResp = client.fetchResults(fetchReq);
+            if (fetchResp.getStatus().code == Global.FAILURE_CODE) {
+              println(fetchResp.getStatus().msg);
+              break;
             }
-            println(row_str.toString());
+            if (fetchResp.isSetColumnList()) printRows(ColumnarCodec.toRowList(fetchResp.columnList), column_size);
+            else if (fetchResp.isSetRowList()) printRows(fetchResp.rowList, column_size);
+            hasMoreRows = fetchResp.isHasMoreRows();
           }
         } else {
           for (String column : resp.columnsList) {
             column = column.trim();
-            if (column.equals("start transaction")) inTransaction = "(T)";
-            else if (column.equals("commit transaction")) inTransaction = "";
             println(column);
           }
         }
@@ -188,7 +252,18 @@ public class Client {
 
       }
     } catch (TException e) {
-      logger.error(e.getMessage());
+      handleError(e);
+    }
+  }
+
+  private static void printRows(List<List<String>> rows, int column_size) {
+    for (List<String> row : rows) {
+      StringBuilder row_str = new StringBuilder();
+      for (int i = 0; i < column_size; ++i) {
+        row_str.append(row.get(i));
+        if (i != column_size - 1) row_str.append(", ");
+      }
+      println(row_str.toString());
     }
   }
 
@@ -215,6 +290,27 @@ public class Client {
             .required(false)
             .build()
     );
+    options.addOption(Option.builder(COLUMNAR_ARGS)
+            .argName(COLUMNAR_NAME)
+            .desc("Receive query results in typed columnar form (optional)")
+            .hasArg(false)
+            .required(false)
+            .build()
+    );
+    options.addOption(Option.builder(COMPACT_ARGS)
+            .argName(COMPACT_NAME)
+            .desc("Use the compact protocol, required by a server started with -Dthssdb.protocol=compact (optional)")
+            .hasArg(false)
+            .required(false)
+            .build()
+    );
+    options.addOption(Option.builder(FRAMED_ARGS)
+            .argName(FRAMED_NAME)
+            .desc("Use framed transport, required by a server in selector mode (optional)")
+            .hasArg(false)
+            .required(false)
+            .build()
+    );
     return options;
   }
 
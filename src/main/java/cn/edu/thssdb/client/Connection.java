@@ -0,0 +1,160 @@
+package cn.edu.thssdb.client;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.ClientException;
+import cn.edu.thssdb.rpc.thrift.ConnectReq;
+import cn.edu.thssdb.rpc.thrift.ConnectResp;
+import cn.edu.thssdb.rpc.thrift.DisconnetReq;
+import cn.edu.thssdb.rpc.thrift.GetTimeReq;
+import cn.edu.thssdb.rpc.thrift.IService;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.util.ArrayList;
+
+/**
+ * One transport to the server and the session opened on it.
+ * Every statement run on a connection uses its session, so the database chosen by USE and an open
+ * transaction stay with the connection until it is closed. A connection is meant for one thread at a
+ * time; close closes its statements and hands it back to the pool it came from, which gives it a new
+ * session before the next thread gets it.
+ */
+public class Connection implements AutoCloseable {
+
+  private final ConnectionPool pool;
+  private final TTransport transport;
+  final IService.Client client;
+  private long sessionId;
+  private boolean inTransaction = false;
+  // statements not closed yet, closed with the connection so their server cursors are released
+  private final ArrayList<Statement> statements = new ArrayList<>();
+  private boolean broken = false;
+  private boolean closed = false;
+  long lastUsed = System.currentTimeMillis();
+
+  Connection(ConnectionPool pool, String host, int port, boolean framed, boolean compact) {
+    this.pool = pool;
+    TTransport socket = new TSocket(host, port);
+    this.transport = framed ? new TFramedTransport(socket) : socket;
+    try {
+      transport.open();
+      TProtocol protocol = compact ? new TCompactProtocol(transport) : new TBinaryProtocol(transport);
+      this.client = new IService.Client(protocol);
+      ConnectResp resp = client.connect(new ConnectReq("1", "1"));
+      if (resp.getStatus().code != Global.SUCCESS_CODE)
+        throw new ClientException("connect refused: " + resp.getStatus().msg);
+      this.sessionId = resp.getSessionId();
+    } catch (TException e) {
+      transport.close();
+      throw new ClientException("cannot connect to " + host + ":" + port, e);
+    }
+  }
+
+  public Statement createStatement() {
+    if (closed)
+      throw new ClientException("connection is closed");
+    Statement statement = new Statement(this);
+    statements.add(statement);
+    return statement;
+  }
+
+  void forget(Statement statement) {
+    statements.remove(statement);
+  }
+
+  public long getSessionId() {
+    return sessionId;
+  }
+
+  public boolean inTransaction() {
+    return inTransaction;
+  }
+
+  boolean isBroken() {
+    return broken;
+  }
+
+  // health check: one round trip to the server
+  public boolean isValid() {
+    if (broken)
+      return false;
+    try {
+      client.getTime(new GetTimeReq());
+      return true;
+    } catch (TException e) {
+      broken = true;
+      return false;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (closed)
+      return;
+    closed = true;
+    for (Statement statement : new ArrayList<>(statements)) {
+      try {
+        statement.close();
+      } catch (ClientException ignored) {
+        // a transport failure marked the connection broken, the pool drops it
+      }
+    }
+    pool.release(this);
+  }
+
+  void reuse() {
+    closed = false;
+  }
+
+  // the transaction state the server reported after the last request
+  void track(boolean inTransaction) {
+    this.inTransaction = inTransaction;
+  }
+
+  /**
+   * Replaces the session before the connection goes back to the pool. Ending the old session rolls
+   * back its open transaction and drops its cursors; the new one starts with no database chosen,
+   * like a fresh connection. Returns false if the connection cannot be used again.
+   */
+  boolean reset() {
+    try {
+      client.disconnect(new DisconnetReq(sessionId));
+      ConnectResp resp = client.connect(new ConnectReq("1", "1"));
+      if (resp.getStatus().code != Global.SUCCESS_CODE) {
+        broken = true;
+        return false;
+      }
+      sessionId = resp.getSessionId();
+      inTransaction = false;
+      return true;
+    } catch (TException e) {
+      broken = true;
+      return false;
+    }
+  }
+
+  // a transport failure leaves the connection in an unknown state, it is not used again
+  ClientException failure(TException e) {
+    if (e instanceof TTransportException)
+      broken = true;
+    return new ClientException("rpc failed: " + e.getMessage(), e);
+  }
+
+  // ends the session, the server rolls back a transaction left open; if the request cannot be sent the
+  // server does the same when it sees the transport close
+  void disconnect() {
+    try {
+      if (!broken)
+        client.disconnect(new DisconnetReq(sessionId));
+    } catch (TException ignored) {
+    } finally {
+      transport.close();
+    }
+  }
+}
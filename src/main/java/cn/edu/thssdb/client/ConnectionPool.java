@@ -0,0 +1,111 @@
+package cn.edu.thssdb.client;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.ClientException;
+
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded pool of connections that any number of threads can share.
+ * getConnection hands out an idle connection, or opens a new one while fewer than maxConnections are
+ * in use, and waits otherwise. A thread keeps the connection, and with it its server session, until
+ * it closes it. A closed connection gets a new session before it goes back to the pool, so the next
+ * thread does not inherit its transaction, its USE database or its open result sets; the server
+ * rolls back a transaction the old session left open. Idle connections unused for a while are
+ * checked with a round trip before they are handed out again. A connection that failed is closed
+ * instead, and the server rolls back and ends its session when the transport goes away.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+  private final String host;
+  private final int port;
+  private final int maxConnections;
+  private final boolean framed;
+  private final boolean compact;
+  private final Semaphore permits;
+  // most recently used first, so a lightly loaded pool keeps using the same few connections
+  private final LinkedBlockingDeque<Connection> idle = new LinkedBlockingDeque<>();
+  private volatile boolean closed = false;
+
+  public ConnectionPool(String host, int port, int maxConnections) {
+    this(host, port, maxConnections, false, false);
+  }
+
+  /**
+   * @param framed  use framed transport, for a server in selector mode
+   * @param compact use the compact protocol, for a server started with -Dthssdb.protocol=compact
+   */
+  public ConnectionPool(String host, int port, int maxConnections, boolean framed, boolean compact) {
+    this.host = host;
+    this.port = port;
+    this.maxConnections = maxConnections;
+    this.framed = framed;
+    this.compact = compact;
+    this.permits = new Semaphore(maxConnections, true);
+  }
+
+  public Connection getConnection() {
+    return getConnection(Global.DEFAULT_POOL_WAIT);
+  }
+
+  public Connection getConnection(long timeoutMillis) {
+    if (closed)
+      throw new ClientException("connection pool is closed");
+    try {
+      if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS))
+        throw new ClientException("no connection available within " + timeoutMillis + " ms");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ClientException("interrupted while waiting for a connection", e);
+    }
+    try {
+      Connection connection;
+      while ((connection = idle.pollFirst()) != null) {
+        if (System.currentTimeMillis() - connection.lastUsed < Global.POOL_VALIDATION_INTERVAL || connection.isValid()) {
+          connection.reuse();
+          return connection;
+        }
+        connection.disconnect();
+      }
+      return new Connection(this, host, port, framed, compact);
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  void release(Connection connection) {
+    try {
+      if (closed || connection.isBroken() || !connection.reset()) {
+        connection.disconnect();
+        return;
+      }
+      connection.lastUsed = System.currentTimeMillis();
+      idle.offerFirst(connection);
+      // close may have drained the pool in the meantime
+      if (closed && idle.remove(connection))
+        connection.disconnect();
+    } finally {
+      permits.release();
+    }
+  }
+
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  public int getIdleCount() {
+    return idle.size();
+  }
+
+  // disconnects the idle connections; connections still in use are disconnected when they are closed
+  @Override
+  public void close() {
+    closed = true;
+    Connection connection;
+    while ((connection = idle.pollFirst()) != null)
+      connection.disconnect();
+  }
+}
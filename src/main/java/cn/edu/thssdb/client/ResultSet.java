@@ -0,0 +1,137 @@
+package cn.edu.thssdb.client;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.ClientException;
+import cn.edu.thssdb.rpc.thrift.CloseOperationReq;
+import cn.edu.thssdb.rpc.thrift.ExecuteStatementResp;
+import cn.edu.thssdb.rpc.thrift.FetchResultsReq;
+import cn.edu.thssdb.rpc.thrift.FetchResultsResp;
+import org.apache.thrift.TException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rows of a query, read with next and the getters, columns numbered from 1.
+ * Only the current page is held; next fetches the following page from the server's cursor when the
+ * current one is used up. Closing before the last page releases the cursor and its snapshot on the
+ * server.
+ */
+public class ResultSet implements AutoCloseable {
+
+  private final Statement statement;
+  private final List<String> columnNames;
+  private List<List<String>> page;
+  private int position = -1;
+  private final long queryId;
+  private boolean hasMoreRows;
+  private boolean closed = false;
+
+  ResultSet(Statement statement, ExecuteStatementResp resp) {
+    this.statement = statement;
+    this.columnNames = resp.isSetColumnsList() ? resp.getColumnsList() : Collections.emptyList();
+    this.page = rows(resp.isSetRowList() ? resp.getRowList() : null);
+    this.queryId = resp.isSetQueryId() ? resp.getQueryId() : -1;
+    this.hasMoreRows = resp.isSetHasMoreRows() && resp.isHasMoreRows();
+  }
+
+  public boolean next() {
+    if (closed)
+      return false;
+    while (++position >= page.size()) {
+      if (!hasMoreRows) {
+        position = page.size();
+        return false;
+      }
+      fetch();
+    }
+    return true;
+  }
+
+  private void fetch() {
+    Connection connection = statement.getConnection();
+    FetchResultsReq req = new FetchResultsReq(connection.getSessionId(), queryId);
+    req.setFetchSize(statement.getFetchSize());
+    req.setColumnar(false);
+    FetchResultsResp resp;
+    try {
+      resp = connection.client.fetchResults(req);
+    } catch (TException e) {
+      hasMoreRows = false;
+      throw connection.failure(e);
+    }
+    if (resp.getStatus().code != Global.SUCCESS_CODE) {
+      hasMoreRows = false;
+      throw new ClientException(resp.getStatus().msg);
+    }
+    page = rows(resp.isSetRowList() ? resp.getRowList() : null);
+    position = -1;
+    hasMoreRows = resp.isHasMoreRows();
+  }
+
+  public List<String> getColumnNames() {
+    return columnNames;
+  }
+
+  public int getColumnCount() {
+    return columnNames.size();
+  }
+
+  // the column named label, either "table.column" or just "column"
+  public int findColumn(String label) {
+    for (int i = 0; i < columnNames.size(); i++) {
+      String name = columnNames.get(i);
+      if (name.equalsIgnoreCase(label) || name.toLowerCase().endsWith("." + label.toLowerCase()))
+        return i + 1;
+    }
+    throw new ClientException("column " + label + " is not in the result");
+  }
+
+  public String getString(int column) {
+    if (closed || position < 0 || position >= page.size())
+      throw new ClientException("no current row");
+    if (column < 1 || column > columnNames.size())
+      throw new ClientException("column " + column + " is out of range");
+    String value = page.get(position).get(column - 1);
+    return Global.ENTRY_NULL.equals(value) ? null : value;
+  }
+
+  public String getString(String label) {
+    return getString(findColumn(label));
+  }
+
+  public int getInt(int column) {
+    String value = getString(column);
+    return value == null ? 0 : Integer.parseInt(value);
+  }
+
+  public long getLong(int column) {
+    String value = getString(column);
+    return value == null ? 0 : Long.parseLong(value);
+  }
+
+  public double getDouble(int column) {
+    String value = getString(column);
+    return value == null ? 0 : Double.parseDouble(value);
+  }
+
+  @Override
+  public void close() {
+    if (closed)
+      return;
+    closed = true;
+    if (!hasMoreRows)
+      return;
+    hasMoreRows = false;
+    Connection connection = statement.getConnection();
+    try {
+      connection.client.closeOperation(new CloseOperationReq(connection.getSessionId(), queryId));
+    } catch (TException e) {
+      throw connection.failure(e);
+    }
+  }
+
+  private static List<List<String>> rows(List<List<String>> rows) {
+    return rows == null ? Collections.emptyList() : rows;
+  }
+}
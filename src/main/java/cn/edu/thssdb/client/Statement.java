@@ -0,0 +1,185 @@
+package cn.edu.thssdb.client;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.ClientException;
+import cn.edu.thssdb.rpc.thrift.ExecuteBatchReq;
+import cn.edu.thssdb.rpc.thrift.ExecuteBatchResp;
+import cn.edu.thssdb.rpc.thrift.ExecuteStatementReq;
+import cn.edu.thssdb.rpc.thrift.ExecuteStatementResp;
+import cn.edu.thssdb.rpc.thrift.StatementResult;
+import org.apache.thrift.TException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs SQL on the session of a connection.
+ * A query returns a ResultSet that pulls its rows from the server page by page, fetchSize rows at a
+ * time; other statements return the messages of the server. Running the next statement closes the
+ * previous result set. Statements added with addBatch are sent together by executeBatch.
+ */
+public class Statement implements AutoCloseable {
+
+  // the count executeBatch reports for a statement that failed
+  public static final int EXECUTE_FAILED = -3;
+
+  private final Connection connection;
+  private final List<String> batch = new ArrayList<>();
+  private int fetchSize = Global.DEFAULT_FETCH_SIZE;
+  private ResultSet resultSet;
+  private List<String> messages = Collections.emptyList();
+  private boolean closed = false;
+
+  Statement(Connection connection) {
+    this.connection = connection;
+  }
+
+  public void setFetchSize(int fetchSize) {
+    this.fetchSize = fetchSize;
+  }
+
+  int getFetchSize() {
+    return fetchSize;
+  }
+
+  Connection getConnection() {
+    return connection;
+  }
+
+  /**
+   * Runs one statement, or several separated by ';'.
+   * @return true if it was a query, its rows are then read from getResultSet
+   */
+  public boolean execute(String sql) {
+    checkOpen();
+    closeResultSet();
+    ExecuteStatementReq req = new ExecuteStatementReq();
+    req.setSessionId(connection.getSessionId());
+    req.setStatement(sql);
+    req.setFetchSize(fetchSize);
+    req.setColumnar(false);
+    ExecuteStatementResp resp;
+    try {
+      resp = connection.client.executeStatement(req);
+    } catch (TException e) {
+      throw connection.failure(e);
+    }
+    if (resp.getStatus().code != Global.SUCCESS_CODE)
+      throw new ClientException(resp.getStatus().msg);
+    if (resp.isSetInTransaction())
+      connection.track(resp.isInTransaction());
+    if (resp.isIsAbort()) {
+      throw new ClientException(resp.isSetColumnsList() ? resp.getColumnsList().get(0) : "illegal SQL statement");
+    }
+    if (resp.isSetRowList() || resp.isSetColumnList()) {
+      messages = Collections.emptyList();
+      resultSet = new ResultSet(this, resp);
+      return true;
+    }
+    messages = resp.isSetColumnsList() ? resp.getColumnsList() : Collections.emptyList();
+    List<Boolean> errors = resp.isSetErrorList() ? resp.getErrorList() : Collections.emptyList();
+    for (int i = 0; i < errors.size() && i < messages.size(); i++)
+      if (errors.get(i))
+        throw new ClientException(messages.get(i));
+    return false;
+  }
+
+  public ResultSet executeQuery(String sql) {
+    if (!execute(sql))
+      throw new ClientException("statement did not return a result set");
+    return resultSet;
+  }
+
+  // the messages of the server, one per statement
+  public List<String> executeUpdate(String sql) {
+    if (execute(sql)) {
+      closeResultSet();
+      throw new ClientException("statement returned a result set");
+    }
+    return messages;
+  }
+
+  public void addBatch(String sql) {
+    batch.add(sql);
+  }
+
+  public void clearBatch() {
+    batch.clear();
+  }
+
+  /**
+   * Sends the added statements in one round trip and clears them. The server runs them in one
+   * transaction, or in the transaction already open on the connection.
+   * @param stopOnError stop at the first failed statement and roll the batch back; the failure is
+   *                    then thrown, otherwise it is reported as EXECUTE_FAILED
+   * @return the rows changed by each statement that ran
+   */
+  public int[] executeBatch(boolean stopOnError) {
+    checkOpen();
+    closeResultSet();
+    ExecuteBatchReq req = new ExecuteBatchReq(connection.getSessionId(), new ArrayList<>(batch));
+    req.setStopOnError(stopOnError);
+    batch.clear();
+    ExecuteBatchResp resp;
+    try {
+      resp = connection.client.executeBatch(req);
+    } catch (TException e) {
+      throw connection.failure(e);
+    }
+    if (resp.getStatus().code != Global.SUCCESS_CODE)
+      throw new ClientException(resp.getStatus().msg);
+    if (resp.isSetInTransaction())
+      connection.track(resp.isInTransaction());
+    List<StatementResult> results = resp.isSetResults() ? resp.getResults() : Collections.emptyList();
+    int[] counts = new int[results.size()];
+    messages = new ArrayList<>();
+    String failure = null;
+    for (int i = 0; i < counts.length; i++) {
+      StatementResult result = results.get(i);
+      messages.add(result.getStatus().msg);
+      if (result.getStatus().code == Global.SUCCESS_CODE) {
+        counts[i] = result.getAffectedRows();
+      } else {
+        counts[i] = EXECUTE_FAILED;
+        if (failure == null)
+          failure = "statement " + (i + 1) + " of the batch failed: " + result.getStatus().msg;
+      }
+    }
+    if (resp.isIsAbort()) {
+      throw new ClientException(failure == null ? "batch aborted" : failure);
+    }
+    if (stopOnError && failure != null)
+      throw new ClientException(failure);
+    return counts;
+  }
+
+  public ResultSet getResultSet() {
+    return resultSet;
+  }
+
+  public List<String> getMessages() {
+    return messages;
+  }
+
+  // closes the current result set, the statement cannot run anything afterwards
+  @Override
+  public void close() {
+    if (closed)
+      return;
+    closed = true;
+    connection.forget(this);
+    closeResultSet();
+  }
+
+  private void checkOpen() {
+    if (closed)
+      throw new ClientException("statement is closed");
+  }
+
+  private void closeResultSet() {
+    if (resultSet != null)
+      resultSet.close();
+    resultSet = null;
+  }
+}
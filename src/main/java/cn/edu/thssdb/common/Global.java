@@ -2,12 +2,38 @@ package cn.edu.thssdb.common;
 
 public class Global {
   public static int fanout = 129;
+  // 批量建树时每个结点填充的比例，留出空位使随后的插入不会马上分裂
+  public static double BULK_LOAD_FILL_FACTOR = 0.75;
 
   public static int SUCCESS_CODE = 0;
   public static int FAILURE_CODE = -1;
 
   public static String DEFAULT_SERVER_HOST = "127.0.0.1";
   public static int DEFAULT_SERVER_PORT = 6667;
+  // 服务端模式：threadpool 为每个连接占用一个线程；selector 由少数选择器线程处理所有连接的读写，
+  // 读完的请求交给工作线程执行，客户端须使用 framed 传输。启动时可用 -D 参数调整
+  public static final String SERVER_MODE_THREAD_POOL = "threadpool";
+  public static final String SERVER_MODE_SELECTOR = "selector";
+  public static String SERVER_MODE = System.getProperty("thssdb.server.mode", SERVER_MODE_THREAD_POOL);
+  public static int SERVER_SELECTOR_THREADS = Integer.getInteger("thssdb.server.selectors", 2);
+  public static int SERVER_WORKER_THREADS = Integer.getInteger("thssdb.server.workers",
+          2 * Runtime.getRuntime().availableProcessors());
+  // 每个选择器线程中已接受、尚未注册的连接数上限
+  public static int SERVER_ACCEPT_QUEUE_SIZE = Integer.getInteger("thssdb.server.accept.queue", 4);
+  // 等锁的最长毫秒数，超时的事务同死锁的牺牲者一样回滚，0 表示一直等。选择器模式下工作线程数有限，
+  // 等锁的请求占满工作线程后持锁事务的 commit 就没有线程执行，所以该模式下默认限时
+  public static long LOCK_WAIT_TIMEOUT = Long.getLong("thssdb.lock.timeout",
+          SERVER_MODE.equals(SERVER_MODE_SELECTOR) ? 5000 : 0);
+  // RPC 协议：binary 或更紧凑的 compact（整数变长编码），客户端须使用相同的协议
+  public static final String PROTOCOL_BINARY = "binary";
+  public static final String PROTOCOL_COMPACT = "compact";
+  public static String SERVER_PROTOCOL = System.getProperty("thssdb.protocol", PROTOCOL_BINARY);
+  // rows per batch when the client pulls a query result
+  public static int DEFAULT_FETCH_SIZE = 1000;
+  // milliseconds a thread waits for a pooled connection before giving up
+  public static long DEFAULT_POOL_WAIT = 30000;
+  // idle pooled connections unused for longer than this many milliseconds are checked before reuse
+  public static long POOL_VALIDATION_INTERVAL = 30000;
 
   public static String CLI_PREFIX = "ThssDB";
   public static final String SHOW_TIME = "show time;";
@@ -24,7 +50,22 @@ public class Global {
 
   public static final String DBMS_DIR = "thssdb";
   public static final String META_SUFFIX = "_meta";
+  // 表名不能含 '.'，不会与表文件或 _meta 文件重名
+  public static final String INDEX_SUFFIX = ".index";
 
   public static final String LOG_BEGIN_TRANSACTION = "begin transaction";
   public static final String LOG_COMMIT = "commit";
+  public static final String LOG_ROLLBACK = "rollback";
+  // 日志文件每次扩展的字节数，预先分配的空间写满前提交时只需刷数据不必刷文件元数据
+  public static final int WAL_PREALLOCATE_SIZE = 1 << 20;
+  // 后台检查点：日志超过该字节数，或距上次检查点超过该毫秒数时触发，启动时可用 -D 参数调整
+  public static long CHECKPOINT_LOG_SIZE = Long.getLong("thssdb.checkpoint.size", 1 << 20);
+  public static long CHECKPOINT_INTERVAL = Long.getLong("thssdb.checkpoint.interval", 60000);
+  // 表文件的页大小，放不下最长一行的表按它的整数倍放大页
+  public static final int PAGE_SIZE = 8192;
+  // 缓冲池缓存的页数上限，启动时可用 -D 参数调整
+  public static int BUFFER_POOL_PAGES = Integer.getInteger("thssdb.buffer.pages", 4096);
+  // 启动恢复时并行读表、重做日志的线程数
+  public static int RECOVERY_THREADS = Integer.getInteger("thssdb.recovery.threads",
+          Runtime.getRuntime().availableProcessors());
 }
@@ -0,0 +1,20 @@
+package cn.edu.thssdb.exception;
+
+public class ClientException extends RuntimeException {
+    private String reason;
+
+    public ClientException(String reason) {
+        super();
+        this.reason = reason;
+    }
+
+    public ClientException(String reason, Throwable cause) {
+        super(cause);
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: " + reason + "!";
+    }
+}
@@ -0,0 +1,8 @@
+package cn.edu.thssdb.exception;
+
+public class LockTimeoutException extends RuntimeException {
+    @Override
+    public String getMessage() {
+        return "Exception: lock wait timed out, transaction aborted and rolled back!";
+    }
+}
@@ -0,0 +1,17 @@
+package cn.edu.thssdb.exception;
+
+public class RecoveryException extends RuntimeException{
+    private String databaseName;
+
+    public RecoveryException(String databaseName, Throwable cause)
+    {
+        super(cause);
+        this.databaseName = databaseName;
+    }
+
+    @Override
+    public String getMessage()
+    {
+        return "Exception: fail to recover database " + databaseName + " from its log!";
+    }
+}
@@ -1,11 +1,19 @@
 package cn.edu.thssdb.index;
 
+import cn.edu.thssdb.common.Global;
 import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
 
 public final class BPlusTree<K extends Comparable<K>, V> implements Iterable<Pair<K, V>> {
 
   BPlusTreeNode<K, V> root;
   private int size;
+  // bumped on every structural change so open iterators know to re-seek
+  int modCount;
 
   public BPlusTree() {
     root = new BPlusTreeLeafNode<>(0);
@@ -20,15 +28,23 @@ public final class BPlusTree<K extends Comparable<K>, V> implements Iterable<Pai
     return root.get(key);
   }
 
+  // replaces the value in its leaf, the shape of the tree and open iterators are unaffected
   public void update(K key, V value) {
-    root.remove(key);
-    root.put(key, value);
+    if (key == null) throw new IllegalArgumentException("argument key to update() is null");
+    BPlusTreeNode<K, V> node = root;
+    while (node instanceof BPlusTreeInternalNode)
+      node = ((BPlusTreeInternalNode<K, V>) node).searchChild(key);
+    BPlusTreeLeafNode<K, V> leaf = (BPlusTreeLeafNode<K, V>) node;
+    int index = leaf.binarySearch(key);
+    if (index < 0) throw new KeyNotExistException();
+    leaf.values.set(index, value);
   }
 
   public void put(K key, V value) {
     if (key == null) throw new IllegalArgumentException("argument key to put() is null");
     root.put(key, value);
     size++;
+    modCount++;
     checkRoot();
   }
 
@@ -36,11 +52,80 @@ public final class BPlusTree<K extends Comparable<K>, V> implements Iterable<Pai
     if (key == null) throw new IllegalArgumentException("argument key to remove() is null");
     root.remove(key);
     size--;
+    modCount++;
     if (root instanceof BPlusTreeInternalNode && root.size() == 0) {
       root = ((BPlusTreeInternalNode<K, V>) root).children.get(0);
     }
   }
 
+  /**
+   * Builds an empty tree from entries in strictly ascending key order without descending from
+   * the root per key: leaves are filled to BULK_LOAD_FILL_FACTOR and linked as they come, then
+   * each internal level is built bottom-up over the one below it.
+   */
+  public void bulkLoad(Iterator<Pair<K, V>> entries) {
+    if (size != 0) throw new IllegalStateException("bulkLoad() needs an empty tree");
+    int fill = Math.max((Global.fanout + 1) / 2 - 1,
+            Math.min(Global.fanout - 1, (int) Math.ceil(Global.BULK_LOAD_FILL_FACTOR * (Global.fanout - 1))));
+    ArrayList<BPlusTreeNode<K, V>> level = new ArrayList<>();
+    BPlusTreeLeafNode<K, V> leaf = null;
+    K last = null;
+    int count = 0;
+    while (entries.hasNext()) {
+      Pair<K, V> entry = entries.next();
+      if (entry.left == null) throw new IllegalArgumentException("argument key to bulkLoad() is null");
+      if (last != null) {
+        int order = last.compareTo(entry.left);
+        if (order == 0) throw new DuplicateKeyException();
+        if (order > 0) throw new IllegalArgumentException("bulkLoad() needs keys in ascending order");
+      }
+      if (leaf == null || leaf.nodeSize == fill) {
+        BPlusTreeLeafNode<K, V> newLeaf = new BPlusTreeLeafNode<>(0);
+        if (leaf != null) leaf.next = newLeaf;
+        leaf = newLeaf;
+        level.add(leaf);
+      }
+      leaf.keys.set(leaf.nodeSize, entry.left);
+      leaf.values.set(leaf.nodeSize, entry.right);
+      leaf.nodeSize++;
+      last = entry.left;
+      count++;
+    }
+    if (count == 0) return;
+    balanceTail(level);
+    while (level.size() > 1) {
+      ArrayList<BPlusTreeNode<K, V>> parents = new ArrayList<>();
+      BPlusTreeInternalNode<K, V> parent = null;
+      for (BPlusTreeNode<K, V> child : level) {
+        if (parent == null || parent.nodeSize == fill) {
+          parent = new BPlusTreeInternalNode<>(0);
+          parent.children.set(0, child);
+          parents.add(parent);
+        } else {
+          parent.keys.set(parent.nodeSize, child.getFirstLeafKey());
+          parent.nodeSize++;
+          parent.children.set(parent.nodeSize, child);
+        }
+      }
+      balanceTail(parents);
+      level = parents;
+    }
+    root = level.get(0);
+    size = count;
+    modCount++;
+  }
+
+  // the last node of a level may be short, merge it into its left neighbour and split again if
+  // that overflows, the same way remove() repairs an underflow
+  private void balanceTail(ArrayList<BPlusTreeNode<K, V>> level) {
+    int last = level.size() - 1;
+    if (last == 0 || !level.get(last).isUnderFlow()) return;
+    BPlusTreeNode<K, V> left = level.get(last - 1);
+    left.merge(level.remove(last));
+    if (left.isOverFlow())
+      level.add(left.split());
+  }
+
   public boolean contains(K key) {
     if (key == null) throw new IllegalArgumentException("argument key to contains() is null");
     return root.containsKey(key);
@@ -61,4 +146,19 @@ public final class BPlusTree<K extends Comparable<K>, V> implements Iterable<Pai
   public BPlusTreeIterator<K, V> iterator() {
     return new BPlusTreeIterator<>(this);
   }
+
+  // a null bound leaves that side of the range open
+  public BPlusTreeIterator<K, V> range(K lo, boolean loInclusive, K hi, boolean hiInclusive) {
+    return new BPlusTreeIterator<>(this, lo, loInclusive, hi, hiInclusive);
+  }
+
+  public BPlusTreeIterator<K, V> tailRange(K lo, boolean inclusive) {
+    if (lo == null) throw new IllegalArgumentException("argument lo to tailRange() is null");
+    return range(lo, inclusive, null, false);
+  }
+
+  public BPlusTreeIterator<K, V> headRange(K hi, boolean inclusive) {
+    if (hi == null) throw new IllegalArgumentException("argument hi to headRange() is null");
+    return range(null, false, hi, inclusive);
+  }
 }
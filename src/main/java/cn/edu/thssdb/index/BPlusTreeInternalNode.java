@@ -108,7 +108,7 @@ public final class BPlusTreeInternalNode<K extends Comparable<K>, V> extends BPl
     nodeSize = index + length + 1;
   }
 
-  private BPlusTreeNode<K, V> searchChild(K key) {
+  BPlusTreeNode<K, V> searchChild(K key) {
     int index = binarySearch(key);
     return children.get(index >= 0 ? index + 1 : -index - 1);
   }
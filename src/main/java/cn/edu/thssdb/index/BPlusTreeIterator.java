@@ -3,39 +3,88 @@ package cn.edu.thssdb.index;
 import cn.edu.thssdb.common.Pair;
 
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
 
+/**
+ * Walks the leaves of a BPlusTree in key order through their next pointers.
+ * The iterator descends once to the leaf holding the lower bound and stops at the
+ * first key beyond the upper bound; a null bound means the range is open on that side.
+ * If the tree is modified between two calls, the iterator descends again from the
+ * last key it returned, so a long-lived cursor never walks a stale leaf.
+ */
 public class BPlusTreeIterator<K extends Comparable<K>, V> implements Iterator<Pair<K, V>> {
-  private LinkedList<BPlusTreeNode<K, V>> queue;
-  private LinkedList<Pair<K, V>> buffer;
+  private final BPlusTree<K, V> tree;
+  private BPlusTreeLeafNode<K, V> leaf;
+  private int index;
+  private final K upperBound;
+  private final boolean upperInclusive;
+  private K resumeKey;
+  private boolean resumeInclusive;
+  private int expectedModCount;
 
   BPlusTreeIterator(BPlusTree<K, V> tree) {
-    queue = new LinkedList<>();
-    buffer = new LinkedList<>();
+    this(tree, null, false, null, false);
+  }
+
+  BPlusTreeIterator(BPlusTree<K, V> tree, K lowerBound, boolean lowerInclusive,
+                    K upperBound, boolean upperInclusive) {
+    this.tree = tree;
+    this.upperBound = upperBound;
+    this.upperInclusive = upperInclusive;
+    this.resumeKey = lowerBound;
+    this.resumeInclusive = lowerInclusive;
+    seek();
+  }
+
+  private void seek() {
+    expectedModCount = tree.modCount;
+    leaf = null;
+    index = 0;
     if (tree.size() == 0) return;
-    queue.add(tree.root);
+    BPlusTreeNode<K, V> node = tree.root;
+    while (node instanceof BPlusTreeInternalNode) {
+      BPlusTreeInternalNode<K, V> internalNode = (BPlusTreeInternalNode<K, V>) node;
+      node = resumeKey == null ? internalNode.children.get(0) : internalNode.searchChild(resumeKey);
+    }
+    leaf = (BPlusTreeLeafNode<K, V>) node;
+    if (resumeKey != null) {
+      int position = leaf.binarySearch(resumeKey);
+      if (position >= 0)
+        index = resumeInclusive ? position : position + 1;
+      else
+        index = -position - 1;
+    }
+    advance();
+  }
+
+  private void advance() {
+    while (leaf != null && index >= leaf.size()) {
+      leaf = leaf.next;
+      index = 0;
+    }
+    if (leaf != null && upperBound != null) {
+      int cmp = leaf.keys.get(index).compareTo(upperBound);
+      if (cmp > 0 || (cmp == 0 && !upperInclusive))
+        leaf = null;
+    }
   }
 
   @Override
   public boolean hasNext() {
-    return !queue.isEmpty() || !buffer.isEmpty();
+    if (expectedModCount != tree.modCount)
+      seek();
+    return leaf != null;
   }
 
   @Override
   public Pair<K, V> next() {
-    if (buffer.isEmpty()) {
-      while (true) {
-        BPlusTreeNode<K, V> node = queue.poll();
-        if (node instanceof BPlusTreeLeafNode) {
-          for (int i = 0; i < node.size(); i++)
-            buffer.add(
-                    new Pair<>(node.keys.get(i), ((BPlusTreeLeafNode<K, V>) node).values.get(i)));
-          break;
-        } else if (node instanceof BPlusTreeInternalNode)
-          for (int i = 0; i <= node.size(); i++)
-            queue.add(((BPlusTreeInternalNode<K, V>) node).children.get(i));
-      }
-    }
-    return buffer.poll();
+    if (!hasNext())
+      throw new NoSuchElementException();
+    Pair<K, V> pair = new Pair<>(leaf.keys.get(index), leaf.values.get(index));
+    resumeKey = pair.left;
+    resumeInclusive = false;
+    index++;
+    advance();
+    return pair;
   }
 }
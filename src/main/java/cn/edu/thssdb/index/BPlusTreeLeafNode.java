@@ -10,7 +10,7 @@ import java.util.Collections;
 public class BPlusTreeLeafNode<K extends Comparable<K>, V> extends BPlusTreeNode<K, V> {
 
   ArrayList<V> values;
-  private BPlusTreeLeafNode<K, V> next;
+  BPlusTreeLeafNode<K, V> next;
 
   BPlusTreeLeafNode(int size) {
     keys = new ArrayList<>(Collections.nCopies((int) (1.5 * Global.fanout) + 1, null));
@@ -4,10 +4,10 @@ package cn.edu.thssdb.parser;
 // TODO: add logic for some important cases, refer to given implementations and SQLBaseVisitor.java for structures
 
 import cn.edu.thssdb.exception.*;
-import cn.edu.thssdb.query.QueryResult;
-import cn.edu.thssdb.query.QueryTable;
+import cn.edu.thssdb.query.*;
 import cn.edu.thssdb.schema.*;
 import cn.edu.thssdb.type.ColumnType;
+import cn.edu.thssdb.type.QueryResultType;
 import org.antlr.v4.runtime.CommonToken;
 import org.antlr.v4.runtime.atn.SemanticContext;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -37,6 +37,12 @@ import static cn.edu.thssdb.schema.Column.parseEntry;
 public class ImpVisitor extends SQLBaseVisitor<Object> {
     private Manager manager;
     private long session;
+    // 查询读取的快照，写语句读取最新版本
+    private Snapshot snapshot = Snapshot.LATEST;
+    // insert、delete、update 修改的行数，批量执行时随每条语句的结果返回
+    private int affectedRows = 0;
+    // 当前语句是否失败，由 error 设置
+    private boolean failed = false;
 
     public ImpVisitor(Manager manager, long session) {
         super();
@@ -45,7 +51,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
     }
 
     private Database GetCurrentDB() {
-        Database currentDB = manager.getCurrentDatabase();
+        Database currentDB = manager.getCurrentDatabase(session);
         if (currentDB == null) {
             throw new DatabaseNotExistException();
         }
@@ -53,24 +59,40 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
     }
 
     public QueryResult visitSql_stmt(SQLParser.Sql_stmtContext ctx) {
-        if (ctx.create_db_stmt() != null) return new QueryResult(visitCreate_db_stmt(ctx.create_db_stmt()));
-        if (ctx.drop_db_stmt() != null) return new QueryResult(visitDrop_db_stmt(ctx.drop_db_stmt()));
-        if (ctx.use_db_stmt() != null) return new QueryResult(visitUse_db_stmt(ctx.use_db_stmt()));
-        if (ctx.create_table_stmt() != null) return new QueryResult(visitCreate_table_stmt(ctx.create_table_stmt()));
-        if (ctx.drop_table_stmt() != null) return new QueryResult(visitDrop_table_stmt(ctx.drop_table_stmt()));
+        affectedRows = 0;
+        failed = false;
+        if (ctx.create_db_stmt() != null) return result(visitCreate_db_stmt(ctx.create_db_stmt()));
+        if (ctx.drop_db_stmt() != null) return result(visitDrop_db_stmt(ctx.drop_db_stmt()));
+        if (ctx.use_db_stmt() != null) return result(visitUse_db_stmt(ctx.use_db_stmt()));
+        if (ctx.create_table_stmt() != null) return result(visitCreate_table_stmt(ctx.create_table_stmt()));
+        if (ctx.drop_table_stmt() != null) return result(visitDrop_table_stmt(ctx.drop_table_stmt()));
         if (ctx.insert_stmt() != null) {
             String ret = visitInsert_stmt(ctx.insert_stmt());
             System.out.println(ret);
-            return new QueryResult(ret);
+            return result(ret);
         }
-        if (ctx.delete_stmt() != null) return new QueryResult(visitDelete_stmt(ctx.delete_stmt()));
-        if (ctx.update_stmt() != null) return new QueryResult(visitUpdate_stmt(ctx.update_stmt()));
+        if (ctx.delete_stmt() != null) return result(visitDelete_stmt(ctx.delete_stmt()));
+        if (ctx.update_stmt() != null) return result(visitUpdate_stmt(ctx.update_stmt()));
         if (ctx.select_stmt() != null) return visitSelect_stmt(ctx.select_stmt());
-        if (ctx.quit_stmt() != null) return new QueryResult(visitQuit_stmt(ctx.quit_stmt()));
-        if (ctx.show_meta_stmt() != null) return new QueryResult(visitShow_meta_stmt(ctx.show_meta_stmt()));
+        if (ctx.quit_stmt() != null) return result(visitQuit_stmt(ctx.quit_stmt()));
+        if (ctx.show_meta_stmt() != null) return result(visitShow_meta_stmt(ctx.show_meta_stmt()));
+        if (ctx.create_index_stmt() != null) return result(visitCreate_index_stmt(ctx.create_index_stmt()));
+        if (ctx.drop_index_stmt() != null) return result(visitDrop_index_stmt(ctx.drop_index_stmt()));
         return null;
     }
 
+    // 语句执行失败：返回的消息即错误信息，结果标记为 ERROR
+    private String error(String message) {
+        failed = true;
+        return message;
+    }
+
+    private QueryResult result(String message) {
+        if (failed)
+            return new QueryResult(QueryResultType.ERROR, message);
+        return new QueryResult(message, affectedRows);
+    }
+
     /**
      * 创建数据库
      */
@@ -80,7 +102,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
             manager.createDatabaseIfNotExists(ctx.database_name().getText().toLowerCase());
             manager.persist();
         } catch (Exception e) {
-            return e.getMessage();
+            return error(e.getMessage());
         }
         return "Create database " + ctx.database_name().getText() + ".";
     }
@@ -93,7 +115,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         try {
             manager.deleteDatabase(ctx.database_name().getText().toLowerCase());
         } catch (Exception e) {
-            return e.getMessage();
+            return error(e.getMessage());
         }
         return "Drop database " + ctx.database_name().getText() + ".";
     }
@@ -104,9 +126,9 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
     @Override
     public String visitUse_db_stmt(SQLParser.Use_db_stmtContext ctx) {
         try {
-            manager.switchDatabase(ctx.database_name().getText().toLowerCase());
+            manager.switchDatabase(ctx.database_name().getText().toLowerCase(), session);
         } catch (Exception e) {
-            return e.getMessage();
+            return error(e.getMessage());
         }
         return "Switch to database " + ctx.database_name().getText() + ".";
     }
@@ -124,13 +146,50 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
             if (GetCurrentDB().get(ctx.table_name().getText().toLowerCase()) != null) {
                 GetCurrentDB().get(ctx.table_name().getText().toLowerCase()).releaseXLock(session);
             }
-            return e.getMessage();
+            return error(e.getMessage());
         } finally {
 
         }
         return "Drop table " + ctx.table_name().getText() + ".";
     }
 
+    /**
+     * 创建二级索引
+     */
+    @Override
+    public String visitCreate_index_stmt(SQLParser.Create_index_stmtContext ctx) {
+        String table_name = ctx.table_name().getText().toLowerCase();
+        String index_name = ctx.index_name().getText().toLowerCase();
+        try {
+            Table table = GetCurrentDB().get(table_name);
+            table.takeXLock(session, manager);
+            GetCurrentDB().createIndex(table_name, index_name, ctx.column_name().getText().toLowerCase());
+        } catch (Exception e) {
+            return error(e.getMessage());
+        }
+        return "Create index " + index_name + " on " + table_name + ".";
+    }
+
+    /**
+     * 删除二级索引
+     */
+    @Override
+    public String visitDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx) {
+        String table_name = ctx.table_name().getText().toLowerCase();
+        String index_name = ctx.index_name().getText().toLowerCase();
+        try {
+            Table table = GetCurrentDB().get(table_name);
+            if (ctx.K_IF() != null && !table.containsIndex(index_name)) {
+                return "Drop index " + index_name + " on " + table_name + ".";
+            }
+            table.takeXLock(session, manager);
+            GetCurrentDB().dropIndex(table_name, index_name);
+        } catch (Exception e) {
+            return error(e.getMessage());
+        }
+        return "Drop index " + index_name + " on " + table_name + ".";
+    }
+
     /**
      * TODO
      * 创建表格
@@ -138,7 +197,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
     @Override
     public String visitCreate_table_stmt(SQLParser.Create_table_stmtContext ctx) {
         try {
-            if (manager.currentDatabase == null) {
+            if (manager.getCurrentDatabase(session) == null) {
                 throw new DatabaseNotExistException();
             }
 
@@ -263,9 +322,12 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
 
                 show_data += "\n";
             }
+            for (SecondaryIndex secondary_index : table.getSecondaryIndexes()) {
+                show_data += "Index " + secondary_index.getIndexName() + "(" + secondary_index.getColumnName() + ")\n";
+            }
             return show_data;
         } catch (Exception e) {
-            return e.toString();
+            return error(e.toString());
         }
     }
 
@@ -284,7 +346,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         ArrayList<String> attribute_name_list = new ArrayList<String>();//将属性名转为String的List
         for (SQLParser.Column_nameContext attribute_item : attribute_list) {
             if (attribute_name_list.contains(attribute_item.getText())) {
-                return new DuplicateColumnException(attribute_item.getText()).getMessage();
+                return error(new DuplicateColumnException(attribute_item.getText()).getMessage());
             }
             attribute_name_list.add(attribute_item.getText());
         }
@@ -299,7 +361,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
 
             //如果插入数据个数与声明的属性个数不同
             if (value_list.size() != attribute_list.size()) {
-                return new SchemaLengthMismatchException(attribute_list.size(), value_list.size(), "").getMessage();
+                return error(new SchemaLengthMismatchException(attribute_list.size(), value_list.size(), "").getMessage());
             }
 
             ArrayList<Cell> cells = new ArrayList<Cell>();
@@ -319,7 +381,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                 }
                 cells.add(Column.parseEntry(value, column_item));
                 if (column_item.isPrimary() && !temp_find) {
-                    return new NullValueException(column_item.getColumnName()).getMessage();
+                    return error(new NullValueException(column_item.getColumnName()).getMessage());
                 }
             }
 
@@ -333,20 +395,22 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                     }
                 }
                 if (!temp_find) {
-                    return new ColumnNotExistException(attribute_name_list.get(i).toString().toLowerCase()).getMessage();
+                    return error(new ColumnNotExistException(attribute_name_list.get(i).toString().toLowerCase()).getMessage());
                 }
             }
 
             Row new_row = new Row(cells);
 
             table.takeXLock(session, manager);
-            table.insert(new_row);
+            table.insert(new_row, session);
+            manager.writeRowLog(session, table, new_row);
+            manager.recordUndo(session, () -> table.delete(new_row, session));
 
         } else {
 
             //没有指定插入列，需要全部插入
             if (value_list.size() != table.columns.size()) {
-                return (new SchemaLengthMismatchException(table.columns.size(), value_list.size(), "")).getMessage();
+                return error((new SchemaLengthMismatchException(table.columns.size(), value_list.size(), "")).getMessage());
             }
             ArrayList<Cell> cells = new ArrayList<Cell>();
 
@@ -359,10 +423,13 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
 
 
             table.takeXLock(session, manager);
-            table.insert(new_row);
+            table.insert(new_row, session);
+            manager.writeRowLog(session, table, new_row);
+            manager.recordUndo(session, () -> table.delete(new_row, session));
 
         }
         System.out.println("Inserted succesfully!");
+        affectedRows = 1;
         return "Insert into " + table_name + ".";
     }
 
@@ -381,24 +448,30 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                 SQLParser.Multiple_conditionContext mc = ctx.multiple_condition();
                 ArrayList<Row> delete_rows = getRowsBaseCondition(mc, table);
                 if (delete_rows == null) {
-                    return new ColumnNotExistException("").getMessage();
+                    return error(new ColumnNotExistException("").getMessage());
                 }
                 table.takeXLock(session, manager);
                 for (Row row_item : delete_rows) {
-                    table.delete(row_item);
+                    table.delete(row_item, session);
+                    manager.writeDeleteLog(session, table, row_item.getEntries().get(table.getPrimaryIndex()));
+                    manager.recordUndo(session, () -> table.insert(row_item, session));
                 }
+                affectedRows = delete_rows.size();
             } else {
                 table.takeXLock(session, manager);
-                Iterator<Row> row_iterator = table.iterator();
-                while (row_iterator.hasNext()) {
-                    Row row = row_iterator.next();
-                    table.delete(row);
+                // 先取出全部行再删除，避免边遍历叶子链表边合并节点
+                ArrayList<Row> delete_rows = filter(table.iterator(), table.columns, null);
+                for (Row row : delete_rows) {
+                    table.delete(row, session);
+                    manager.writeDeleteLog(session, table, row.getEntries().get(table.getPrimaryIndex()));
+                    manager.recordUndo(session, () -> table.insert(row, session));
                 }
+                affectedRows = delete_rows.size();
             }
 
             return "Delete from table " + table_name + ".";
         } catch (Exception e) {
-            return e.toString();
+            return error(e.getMessage());
         }
 
     }
@@ -424,7 +497,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
             // 需要 update 的 column 索引
             Table table = GetCurrentDB().get(table_name);
             int update_index = getColumnIndex(table, update_name);
-            if (update_index < 0) throw new Exception("Fail to find column " + update_name);
+            if (update_index < 0) throw new ColumnNotExistException(update_name);
 
             ArrayList<Row> update_rows = new ArrayList<Row>();
             table.takeSLock(session, manager);
@@ -432,7 +505,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                 SQLParser.Multiple_conditionContext mc = ctx.multiple_condition();
                 update_rows = getRowsBaseCondition(mc, table);
                 if (update_rows == null) {
-                    return new ColumnNotExistException("").getMessage();
+                    return error(new ColumnNotExistException("").getMessage());
                 }
             } else {
                 update_rows = filter(table.iterator(), table.columns, null);
@@ -448,12 +521,19 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                 // void update(Cell primaryCell, Row newRow)
                 ArrayList<Cell> entries = new ArrayList<>(row.getEntries());
                 entries.set(update_index, parseEntry(update_value, table.columns.get(update_index)));
-                table.update(row.getEntries().get(table.getPrimaryIndex()), new Row(entries));
+                Row new_row = new Row(entries);
+                Cell primary_cell = row.getEntries().get(table.getPrimaryIndex());
+                table.update(primary_cell, new_row, session);
+                if (primary_cell.compareTo(new_row.getEntries().get(table.getPrimaryIndex())) != 0)
+                    manager.writeDeleteLog(session, table, primary_cell);
+                manager.writeRowLog(session, table, new_row);
+                manager.recordUndo(session, () -> table.update(new_row.getEntries().get(table.getPrimaryIndex()), row, session));
             }
+            affectedRows = update_rows.size();
 
             return "Update table " + table_name + ".";
         } catch (Exception e) {
-            return e.getMessage();
+            return error(e.getMessage());
         }
     }
 
@@ -462,9 +542,8 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
      * 表格项查询
      */
     public QueryTable get_table_by_name(SQLParser.Table_nameContext ctx) {
-        Database database = Manager.getInstance().getCurrentDatabase();
-        Table table = database.get(ctx.getText());
-        return new QueryTable(table);
+        Table table = GetCurrentDB().get(ctx.getText().toLowerCase());
+        return new ScanOperator(table, table.iterator(snapshot));
     }
 
     public QueryTable get_table(SQLParser.Table_queryContext query) {
@@ -472,17 +551,13 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
             return get_table_by_name(query.table_name(0));
         }
 
-        String left_table_name = query.children.get(0).getText();
-        String right_table_name = query.children.get(2).getText();
-        QueryTable left_table = new QueryTable(manager.getCurrentDatabase().get(left_table_name));
-        QueryTable right_table = new QueryTable(manager.getCurrentDatabase().get(right_table_name));
-
-        SQLParser.ConditionContext joinCondition = null;
-        if (query.K_ON() != null) {
-            joinCondition = query.multiple_condition().condition();
+        QueryTable left_table = get_table_by_name(query.table_name(0));
+        QueryTable right_table = get_table_by_name(query.table_name(1));
+        SQLParser.Multiple_conditionContext join_condition = query.multiple_condition();
+        if (join_condition.condition() != null) {
+            return JoinOperator.join_on(left_table, right_table, join_condition.condition());
         }
-        QueryTable ret_table = new QueryTable(left_table, right_table, joinCondition);
-        return ret_table;
+        return new FilterOperator(JoinOperator.cross_join(left_table, right_table), join_condition);
     }
 
     public static int get_column_index(ArrayList<Column> columns, String column_name) {
@@ -543,84 +618,170 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         return return_array_list;
     }
 
-    @Override
-    public QueryResult visitSelect_stmt(SQLParser.Select_stmtContext ctx) {
-
-        // 处理from拿到table
-        List<SQLParser.Table_queryContext> tables = ctx.table_query();
-        QueryTable temp = null;
-        SQLParser.ConditionContext condition = null;
+    /**
+     * 条件形如 "索引列 比较符 常量" 时，返回主键索引或二级索引上的范围扫描，否则返回 null
+     *
+     * @param table
+     * @param condition
+     * @return
+     */
+    public static Iterator<Row> indexScan(Table table, SQLParser.ConditionContext condition, Snapshot snapshot) {
+        if (condition == null) return null;
+        SQLParser.ComparerContext left = condition.expression(0).comparer();
+        SQLParser.ComparerContext right = condition.expression(1).comparer();
+        if (left == null || left.column_full_name() == null || right == null || right.literal_value() == null)
+            return null;
+        SQLParser.Column_full_nameContext full_name = left.column_full_name();
+        if (full_name.table_name() != null && !full_name.table_name().getText().toLowerCase().equals(table.tableName))
+            return null;
+        String column_name = full_name.column_name().getText().toLowerCase();
+        int column_index = getColumnIndex(table, column_name);
+        if (column_index < 0) return null;
+        SecondaryIndex secondary_index = null;
+        if (column_index != table.getPrimaryIndex()) {
+            secondary_index = table.getSecondaryIndex(column_name);
+            if (secondary_index == null) return null;
+        }
 
+        Cell value = parseEntry(right.literal_value().getText(), table.columns.get(column_index));
+        if (value.value == null) return null;
+        Cell lo = null, hi = null;
+        boolean lo_inclusive = false, hi_inclusive = false;
+        SQLParser.ComparatorContext comparator = condition.comparator();
+        if (comparator.EQ() != null) {
+            lo = hi = value;
+            lo_inclusive = hi_inclusive = true;
+        } else if (comparator.LT() != null || comparator.LE() != null) {
+            hi = value;
+            hi_inclusive = comparator.LE() != null;
+        } else if (comparator.GT() != null || comparator.GE() != null) {
+            lo = value;
+            lo_inclusive = comparator.GE() != null;
+        } else {
+            return null;
+        }
+        if (secondary_index == null)
+            return table.rangeIterator(lo, lo_inclusive, hi, hi_inclusive, snapshot);
+        return secondary_index.rangeIterator(lo, lo_inclusive, hi, hi_inclusive, snapshot);
+    }
 
-        for (int i = 0; i < tables.size(); i++) {
-            Table temp_table = GetCurrentDB().get(tables.get(i).table_name().get(0).getChild(0).getText());
-            temp_table.takeSLock(session, manager);
-            if (temp == null) {
-                temp = get_table(tables.get(i));
-            } else {
-                temp = new QueryTable(temp, get_table(tables.get(i)), null);
+    /**
+     * 为 where 条件挑选候选行：单个条件或 AND 的任一侧落在索引列上时走索引，否则全表扫描。
+     * AND 两侧都可走索引时优先主键索引。
+     * 返回的行仍需用原条件过滤。
+     *
+     * @param table
+     * @param mc
+     * @param snapshot 读取的快照，写语句用 Snapshot.LATEST
+     * @return
+     */
+    public static Iterator<Row> candidateRows(Table table, SQLParser.Multiple_conditionContext mc, Snapshot snapshot) {
+        Iterator<Row> scan = null;
+        if (mc.condition() != null) {
+            scan = indexScan(table, mc.condition(), snapshot);
+        } else if (mc.AND() != null) {
+            SQLParser.ConditionContext first = mc.multiple_condition(0).condition();
+            SQLParser.ConditionContext second = mc.multiple_condition(1).condition();
+            if (isPrimaryKeyCondition(table, second) && !isPrimaryKeyCondition(table, first)) {
+                SQLParser.ConditionContext temp = first;
+                first = second;
+                second = temp;
             }
-            temp_table.releaseSLock(session);
+            scan = indexScan(table, first, snapshot);
+            if (scan == null)
+                scan = indexScan(table, second, snapshot);
         }
+        return scan != null ? scan : table.iterator(snapshot);
+    }
 
+    private static boolean isPrimaryKeyCondition(Table table, SQLParser.ConditionContext condition) {
+        if (condition == null || condition.comparator().NE() != null) return false;
+        SQLParser.ComparerContext left = condition.expression(0).comparer();
+        if (left == null || left.column_full_name() == null) return false;
+        String column_name = left.column_full_name().column_name().getText().toLowerCase();
+        return getColumnIndex(table, column_name) == table.getPrimaryIndex();
+    }
 
-        //处理where
-        ArrayList<Row> result = new ArrayList<>();
-        if (ctx.K_WHERE() != null) {
-            //condition = (SQLParser.ConditionContext) ctx.multiple_condition().children.get(0);
-            result = getRowsBaseConditionViaQueryTable(ctx.multiple_condition(), temp);
-        } else {
-            result = filter(temp.rows.iterator(), temp.columns, condition);
+    @Override
+    public QueryResult visitSelect_stmt(SQLParser.Select_stmtContext ctx) {
+        List<SQLParser.Table_queryContext> tables = ctx.table_query();
+
+        // 查询读取语句开始时的快照，不加表锁，不会被未提交的写阻塞；
+        // 构建算子期间只持有 B+ 树的读闩，之后每取一批结果再重新持有
+        ArrayList<Table> read_tables = new ArrayList<>();
+        for (SQLParser.Table_queryContext table_query : tables) {
+            for (SQLParser.Table_nameContext table_name : table_query.table_name()) {
+                read_tables.add(GetCurrentDB().get(table_name.getText().toLowerCase()));
+            }
         }
+        read_tables = QueryResult.latchOrder(read_tables);
+        snapshot = VersionManager.getInstance().openSnapshot(session);
+        boolean opened = false;
+        try {
+            for (Table table : read_tables) {
+                table.takeReadLatch();
+            }
 
-        temp.rows = result;
+            // 处理from，多张表之间做自然连接
+            QueryTable query_table = null;
+            for (SQLParser.Table_queryContext table_query : tables) {
+                QueryTable next_table;
+                if (tables.size() == 1 && table_query.getChildCount() == 1 && ctx.K_WHERE() != null) {
+                    // 单表查询，把索引列上的条件下推到索引
+                    Table table = read_tables.get(0);
+                    next_table = new ScanOperator(table, candidateRows(table, ctx.multiple_condition(), snapshot));
+                } else {
+                    next_table = get_table(table_query);
+                }
+                query_table = query_table == null ? next_table : JoinOperator.natural_join(query_table, next_table);
+            }
 
-        //处理select
-        if (ctx.result_column().size() == 1 && ctx.result_column().get(0).children.get(0) instanceof TerminalNode) {
-            ArrayList<String> final_column_names = new ArrayList<>();
-            for (Column column : temp.columns) {
-                final_column_names.add(column.getColumnName());
+            // 处理where
+            if (ctx.K_WHERE() != null) {
+                query_table = new FilterOperator(query_table, ctx.multiple_condition());
             }
-            //利用插入集合是否成功去重
-            HashSet<Row> unique_set = new HashSet<Row>();
-            ArrayList<Row> unique_rows = new ArrayList<Row>();
-            for (Row item : temp.rows) {
-                if (unique_set.add(item)) {
-                    unique_rows.add(item);
+
+            // 处理select
+            if (!(ctx.result_column().size() == 1 && ctx.result_column(0).children.get(0) instanceof TerminalNode)) {
+                ArrayList<String> column_names = new ArrayList<>();
+                for (SQLParser.Result_columnContext column_context : ctx.result_column()) {
+                    if (column_context.column_full_name() != null) {
+                        column_names.add(column_context.column_full_name().getText().toLowerCase());
+                        continue;
+                    }
+                    // table.*
+                    String prefix = column_context.table_name().getText().toLowerCase() + ".";
+                    for (Column column : query_table.columns) {
+                        if (column.getColumnName().startsWith(prefix)) {
+                            column_names.add(column.getColumnName());
+                        }
+                    }
                 }
+                query_table = new ProjectOperator(query_table, column_names);
             }
-            return new QueryResult(unique_rows, final_column_names);
-        }
-        List<SQLParser.Result_columnContext> columns = ctx.result_column();
-        ArrayList<Integer> column_indexs = new ArrayList<>();
-        ArrayList<String> final_column_names = new ArrayList<>();
-        for (SQLParser.Result_columnContext columnContext : columns) {
-            String columnName = columnContext.column_full_name().getText().toLowerCase();
-            final_column_names.add(columnName);
-            int index = get_column_index(temp.columns, columnName);
-            column_indexs.add(index);
-        }
-
-        ArrayList<Row> final_rows = new ArrayList<>();
-        for (Row row : temp.rows) {
-            ArrayList<Cell> finalRowEntries = new ArrayList<>();
-            for (int index : column_indexs) {
-                finalRowEntries.add(row.getEntries().get(index));
+            if (ctx.K_DISTINCT() != null) {
+                query_table = new DistinctOperator(query_table);
+            }
+            if (ctx.K_LIMIT() != null) {
+                query_table = new LimitOperator(query_table, Integer.parseInt(ctx.NUMERIC_LITERAL().getText()));
             }
-            final_rows.add(new Row(finalRowEntries));
-        }
 
-        //利用插入集合是否成功去重
-        HashSet<Row> unique_set = new HashSet<Row>();
-        ArrayList<Row> unique_rows = new ArrayList<Row>();
-        for (Row item : final_rows) {
-            if (unique_set.add(item)) {
-                unique_rows.add(item);
+            ArrayList<String> final_column_names = new ArrayList<>();
+            for (Column column : query_table.columns) {
+                final_column_names.add(column.getColumnName());
+            }
+            // 结果按批拉取，见 QueryResult.fetch
+            QueryResult result = new QueryResult(query_table, read_tables, snapshot, final_column_names);
+            opened = true;
+            return result;
+        } finally {
+            for (Table table : read_tables) {
+                table.releaseReadLatch();
+            }
+            if (!opened) {
+                VersionManager.getInstance().closeSnapshot(snapshot);
             }
         }
-
-
-        return new QueryResult(unique_rows, final_column_names);
     }
 
     /**
@@ -631,7 +792,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         try {
             manager.quit();
         } catch (Exception e) {
-            return e.getMessage();
+            return error(e.getMessage());
         }
         return "Quit.";
     }
@@ -677,9 +838,11 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
             //取数据，筛选满足条件的
             ArrayList<Row> res_rows = new ArrayList<Row>();
             table.takeSLock(session, manager);
+            //主键条件只取索引范围内的行
+            ArrayList<Row> candidate_rows = filter(candidateRows(table, mc, Snapshot.LATEST), table.columns, null);
             boolean next = false;
             for (SQLParser.ConditionContext item : condition_list) {
-                ArrayList<Row> temp_rows = filter(table.iterator(), table.columns, item);
+                ArrayList<Row> temp_rows = filter(candidate_rows.iterator(), table.columns, item);
                 if (!next) {
                     res_rows.addAll(temp_rows);
                 }
@@ -701,64 +864,4 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         return null;
     }
 
-    /**
-     * 根据Querytable筛选
-     *
-     * @param mc
-     * @param table
-     * @return
-     */
-    public ArrayList<Row> getRowsBaseConditionViaQueryTable(SQLParser.Multiple_conditionContext mc, QueryTable table) {
-        try {
-            ArrayList<SQLParser.ConditionContext> condition_list = new ArrayList<SQLParser.ConditionContext>();
-
-            //加入第二个元素
-            if (mc.AND() != null || mc.OR() != null) {
-                condition_list.add(mc.multiple_condition(0).condition());
-                condition_list.add(mc.multiple_condition(1).condition());
-            } else {
-                condition_list.add(mc.condition());
-            }
-
-            //验证条件属性存在
-            for (SQLParser.ConditionContext item : condition_list) {
-                String name = item.expression(0).comparer().column_full_name().getText().toLowerCase();
-                boolean find = false;
-                for (int i = 0; i < table.columns.size(); i++) {
-                    if (table.columns.get(i).getColumnName().equals(name)) {
-                        find = true;
-                        break;
-                    }
-                }
-
-                if (!find) {
-                    return null;
-                }
-            }
-
-            //取数据，筛选满足条件的
-            ArrayList<Row> res_rows = new ArrayList<Row>();
-            boolean next = false;
-            for (SQLParser.ConditionContext item : condition_list) {
-                ArrayList<Row> temp_rows = filter(table.rows.iterator(), table.columns, item);
-                if (!next) {
-                    res_rows.addAll(temp_rows);
-                }
-                //next保证只有第二个条件表达式才能进入
-                if (mc.AND() != null && next) {
-                    res_rows.retainAll(temp_rows);
-                } else if (mc.OR() != null && next) {
-                    //取不重复并
-                    temp_rows.remove(res_rows);
-                    res_rows.addAll(temp_rows);
-                }
-                next = true;
-            }
-            return res_rows;
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return null;
-    }
-
 }
@@ -25,7 +25,9 @@ sql_stmt :
     | show_table_stmt
     | show_meta_stmt
     | quit_stmt
-    | update_stmt ;
+    | update_stmt
+    | create_index_stmt
+    | drop_index_stmt ;
 
 create_db_stmt :
     K_CREATE K_DATABASE database_name ;
@@ -46,6 +48,12 @@ create_table_stmt :
 show_meta_stmt :
     K_SHOW K_TABLE table_name ;
 
+create_index_stmt :
+    K_CREATE K_INDEX index_name K_ON table_name '(' column_name ')' ;
+
+drop_index_stmt :
+    K_DROP K_INDEX ( K_IF K_EXISTS )? index_name K_ON table_name ;
+
 grant_stmt :
     K_GRANT auth_level ( ',' auth_level )* K_ON table_name K_TO user_name ;
 
@@ -79,7 +87,8 @@ value_entry :
 
 select_stmt :
     K_SELECT ( K_DISTINCT | K_ALL )? result_column ( ',' result_column )*
-        K_FROM table_query ( ',' table_query )* ( K_WHERE multiple_condition )? ;
+        K_FROM table_query ( ',' table_query )* ( K_WHERE multiple_condition )?
+        ( K_LIMIT NUMERIC_LITERAL )? ;
 
 create_view_stmt :
     K_CREATE K_VIEW view_name K_AS select_stmt ;
@@ -164,6 +173,9 @@ column_name :
 view_name :
     IDENTIFIER;
 
+index_name :
+    IDENTIFIER ;
+
 password :
     STRING_LITERAL ;
 
@@ -204,10 +216,12 @@ K_FROM : F R O M;
 K_GRANT : G R A N T;
 K_IF : I F;
 K_IDENTIFIED : I D E N T I F I E D;
+K_INDEX : I N D E X;
 K_INSERT : I N S E R T;
 K_INTO : I N T O;
 K_JOIN : J O I N;
 K_KEY : K E Y;
+K_LIMIT : L I M I T;
 K_NOT : N O T;
 K_NULL : N U L L;
 K_ON : O N;
@@ -3,52 +3,42 @@ package cn.edu.thssdb.parser;
 import cn.edu.thssdb.exception.DatabaseNotExistException;
 import cn.edu.thssdb.query.QueryResult;
 import cn.edu.thssdb.schema.Database;
+import cn.edu.thssdb.schema.LockManager;
 import cn.edu.thssdb.schema.Manager;
+import cn.edu.thssdb.schema.Session;
 import cn.edu.thssdb.schema.Table;
+import cn.edu.thssdb.schema.VersionManager;
 import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.type.QueryResultType;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 
 
 public class SQLHandler {
     private final Manager manager;
-    private final static String INSERT = "insert";
-    private final static String DELETE = "delete";
-    private final static String UPDATE = "update";
-    private final static String BEGIN = "begin";
-    private final static String COMMIT = "commit";
     private final static String SELECT = "select";
-    private static String[] CMD_SET_WITHOUT_SELECT = {INSERT, DELETE, UPDATE, BEGIN, COMMIT};
 
     public SQLHandler(Manager manager) {
         this.manager = manager;
     }
 
     public ArrayList<QueryResult> evaluate(String statement, long session) {
-        String stmt_head = statement.split("\\s+")[0];
-        if (Arrays.asList(CMD_SET_WITHOUT_SELECT).contains(stmt_head.toLowerCase()) && session != 114514)
-        {
-            manager.writeLog(statement, session);
-        }
         System.out.println("session:" +session + "  " + statement);
         if (statement.equals(Global.LOG_BEGIN_TRANSACTION)) {
             ArrayList<QueryResult> queryResults = new ArrayList<QueryResult>();
             try{
-                if (!manager.currentSessions.contains(session)){
-                    manager.currentSessions.add(session);
-                    ArrayList<String> x_lock_tables = new ArrayList<>();
-                    manager.x_lockDict.put(session, x_lock_tables);
+                Session currentSession = manager.getSession(session);
+                if (!currentSession.inTransaction()){
+                    currentSession.beginTransaction();
+                    LockManager.getInstance().beginTransaction(session);
+                    VersionManager.getInstance().begin(session);
                 } else{
                     System.out.println("session already in a transaction.");
                 }
             } catch (Exception e){
-                queryResults.add(new QueryResult(e.getMessage()));
+                queryResults.add(new QueryResult(QueryResultType.ERROR, e.getMessage()));
                 return queryResults;
             }
             queryResults.add(new QueryResult("start transaction."));
@@ -58,43 +48,24 @@ public class SQLHandler {
         if (statement.equals(Global.LOG_COMMIT)) {
             ArrayList<QueryResult> queryResults = new ArrayList<QueryResult>();
             try{
-                if (manager.currentSessions.contains(session)){
-                    Database currentDB = manager.getCurrentDatabase();
+                if (manager.getSession(session).inTransaction()){
+                    Database currentDB = manager.getCurrentDatabase(session);
                     if(currentDB == null) {
                         throw new DatabaseNotExistException();
                     }
-                    String databaseName = currentDB.getDatabaseName();
-                    manager.currentSessions.remove(session);
-                    ArrayList<String> table_list = manager.x_lockDict.get(session);
-                    for (String table_name : table_list) {
-                        Table currentTable = currentDB.get(table_name);
-                        currentTable.releaseSLock(session);
-                        currentTable.releaseXLock(session);
-                    }
-                    table_list.clear();
-                    manager.x_lockDict.put(session,table_list);
+                    // 事务的第一条修改记录之前才写 begin，commit 落盘后才释放锁
+                    manager.writeLog(Global.LOG_COMMIT, session);
+                    manager.clearUndo(session);
+                    endTransaction(session);
 
-                    String databaseLogFilename = Database.getDatabaseLogFilePath(databaseName);
-                    File file = new File(databaseLogFilename);
-                    if(file.exists() && file.isFile() && file.length() > 50000)
-                    {
-                        System.out.println("Clear database log");
-                        try
-                        {
-                            FileWriter writer = new FileWriter(databaseLogFilename);
-                            writer.write( "");
-                            writer.close();
-                        } catch (IOException e)
-                        {
-                            e.printStackTrace();
-                        }
-                        manager.persistDatabase(databaseName);
+                    if (currentDB.getLog().size() > Global.CHECKPOINT_LOG_SIZE) {
+                        manager.requestCheckpoint();
                     }
                 } else {
                     System.out.println("session not in a transaction.");
                 }
             }catch (Exception e){
-                queryResults.add(new QueryResult(e.getMessage()));
+                queryResults.add(new QueryResult(QueryResultType.ERROR, e.getMessage()));
                 return queryResults;
             }
             queryResults.add(new QueryResult("commit transaction."));
@@ -109,16 +80,50 @@ public class SQLHandler {
         parser.removeErrorListeners();
         parser.addErrorListener(SQLErrorListener.instance);
 
+        ArrayList<QueryResult> results;
         try {
             ImpVisitor visitor = new ImpVisitor(manager, session);
-            return (ArrayList<QueryResult>) visitor.visitParse(parser.parse());
+            results = (ArrayList<QueryResult>) visitor.visitParse(parser.parse());
         } catch (Exception e) {
             String message = "Exception: illegal SQL statement! Error message: " + e.getMessage();
-            QueryResult result = new QueryResult(message);
-            ArrayList<QueryResult> results = new ArrayList<>();
+            QueryResult result = new QueryResult(QueryResultType.ERROR, message);
+            results = new ArrayList<>();
             results.add(result);
-            return results;
         }
+        // 语句执行中被选为死锁的牺牲者或等锁超时，回滚整个事务
+        RuntimeException abortCause = LockManager.getInstance().takeAbortCause(session);
+        if (abortCause != null) {
+            rollback(session);
+            results = new ArrayList<>();
+            results.add(new QueryResult(QueryResultType.ABORT, abortCause.getMessage()));
+        }
+        return results;
+    }
+
+    /**
+     * 回滚事务：撤销修改，释放锁，并在日志中记下 rollback，恢复时不再重做该事务的语句
+     */
+    public void rollback(long session) {
+        if (!manager.getSession(session).inTransaction()) {
+            return;
+        }
+        manager.undo(session);
+        if (session != 114514) {
+            manager.writeLog(Global.LOG_ROLLBACK, session);
+        }
+        endTransaction(session);
+    }
+
+    // 先为事务写的版本打上提交时间戳，再释放锁，等锁的写者才能看到这些版本
+    // 锁按表对象记在会话中，事务中途 use 了别的数据库或删了表也能释放
+    private void endTransaction(long session) {
+        VersionManager.getInstance().commit(session);
+        manager.endLoggedTransaction(session);
+        for (Table currentTable : manager.getSession(session).endTransaction()) {
+            currentTable.releaseSLock(session);
+            currentTable.releaseXLock(session);
+        }
+        LockManager.getInstance().endTransaction(session);
     }
 
 }
@@ -97,6 +97,26 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitShow_meta_stmt(SQLParser.Show_meta_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#create_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterCreate_index_stmt(SQLParser.Create_index_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#create_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitCreate_index_stmt(SQLParser.Create_index_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#drop_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#drop_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#grant_stmt}.
 	 * @param ctx the parse tree
@@ -427,6 +447,16 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitView_name(SQLParser.View_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#index_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterIndex_name(SQLParser.Index_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#index_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitIndex_name(SQLParser.Index_nameContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#password}.
 	 * @param ctx the parse tree
@@ -15,67 +15,69 @@ public class SQLParser extends Parser {
 
 	protected static final DFA[] _decisionToDFA;
 	protected static final PredictionContextCache _sharedContextCache =
-			new PredictionContextCache();
+		new PredictionContextCache();
 	public static final int
-			T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, EQ=6, NE=7, LT=8, GT=9, LE=10,
-			GE=11, ADD=12, SUB=13, MUL=14, DIV=15, AND=16, OR=17, T_INT=18, T_LONG=19,
-			T_FLOAT=20, T_DOUBLE=21, T_STRING=22, K_ADD=23, K_ALL=24, K_AS=25, K_BY=26,
-			K_COLUMN=27, K_CREATE=28, K_DATABASE=29, K_DATABASES=30, K_DELETE=31,
-			K_DISTINCT=32, K_DROP=33, K_EXISTS=34, K_FROM=35, K_GRANT=36, K_IF=37,
-			K_IDENTIFIED=38, K_INSERT=39, K_INTO=40, K_JOIN=41, K_KEY=42, K_NOT=43,
-			K_NULL=44, K_ON=45, K_PRIMARY=46, K_QUIT=47, K_REVOKE=48, K_SELECT=49,
-			K_SET=50, K_SHOW=51, K_TABLE=52, K_TO=53, K_UPDATE=54, K_USE=55, K_USER=56,
-			K_VALUES=57, K_VIEW=58, K_WHERE=59, IDENTIFIER=60, NUMERIC_LITERAL=61,
-			EXPONENT=62, STRING_LITERAL=63, SINGLE_LINE_COMMENT=64, MULTILINE_COMMENT=65,
-			SPACES=66;
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, EQ=6, NE=7, LT=8, GT=9, LE=10, 
+		GE=11, ADD=12, SUB=13, MUL=14, DIV=15, AND=16, OR=17, T_INT=18, T_LONG=19, 
+		T_FLOAT=20, T_DOUBLE=21, T_STRING=22, K_ADD=23, K_ALL=24, K_AS=25, K_BY=26, 
+		K_COLUMN=27, K_CREATE=28, K_DATABASE=29, K_DATABASES=30, K_DELETE=31, 
+		K_DISTINCT=32, K_DROP=33, K_EXISTS=34, K_FROM=35, K_GRANT=36, K_IF=37, 
+		K_IDENTIFIED=38, K_INDEX=39, K_INSERT=40, K_INTO=41, K_JOIN=42, K_KEY=43, 
+		K_LIMIT=44, K_NOT=45, K_NULL=46, K_ON=47, K_PRIMARY=48, K_QUIT=49, K_REVOKE=50, 
+		K_SELECT=51, K_SET=52, K_SHOW=53, K_TABLE=54, K_TO=55, K_UPDATE=56, K_USE=57, 
+		K_USER=58, K_VALUES=59, K_VIEW=60, K_WHERE=61, IDENTIFIER=62, NUMERIC_LITERAL=63, 
+		EXPONENT=64, STRING_LITERAL=65, SINGLE_LINE_COMMENT=66, MULTILINE_COMMENT=67, 
+		SPACES=68;
 	public static final int
-			RULE_parse = 0, RULE_sql_stmt_list = 1, RULE_sql_stmt = 2, RULE_create_db_stmt = 3,
-			RULE_drop_db_stmt = 4, RULE_create_user_stmt = 5, RULE_drop_user_stmt = 6,
-			RULE_create_table_stmt = 7, RULE_show_meta_stmt = 8, RULE_grant_stmt = 9,
-			RULE_revoke_stmt = 10, RULE_use_db_stmt = 11, RULE_delete_stmt = 12, RULE_drop_table_stmt = 13,
-			RULE_show_db_stmt = 14, RULE_quit_stmt = 15, RULE_show_table_stmt = 16,
-			RULE_insert_stmt = 17, RULE_value_entry = 18, RULE_select_stmt = 19, RULE_create_view_stmt = 20,
-			RULE_drop_view_stmt = 21, RULE_update_stmt = 22, RULE_column_def = 23,
-			RULE_type_name = 24, RULE_column_constraint = 25, RULE_multiple_condition = 26,
-			RULE_condition = 27, RULE_comparer = 28, RULE_comparator = 29, RULE_expression = 30,
-			RULE_table_constraint = 31, RULE_result_column = 32, RULE_table_query = 33,
-			RULE_auth_level = 34, RULE_literal_value = 35, RULE_column_full_name = 36,
-			RULE_database_name = 37, RULE_table_name = 38, RULE_user_name = 39, RULE_column_name = 40,
-			RULE_view_name = 41, RULE_password = 42;
+		RULE_parse = 0, RULE_sql_stmt_list = 1, RULE_sql_stmt = 2, RULE_create_db_stmt = 3, 
+		RULE_drop_db_stmt = 4, RULE_create_user_stmt = 5, RULE_drop_user_stmt = 6, 
+		RULE_create_table_stmt = 7, RULE_show_meta_stmt = 8, RULE_create_index_stmt = 9, 
+		RULE_drop_index_stmt = 10, RULE_grant_stmt = 11, RULE_revoke_stmt = 12, 
+		RULE_use_db_stmt = 13, RULE_delete_stmt = 14, RULE_drop_table_stmt = 15, 
+		RULE_show_db_stmt = 16, RULE_quit_stmt = 17, RULE_show_table_stmt = 18, 
+		RULE_insert_stmt = 19, RULE_value_entry = 20, RULE_select_stmt = 21, RULE_create_view_stmt = 22, 
+		RULE_drop_view_stmt = 23, RULE_update_stmt = 24, RULE_column_def = 25, 
+		RULE_type_name = 26, RULE_column_constraint = 27, RULE_multiple_condition = 28, 
+		RULE_condition = 29, RULE_comparer = 30, RULE_comparator = 31, RULE_expression = 32, 
+		RULE_table_constraint = 33, RULE_result_column = 34, RULE_table_query = 35, 
+		RULE_auth_level = 36, RULE_literal_value = 37, RULE_column_full_name = 38, 
+		RULE_database_name = 39, RULE_table_name = 40, RULE_user_name = 41, RULE_column_name = 42, 
+		RULE_view_name = 43, RULE_index_name = 44, RULE_password = 45;
 	private static String[] makeRuleNames() {
 		return new String[] {
-				"parse", "sql_stmt_list", "sql_stmt", "create_db_stmt", "drop_db_stmt",
-				"create_user_stmt", "drop_user_stmt", "create_table_stmt", "show_meta_stmt",
-				"grant_stmt", "revoke_stmt", "use_db_stmt", "delete_stmt", "drop_table_stmt",
-				"show_db_stmt", "quit_stmt", "show_table_stmt", "insert_stmt", "value_entry",
-				"select_stmt", "create_view_stmt", "drop_view_stmt", "update_stmt", "column_def",
-				"type_name", "column_constraint", "multiple_condition", "condition",
-				"comparer", "comparator", "expression", "table_constraint", "result_column",
-				"table_query", "auth_level", "literal_value", "column_full_name", "database_name",
-				"table_name", "user_name", "column_name", "view_name", "password"
+			"parse", "sql_stmt_list", "sql_stmt", "create_db_stmt", "drop_db_stmt", 
+			"create_user_stmt", "drop_user_stmt", "create_table_stmt", "show_meta_stmt", 
+			"create_index_stmt", "drop_index_stmt", "grant_stmt", "revoke_stmt", 
+			"use_db_stmt", "delete_stmt", "drop_table_stmt", "show_db_stmt", "quit_stmt", 
+			"show_table_stmt", "insert_stmt", "value_entry", "select_stmt", "create_view_stmt", 
+			"drop_view_stmt", "update_stmt", "column_def", "type_name", "column_constraint", 
+			"multiple_condition", "condition", "comparer", "comparator", "expression", 
+			"table_constraint", "result_column", "table_query", "auth_level", "literal_value", 
+			"column_full_name", "database_name", "table_name", "user_name", "column_name", 
+			"view_name", "index_name", "password"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
 
 	private static String[] makeLiteralNames() {
 		return new String[] {
-				null, "';'", "'('", "','", "')'", "'.'", "'='", "'<>'", "'<'", "'>'",
-				"'<='", "'>='", "'+'", "'-'", "'*'", "'/'", "'and'", "'or'"
+			null, "';'", "'('", "','", "')'", "'.'", "'='", "'<>'", "'<'", "'>'", 
+			"'<='", "'>='", "'+'", "'-'", "'*'", "'/'", "'and'", "'or'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
-				null, null, null, null, null, null, "EQ", "NE", "LT", "GT", "LE", "GE",
-				"ADD", "SUB", "MUL", "DIV", "AND", "OR", "T_INT", "T_LONG", "T_FLOAT",
-				"T_DOUBLE", "T_STRING", "K_ADD", "K_ALL", "K_AS", "K_BY", "K_COLUMN",
-				"K_CREATE", "K_DATABASE", "K_DATABASES", "K_DELETE", "K_DISTINCT", "K_DROP",
-				"K_EXISTS", "K_FROM", "K_GRANT", "K_IF", "K_IDENTIFIED", "K_INSERT",
-				"K_INTO", "K_JOIN", "K_KEY", "K_NOT", "K_NULL", "K_ON", "K_PRIMARY",
-				"K_QUIT", "K_REVOKE", "K_SELECT", "K_SET", "K_SHOW", "K_TABLE", "K_TO",
-				"K_UPDATE", "K_USE", "K_USER", "K_VALUES", "K_VIEW", "K_WHERE", "IDENTIFIER",
-				"NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", "SINGLE_LINE_COMMENT",
-				"MULTILINE_COMMENT", "SPACES"
+			null, null, null, null, null, null, "EQ", "NE", "LT", "GT", "LE", "GE", 
+			"ADD", "SUB", "MUL", "DIV", "AND", "OR", "T_INT", "T_LONG", "T_FLOAT", 
+			"T_DOUBLE", "T_STRING", "K_ADD", "K_ALL", "K_AS", "K_BY", "K_COLUMN", 
+			"K_CREATE", "K_DATABASE", "K_DATABASES", "K_DELETE", "K_DISTINCT", "K_DROP", 
+			"K_EXISTS", "K_FROM", "K_GRANT", "K_IF", "K_IDENTIFIED", "K_INDEX", "K_INSERT", 
+			"K_INTO", "K_JOIN", "K_KEY", "K_LIMIT", "K_NOT", "K_NULL", "K_ON", "K_PRIMARY", 
+			"K_QUIT", "K_REVOKE", "K_SELECT", "K_SET", "K_SHOW", "K_TABLE", "K_TO", 
+			"K_UPDATE", "K_USE", "K_USER", "K_VALUES", "K_VIEW", "K_WHERE", "IDENTIFIER", 
+			"NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", "SINGLE_LINE_COMMENT", 
+			"MULTILINE_COMMENT", "SPACES"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -158,8 +160,8 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(86);
-				sql_stmt_list();
+			setState(92);
+			sql_stmt_list();
 			}
 		}
 		catch (RecognitionException re) {
@@ -207,66 +209,66 @@ public class SQLParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(91);
+			setState(97);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__0) {
+				{
+				{
+				setState(94);
+				match(T__0);
+				}
+				}
+				setState(99);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__0) {
+			}
+			setState(100);
+			sql_stmt();
+			setState(109);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
 					{
+					setState(102); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					do {
+						{
 						{
-							setState(88);
-							match(T__0);
+						setState(101);
+						match(T__0);
+						}
 						}
+						setState(104); 
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					} while ( _la==T__0 );
+					setState(106);
+					sql_stmt();
 					}
-					setState(93);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
+					} 
 				}
-				setState(94);
-				sql_stmt();
-				setState(103);
+				setState(111);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-							{
-								setState(96);
-								_errHandler.sync(this);
-								_la = _input.LA(1);
-								do {
-									{
-										{
-											setState(95);
-											match(T__0);
-										}
-									}
-									setState(98);
-									_errHandler.sync(this);
-									_la = _input.LA(1);
-								} while ( _la==T__0 );
-								setState(100);
-								sql_stmt();
-							}
-						}
-					}
-					setState(105);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
+			}
+			setState(115);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__0) {
+				{
+				{
+				setState(112);
+				match(T__0);
+				}
 				}
-				setState(109);
+				setState(117);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__0) {
-					{
-						{
-							setState(106);
-							match(T__0);
-						}
-					}
-					setState(111);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				}
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -338,6 +340,12 @@ public class SQLParser extends Parser {
 		public Update_stmtContext update_stmt() {
 			return getRuleContext(Update_stmtContext.class,0);
 		}
+		public Create_index_stmtContext create_index_stmt() {
+			return getRuleContext(Create_index_stmtContext.class,0);
+		}
+		public Drop_index_stmtContext drop_index_stmt() {
+			return getRuleContext(Drop_index_stmtContext.class,0);
+		}
 		public Sql_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -361,140 +369,154 @@ public class SQLParser extends Parser {
 		Sql_stmtContext _localctx = new Sql_stmtContext(_ctx, getState());
 		enterRule(_localctx, 4, RULE_sql_stmt);
 		try {
-			setState(131);
+			setState(139);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
-				case 1:
-					enterOuterAlt(_localctx, 1);
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(118);
+				create_table_stmt();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(119);
+				create_db_stmt();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
 				{
-					setState(112);
-					create_table_stmt();
+				setState(120);
+				create_user_stmt();
 				}
 				break;
-				case 2:
-					enterOuterAlt(_localctx, 2);
+			case 4:
+				enterOuterAlt(_localctx, 4);
 				{
-					setState(113);
-					create_db_stmt();
+				setState(121);
+				drop_db_stmt();
 				}
 				break;
-				case 3:
-					enterOuterAlt(_localctx, 3);
+			case 5:
+				enterOuterAlt(_localctx, 5);
 				{
-					setState(114);
-					create_user_stmt();
+				setState(122);
+				drop_user_stmt();
 				}
 				break;
-				case 4:
-					enterOuterAlt(_localctx, 4);
+			case 6:
+				enterOuterAlt(_localctx, 6);
 				{
-					setState(115);
-					drop_db_stmt();
+				setState(123);
+				delete_stmt();
 				}
 				break;
-				case 5:
-					enterOuterAlt(_localctx, 5);
+			case 7:
+				enterOuterAlt(_localctx, 7);
 				{
-					setState(116);
-					drop_user_stmt();
+				setState(124);
+				drop_table_stmt();
 				}
 				break;
-				case 6:
-					enterOuterAlt(_localctx, 6);
+			case 8:
+				enterOuterAlt(_localctx, 8);
 				{
-					setState(117);
-					delete_stmt();
+				setState(125);
+				insert_stmt();
 				}
 				break;
-				case 7:
-					enterOuterAlt(_localctx, 7);
+			case 9:
+				enterOuterAlt(_localctx, 9);
 				{
-					setState(118);
-					drop_table_stmt();
+				setState(126);
+				select_stmt();
 				}
 				break;
-				case 8:
-					enterOuterAlt(_localctx, 8);
+			case 10:
+				enterOuterAlt(_localctx, 10);
 				{
-					setState(119);
-					insert_stmt();
+				setState(127);
+				create_view_stmt();
 				}
 				break;
-				case 9:
-					enterOuterAlt(_localctx, 9);
+			case 11:
+				enterOuterAlt(_localctx, 11);
 				{
-					setState(120);
-					select_stmt();
+				setState(128);
+				drop_view_stmt();
 				}
 				break;
-				case 10:
-					enterOuterAlt(_localctx, 10);
+			case 12:
+				enterOuterAlt(_localctx, 12);
 				{
-					setState(121);
-					create_view_stmt();
+				setState(129);
+				grant_stmt();
 				}
 				break;
-				case 11:
-					enterOuterAlt(_localctx, 11);
+			case 13:
+				enterOuterAlt(_localctx, 13);
 				{
-					setState(122);
-					drop_view_stmt();
+				setState(130);
+				revoke_stmt();
 				}
 				break;
-				case 12:
-					enterOuterAlt(_localctx, 12);
+			case 14:
+				enterOuterAlt(_localctx, 14);
 				{
-					setState(123);
-					grant_stmt();
+				setState(131);
+				use_db_stmt();
 				}
 				break;
-				case 13:
-					enterOuterAlt(_localctx, 13);
+			case 15:
+				enterOuterAlt(_localctx, 15);
 				{
-					setState(124);
-					revoke_stmt();
+				setState(132);
+				show_db_stmt();
 				}
 				break;
-				case 14:
-					enterOuterAlt(_localctx, 14);
+			case 16:
+				enterOuterAlt(_localctx, 16);
 				{
-					setState(125);
-					use_db_stmt();
+				setState(133);
+				show_table_stmt();
 				}
 				break;
-				case 15:
-					enterOuterAlt(_localctx, 15);
+			case 17:
+				enterOuterAlt(_localctx, 17);
 				{
-					setState(126);
-					show_db_stmt();
+				setState(134);
+				show_meta_stmt();
 				}
 				break;
-				case 16:
-					enterOuterAlt(_localctx, 16);
+			case 18:
+				enterOuterAlt(_localctx, 18);
 				{
-					setState(127);
-					show_table_stmt();
+				setState(135);
+				quit_stmt();
 				}
 				break;
-				case 17:
-					enterOuterAlt(_localctx, 17);
+			case 19:
+				enterOuterAlt(_localctx, 19);
 				{
-					setState(128);
-					show_meta_stmt();
+				setState(136);
+				update_stmt();
 				}
 				break;
-				case 18:
-					enterOuterAlt(_localctx, 18);
+			case 20:
+				enterOuterAlt(_localctx, 20);
 				{
-					setState(129);
-					quit_stmt();
+				setState(137);
+				create_index_stmt();
 				}
 				break;
-				case 19:
-					enterOuterAlt(_localctx, 19);
+			case 21:
+				enterOuterAlt(_localctx, 21);
 				{
-					setState(130);
-					update_stmt();
+				setState(138);
+				drop_index_stmt();
 				}
 				break;
 			}
@@ -541,12 +563,12 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(133);
-				match(K_CREATE);
-				setState(134);
-				match(K_DATABASE);
-				setState(135);
-				database_name();
+			setState(141);
+			match(K_CREATE);
+			setState(142);
+			match(K_DATABASE);
+			setState(143);
+			database_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -594,24 +616,24 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(137);
-				match(K_DROP);
-				setState(138);
-				match(K_DATABASE);
-				setState(141);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==K_IF) {
-					{
-						setState(139);
-						match(K_IF);
-						setState(140);
-						match(K_EXISTS);
-					}
+			setState(145);
+			match(K_DROP);
+			setState(146);
+			match(K_DATABASE);
+			setState(149);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_IF) {
+				{
+				setState(147);
+				match(K_IF);
+				setState(148);
+				match(K_EXISTS);
 				}
+			}
 
-				setState(143);
-				database_name();
+			setState(151);
+			database_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -661,18 +683,18 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(145);
-				match(K_CREATE);
-				setState(146);
-				match(K_USER);
-				setState(147);
-				user_name();
-				setState(148);
-				match(K_IDENTIFIED);
-				setState(149);
-				match(K_BY);
-				setState(150);
-				password();
+			setState(153);
+			match(K_CREATE);
+			setState(154);
+			match(K_USER);
+			setState(155);
+			user_name();
+			setState(156);
+			match(K_IDENTIFIED);
+			setState(157);
+			match(K_BY);
+			setState(158);
+			password();
 			}
 		}
 		catch (RecognitionException re) {
@@ -720,24 +742,24 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(152);
-				match(K_DROP);
-				setState(153);
-				match(K_USER);
-				setState(156);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==K_IF) {
-					{
-						setState(154);
-						match(K_IF);
-						setState(155);
-						match(K_EXISTS);
-					}
+			setState(160);
+			match(K_DROP);
+			setState(161);
+			match(K_USER);
+			setState(164);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_IF) {
+				{
+				setState(162);
+				match(K_IF);
+				setState(163);
+				match(K_EXISTS);
 				}
+			}
 
-				setState(158);
-				user_name();
+			setState(166);
+			user_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -785,8 +807,6 @@ public class SQLParser extends Parser {
 		}
 	}
 
-
-
 	public final Create_table_stmtContext create_table_stmt() throws RecognitionException {
 		Create_table_stmtContext _localctx = new Create_table_stmtContext(_ctx, getState());
 		enterRule(_localctx, 14, RULE_create_table_stmt);
@@ -795,48 +815,48 @@ public class SQLParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(160);
-				match(K_CREATE);
-				setState(161);
-				match(K_TABLE);
-				setState(162);
-				table_name();
-				setState(163);
-				match(T__1);
-				setState(164);
-				column_def();
-				setState(169);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-							{
-								setState(165);
-								match(T__2);
-								setState(166);
-								column_def();
-							}
-						}
+			setState(168);
+			match(K_CREATE);
+			setState(169);
+			match(K_TABLE);
+			setState(170);
+			table_name();
+			setState(171);
+			match(T__1);
+			setState(172);
+			column_def();
+			setState(177);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(173);
+					match(T__2);
+					setState(174);
+					column_def();
 					}
-					setState(171);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+					} 
 				}
-				setState(174);
+				setState(179);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==T__2) {
-					{
-						setState(172);
-						match(T__2);
-						setState(173);
-						table_constraint();
-					}
+				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+			}
+			setState(182);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__2) {
+				{
+				setState(180);
+				match(T__2);
+				setState(181);
+				table_constraint();
 				}
+			}
 
-				setState(176);
-				match(T__3);
+			setState(184);
+			match(T__3);
 			}
 		}
 		catch (RecognitionException re) {
@@ -881,12 +901,152 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(178);
-				match(K_SHOW);
-				setState(179);
-				match(K_TABLE);
-				setState(180);
-				table_name();
+			setState(186);
+			match(K_SHOW);
+			setState(187);
+			match(K_TABLE);
+			setState(188);
+			table_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Create_index_stmtContext extends ParserRuleContext {
+		public TerminalNode K_CREATE() { return getToken(SQLParser.K_CREATE, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLParser.K_INDEX, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public Column_nameContext column_name() {
+			return getRuleContext(Column_nameContext.class,0);
+		}
+		public Create_index_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_create_index_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterCreate_index_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitCreate_index_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitCreate_index_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Create_index_stmtContext create_index_stmt() throws RecognitionException {
+		Create_index_stmtContext _localctx = new Create_index_stmtContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_create_index_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(190);
+			match(K_CREATE);
+			setState(191);
+			match(K_INDEX);
+			setState(192);
+			index_name();
+			setState(193);
+			match(K_ON);
+			setState(194);
+			table_name();
+			setState(195);
+			match(T__1);
+			setState(196);
+			column_name();
+			setState(197);
+			match(T__3);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Drop_index_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DROP() { return getToken(SQLParser.K_DROP, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLParser.K_INDEX, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLParser.K_IF, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLParser.K_EXISTS, 0); }
+		public Drop_index_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_drop_index_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterDrop_index_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitDrop_index_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitDrop_index_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Drop_index_stmtContext drop_index_stmt() throws RecognitionException {
+		Drop_index_stmtContext _localctx = new Drop_index_stmtContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_drop_index_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(199);
+			match(K_DROP);
+			setState(200);
+			match(K_INDEX);
+			setState(203);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_IF) {
+				{
+				setState(201);
+				match(K_IF);
+				setState(202);
+				match(K_EXISTS);
+				}
+			}
+
+			setState(205);
+			index_name();
+			setState(206);
+			match(K_ON);
+			setState(207);
+			table_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -937,39 +1097,39 @@ public class SQLParser extends Parser {
 
 	public final Grant_stmtContext grant_stmt() throws RecognitionException {
 		Grant_stmtContext _localctx = new Grant_stmtContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_grant_stmt);
+		enterRule(_localctx, 22, RULE_grant_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(182);
-				match(K_GRANT);
-				setState(183);
+			setState(209);
+			match(K_GRANT);
+			setState(210);
+			auth_level();
+			setState(215);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(211);
+				match(T__2);
+				setState(212);
 				auth_level();
-				setState(188);
+				}
+				}
+				setState(217);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__2) {
-					{
-						{
-							setState(184);
-							match(T__2);
-							setState(185);
-							auth_level();
-						}
-					}
-					setState(190);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				}
-				setState(191);
-				match(K_ON);
-				setState(192);
-				table_name();
-				setState(193);
-				match(K_TO);
-				setState(194);
-				user_name();
+			}
+			setState(218);
+			match(K_ON);
+			setState(219);
+			table_name();
+			setState(220);
+			match(K_TO);
+			setState(221);
+			user_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1020,39 +1180,39 @@ public class SQLParser extends Parser {
 
 	public final Revoke_stmtContext revoke_stmt() throws RecognitionException {
 		Revoke_stmtContext _localctx = new Revoke_stmtContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_revoke_stmt);
+		enterRule(_localctx, 24, RULE_revoke_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(196);
-				match(K_REVOKE);
-				setState(197);
+			setState(223);
+			match(K_REVOKE);
+			setState(224);
+			auth_level();
+			setState(229);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(225);
+				match(T__2);
+				setState(226);
 				auth_level();
-				setState(202);
+				}
+				}
+				setState(231);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__2) {
-					{
-						{
-							setState(198);
-							match(T__2);
-							setState(199);
-							auth_level();
-						}
-					}
-					setState(204);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				}
-				setState(205);
-				match(K_ON);
-				setState(206);
-				table_name();
-				setState(207);
-				match(K_FROM);
-				setState(208);
-				user_name();
+			}
+			setState(232);
+			match(K_ON);
+			setState(233);
+			table_name();
+			setState(234);
+			match(K_FROM);
+			setState(235);
+			user_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1092,14 +1252,14 @@ public class SQLParser extends Parser {
 
 	public final Use_db_stmtContext use_db_stmt() throws RecognitionException {
 		Use_db_stmtContext _localctx = new Use_db_stmtContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_use_db_stmt);
+		enterRule(_localctx, 26, RULE_use_db_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(210);
-				match(K_USE);
-				setState(211);
-				database_name();
+			setState(237);
+			match(K_USE);
+			setState(238);
+			database_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1144,28 +1304,28 @@ public class SQLParser extends Parser {
 
 	public final Delete_stmtContext delete_stmt() throws RecognitionException {
 		Delete_stmtContext _localctx = new Delete_stmtContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_delete_stmt);
+		enterRule(_localctx, 28, RULE_delete_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(213);
-				match(K_DELETE);
-				setState(214);
-				match(K_FROM);
-				setState(215);
-				table_name();
-				setState(218);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==K_WHERE) {
-					{
-						setState(216);
-						match(K_WHERE);
-						setState(217);
-						multiple_condition(0);
-					}
+			setState(240);
+			match(K_DELETE);
+			setState(241);
+			match(K_FROM);
+			setState(242);
+			table_name();
+			setState(245);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(243);
+				match(K_WHERE);
+				setState(244);
+				multiple_condition(0);
 				}
+			}
 
 			}
 		}
@@ -1209,29 +1369,29 @@ public class SQLParser extends Parser {
 
 	public final Drop_table_stmtContext drop_table_stmt() throws RecognitionException {
 		Drop_table_stmtContext _localctx = new Drop_table_stmtContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_drop_table_stmt);
+		enterRule(_localctx, 30, RULE_drop_table_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(220);
-				match(K_DROP);
-				setState(221);
-				match(K_TABLE);
-				setState(224);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==K_IF) {
-					{
-						setState(222);
-						match(K_IF);
-						setState(223);
-						match(K_EXISTS);
-					}
+			setState(247);
+			match(K_DROP);
+			setState(248);
+			match(K_TABLE);
+			setState(251);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_IF) {
+				{
+				setState(249);
+				match(K_IF);
+				setState(250);
+				match(K_EXISTS);
 				}
+			}
 
-				setState(226);
-				table_name();
+			setState(253);
+			table_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1269,14 +1429,14 @@ public class SQLParser extends Parser {
 
 	public final Show_db_stmtContext show_db_stmt() throws RecognitionException {
 		Show_db_stmtContext _localctx = new Show_db_stmtContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_show_db_stmt);
+		enterRule(_localctx, 32, RULE_show_db_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(228);
-				match(K_SHOW);
-				setState(229);
-				match(K_DATABASES);
+			setState(255);
+			match(K_SHOW);
+			setState(256);
+			match(K_DATABASES);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1313,12 +1473,12 @@ public class SQLParser extends Parser {
 
 	public final Quit_stmtContext quit_stmt() throws RecognitionException {
 		Quit_stmtContext _localctx = new Quit_stmtContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_quit_stmt);
+		enterRule(_localctx, 34, RULE_quit_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(231);
-				match(K_QUIT);
+			setState(258);
+			match(K_QUIT);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1359,16 +1519,16 @@ public class SQLParser extends Parser {
 
 	public final Show_table_stmtContext show_table_stmt() throws RecognitionException {
 		Show_table_stmtContext _localctx = new Show_table_stmtContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_show_table_stmt);
+		enterRule(_localctx, 36, RULE_show_table_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(233);
-				match(K_SHOW);
-				setState(234);
-				match(K_DATABASE);
-				setState(235);
-				database_name();
+			setState(260);
+			match(K_SHOW);
+			setState(261);
+			match(K_DATABASE);
+			setState(262);
+			database_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1422,67 +1582,67 @@ public class SQLParser extends Parser {
 
 	public final Insert_stmtContext insert_stmt() throws RecognitionException {
 		Insert_stmtContext _localctx = new Insert_stmtContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_insert_stmt);
+		enterRule(_localctx, 38, RULE_insert_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(237);
-				match(K_INSERT);
-				setState(238);
-				match(K_INTO);
-				setState(239);
-				table_name();
-				setState(251);
+			setState(264);
+			match(K_INSERT);
+			setState(265);
+			match(K_INTO);
+			setState(266);
+			table_name();
+			setState(278);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__1) {
+				{
+				setState(267);
+				match(T__1);
+				setState(268);
+				column_name();
+				setState(273);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__1) {
+				while (_la==T__2) {
 					{
-						setState(240);
-						match(T__1);
-						setState(241);
-						column_name();
-						setState(246);
-						_errHandler.sync(this);
-						_la = _input.LA(1);
-						while (_la==T__2) {
-							{
-								{
-									setState(242);
-									match(T__2);
-									setState(243);
-									column_name();
-								}
-							}
-							setState(248);
-							_errHandler.sync(this);
-							_la = _input.LA(1);
-						}
-						setState(249);
-						match(T__3);
+					{
+					setState(269);
+					match(T__2);
+					setState(270);
+					column_name();
+					}
 					}
+					setState(275);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(276);
+				match(T__3);
 				}
+			}
 
-				setState(253);
-				match(K_VALUES);
-				setState(254);
+			setState(280);
+			match(K_VALUES);
+			setState(281);
+			value_entry();
+			setState(286);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(282);
+				match(T__2);
+				setState(283);
 				value_entry();
-				setState(259);
+				}
+				}
+				setState(288);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__2) {
-					{
-						{
-							setState(255);
-							match(T__2);
-							setState(256);
-							value_entry();
-						}
-					}
-					setState(261);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				}
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -1524,33 +1684,33 @@ public class SQLParser extends Parser {
 
 	public final Value_entryContext value_entry() throws RecognitionException {
 		Value_entryContext _localctx = new Value_entryContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_value_entry);
+		enterRule(_localctx, 40, RULE_value_entry);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(262);
-				match(T__1);
-				setState(263);
+			setState(289);
+			match(T__1);
+			setState(290);
+			literal_value();
+			setState(295);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(291);
+				match(T__2);
+				setState(292);
 				literal_value();
-				setState(268);
+				}
+				}
+				setState(297);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__2) {
-					{
-						{
-							setState(264);
-							match(T__2);
-							setState(265);
-							literal_value();
-						}
-					}
-					setState(270);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				}
-				setState(271);
-				match(T__3);
+			}
+			setState(298);
+			match(T__3);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1583,6 +1743,8 @@ public class SQLParser extends Parser {
 		public Multiple_conditionContext multiple_condition() {
 			return getRuleContext(Multiple_conditionContext.class,0);
 		}
+		public TerminalNode K_LIMIT() { return getToken(SQLParser.K_LIMIT, 0); }
+		public TerminalNode NUMERIC_LITERAL() { return getToken(SQLParser.NUMERIC_LITERAL, 0); }
 		public TerminalNode K_DISTINCT() { return getToken(SQLParser.K_DISTINCT, 0); }
 		public TerminalNode K_ALL() { return getToken(SQLParser.K_ALL, 0); }
 		public Select_stmtContext(ParserRuleContext parent, int invokingState) {
@@ -1606,80 +1768,92 @@ public class SQLParser extends Parser {
 
 	public final Select_stmtContext select_stmt() throws RecognitionException {
 		Select_stmtContext _localctx = new Select_stmtContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_select_stmt);
+		enterRule(_localctx, 42, RULE_select_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(273);
-				match(K_SELECT);
-				setState(275);
-				_errHandler.sync(this);
+			setState(300);
+			match(K_SELECT);
+			setState(302);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ALL || _la==K_DISTINCT) {
+				{
+				setState(301);
 				_la = _input.LA(1);
-				if (_la==K_ALL || _la==K_DISTINCT) {
-					{
-						setState(274);
-						_la = _input.LA(1);
-						if ( !(_la==K_ALL || _la==K_DISTINCT) ) {
-							_errHandler.recoverInline(this);
-						}
-						else {
-							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-							_errHandler.reportMatch(this);
-							consume();
-						}
-					}
+				if ( !(_la==K_ALL || _la==K_DISTINCT) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
 				}
+			}
 
-				setState(277);
+			setState(304);
+			result_column();
+			setState(309);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(305);
+				match(T__2);
+				setState(306);
 				result_column();
-				setState(282);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				while (_la==T__2) {
-					{
-						{
-							setState(278);
-							match(T__2);
-							setState(279);
-							result_column();
-						}
-					}
-					setState(284);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
 				}
-				setState(285);
-				match(K_FROM);
-				setState(286);
-				table_query();
-				setState(291);
+				}
+				setState(311);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__2) {
-					{
-						{
-							setState(287);
-							match(T__2);
-							setState(288);
-							table_query();
-						}
-					}
-					setState(293);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
+			}
+			setState(312);
+			match(K_FROM);
+			setState(313);
+			table_query();
+			setState(318);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(314);
+				match(T__2);
+				setState(315);
+				table_query();
 				}
-				setState(296);
+				}
+				setState(320);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==K_WHERE) {
-					{
-						setState(294);
-						match(K_WHERE);
-						setState(295);
-						multiple_condition(0);
-					}
+			}
+			setState(323);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(321);
+				match(K_WHERE);
+				setState(322);
+				multiple_condition(0);
+				}
+			}
+
+			setState(327);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_LIMIT) {
+				{
+				setState(325);
+				match(K_LIMIT);
+				setState(326);
+				match(NUMERIC_LITERAL);
 				}
+			}
 
 			}
 		}
@@ -1725,20 +1899,20 @@ public class SQLParser extends Parser {
 
 	public final Create_view_stmtContext create_view_stmt() throws RecognitionException {
 		Create_view_stmtContext _localctx = new Create_view_stmtContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_create_view_stmt);
+		enterRule(_localctx, 44, RULE_create_view_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(298);
-				match(K_CREATE);
-				setState(299);
-				match(K_VIEW);
-				setState(300);
-				view_name();
-				setState(301);
-				match(K_AS);
-				setState(302);
-				select_stmt();
+			setState(329);
+			match(K_CREATE);
+			setState(330);
+			match(K_VIEW);
+			setState(331);
+			view_name();
+			setState(332);
+			match(K_AS);
+			setState(333);
+			select_stmt();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1781,29 +1955,29 @@ public class SQLParser extends Parser {
 
 	public final Drop_view_stmtContext drop_view_stmt() throws RecognitionException {
 		Drop_view_stmtContext _localctx = new Drop_view_stmtContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_drop_view_stmt);
+		enterRule(_localctx, 46, RULE_drop_view_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(304);
-				match(K_DROP);
-				setState(305);
-				match(K_VIEW);
-				setState(308);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==K_IF) {
-					{
-						setState(306);
-						match(K_IF);
-						setState(307);
-						match(K_EXISTS);
-					}
+			setState(335);
+			match(K_DROP);
+			setState(336);
+			match(K_VIEW);
+			setState(339);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_IF) {
+				{
+				setState(337);
+				match(K_IF);
+				setState(338);
+				match(K_EXISTS);
 				}
+			}
 
-				setState(310);
-				view_name();
+			setState(341);
+			view_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1855,34 +2029,34 @@ public class SQLParser extends Parser {
 
 	public final Update_stmtContext update_stmt() throws RecognitionException {
 		Update_stmtContext _localctx = new Update_stmtContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_update_stmt);
+		enterRule(_localctx, 48, RULE_update_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(312);
-				match(K_UPDATE);
-				setState(313);
-				table_name();
-				setState(314);
-				match(K_SET);
-				setState(315);
-				column_name();
-				setState(316);
-				match(EQ);
-				setState(317);
-				expression(0);
-				setState(320);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==K_WHERE) {
-					{
-						setState(318);
-						match(K_WHERE);
-						setState(319);
-						multiple_condition(0);
-					}
+			setState(343);
+			match(K_UPDATE);
+			setState(344);
+			table_name();
+			setState(345);
+			match(K_SET);
+			setState(346);
+			column_name();
+			setState(347);
+			match(EQ);
+			setState(348);
+			expression(0);
+			setState(351);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(349);
+				match(K_WHERE);
+				setState(350);
+				multiple_condition(0);
 				}
+			}
 
 			}
 		}
@@ -1931,29 +2105,29 @@ public class SQLParser extends Parser {
 
 	public final Column_defContext column_def() throws RecognitionException {
 		Column_defContext _localctx = new Column_defContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_column_def);
+		enterRule(_localctx, 50, RULE_column_def);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(322);
-				column_name();
-				setState(323);
-				type_name();
-				setState(327);
+			setState(353);
+			column_name();
+			setState(354);
+			type_name();
+			setState(358);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==K_NOT || _la==K_PRIMARY) {
+				{
+				{
+				setState(355);
+				column_constraint();
+				}
+				}
+				setState(360);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==K_NOT || _la==K_PRIMARY) {
-					{
-						{
-							setState(324);
-							column_constraint();
-						}
-					}
-					setState(329);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				}
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -1995,54 +2169,54 @@ public class SQLParser extends Parser {
 
 	public final Type_nameContext type_name() throws RecognitionException {
 		Type_nameContext _localctx = new Type_nameContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_type_name);
+		enterRule(_localctx, 52, RULE_type_name);
 		try {
-			setState(338);
+			setState(369);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-				case T_INT:
-					enterOuterAlt(_localctx, 1);
+			case T_INT:
+				enterOuterAlt(_localctx, 1);
 				{
-					setState(330);
-					match(T_INT);
+				setState(361);
+				match(T_INT);
 				}
 				break;
-				case T_LONG:
-					enterOuterAlt(_localctx, 2);
+			case T_LONG:
+				enterOuterAlt(_localctx, 2);
 				{
-					setState(331);
-					match(T_LONG);
+				setState(362);
+				match(T_LONG);
 				}
 				break;
-				case T_FLOAT:
-					enterOuterAlt(_localctx, 3);
+			case T_FLOAT:
+				enterOuterAlt(_localctx, 3);
 				{
-					setState(332);
-					match(T_FLOAT);
+				setState(363);
+				match(T_FLOAT);
 				}
 				break;
-				case T_DOUBLE:
-					enterOuterAlt(_localctx, 4);
+			case T_DOUBLE:
+				enterOuterAlt(_localctx, 4);
 				{
-					setState(333);
-					match(T_DOUBLE);
+				setState(364);
+				match(T_DOUBLE);
 				}
 				break;
-				case T_STRING:
-					enterOuterAlt(_localctx, 5);
-				{
-					setState(334);
-					match(T_STRING);
-					setState(335);
-					match(T__1);
-					setState(336);
-					match(NUMERIC_LITERAL);
-					setState(337);
-					match(T__3);
+			case T_STRING:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(365);
+				match(T_STRING);
+				setState(366);
+				match(T__1);
+				setState(367);
+				match(NUMERIC_LITERAL);
+				setState(368);
+				match(T__3);
 				}
 				break;
-				default:
-					throw new NoViableAltException(this);
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2082,31 +2256,31 @@ public class SQLParser extends Parser {
 
 	public final Column_constraintContext column_constraint() throws RecognitionException {
 		Column_constraintContext _localctx = new Column_constraintContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_column_constraint);
+		enterRule(_localctx, 54, RULE_column_constraint);
 		try {
-			setState(344);
+			setState(375);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-				case K_PRIMARY:
-					enterOuterAlt(_localctx, 1);
+			case K_PRIMARY:
+				enterOuterAlt(_localctx, 1);
 				{
-					setState(340);
-					match(K_PRIMARY);
-					setState(341);
-					match(K_KEY);
+				setState(371);
+				match(K_PRIMARY);
+				setState(372);
+				match(K_KEY);
 				}
 				break;
-				case K_NOT:
-					enterOuterAlt(_localctx, 2);
+			case K_NOT:
+				enterOuterAlt(_localctx, 2);
 				{
-					setState(342);
-					match(K_NOT);
-					setState(343);
-					match(K_NULL);
+				setState(373);
+				match(K_NOT);
+				setState(374);
+				match(K_NULL);
 				}
 				break;
-				default:
-					throw new NoViableAltException(this);
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2160,59 +2334,59 @@ public class SQLParser extends Parser {
 		int _parentState = getState();
 		Multiple_conditionContext _localctx = new Multiple_conditionContext(_ctx, _parentState);
 		Multiple_conditionContext _prevctx = _localctx;
-		int _startState = 52;
-		enterRecursionRule(_localctx, 52, RULE_multiple_condition, _p);
+		int _startState = 56;
+		enterRecursionRule(_localctx, 56, RULE_multiple_condition, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-				{
-					setState(347);
-					condition();
-				}
-				_ctx.stop = _input.LT(-1);
-				setState(357);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						if ( _parseListeners!=null ) triggerExitRuleEvent();
-						_prevctx = _localctx;
+			{
+			setState(378);
+			condition();
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(388);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(386);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+					case 1:
+						{
+						_localctx = new Multiple_conditionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_multiple_condition);
+						setState(380);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(381);
+						match(AND);
+						setState(382);
+						multiple_condition(3);
+						}
+						break;
+					case 2:
 						{
-							setState(355);
-							_errHandler.sync(this);
-							switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
-								case 1:
-								{
-									_localctx = new Multiple_conditionContext(_parentctx, _parentState);
-									pushNewRecursionContext(_localctx, _startState, RULE_multiple_condition);
-									setState(349);
-									if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-									setState(350);
-									match(AND);
-									setState(351);
-									multiple_condition(3);
-								}
-								break;
-								case 2:
-								{
-									_localctx = new Multiple_conditionContext(_parentctx, _parentState);
-									pushNewRecursionContext(_localctx, _startState, RULE_multiple_condition);
-									setState(352);
-									if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-									setState(353);
-									match(OR);
-									setState(354);
-									multiple_condition(2);
-								}
-								break;
-							}
+						_localctx = new Multiple_conditionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_multiple_condition);
+						setState(383);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(384);
+						match(OR);
+						setState(385);
+						multiple_condition(2);
 						}
+						break;
 					}
-					setState(359);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+					} 
 				}
+				setState(390);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -2257,16 +2431,16 @@ public class SQLParser extends Parser {
 
 	public final ConditionContext condition() throws RecognitionException {
 		ConditionContext _localctx = new ConditionContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_condition);
+		enterRule(_localctx, 58, RULE_condition);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(360);
-				expression(0);
-				setState(361);
-				comparator();
-				setState(362);
-				expression(0);
+			setState(391);
+			expression(0);
+			setState(392);
+			comparator();
+			setState(393);
+			expression(0);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2308,29 +2482,29 @@ public class SQLParser extends Parser {
 
 	public final ComparerContext comparer() throws RecognitionException {
 		ComparerContext _localctx = new ComparerContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_comparer);
+		enterRule(_localctx, 60, RULE_comparer);
 		try {
-			setState(366);
+			setState(397);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-				case IDENTIFIER:
-					enterOuterAlt(_localctx, 1);
+			case IDENTIFIER:
+				enterOuterAlt(_localctx, 1);
 				{
-					setState(364);
-					column_full_name();
+				setState(395);
+				column_full_name();
 				}
 				break;
-				case K_NULL:
-				case NUMERIC_LITERAL:
-				case STRING_LITERAL:
-					enterOuterAlt(_localctx, 2);
+			case K_NULL:
+			case NUMERIC_LITERAL:
+			case STRING_LITERAL:
+				enterOuterAlt(_localctx, 2);
 				{
-					setState(365);
-					literal_value();
+				setState(396);
+				literal_value();
 				}
 				break;
-				default:
-					throw new NoViableAltException(this);
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2372,21 +2546,21 @@ public class SQLParser extends Parser {
 
 	public final ComparatorContext comparator() throws RecognitionException {
 		ComparatorContext _localctx = new ComparatorContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_comparator);
+		enterRule(_localctx, 62, RULE_comparator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(368);
-				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQ) | (1L << NE) | (1L << LT) | (1L << GT) | (1L << LE) | (1L << GE))) != 0)) ) {
-					_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
+			setState(399);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQ) | (1L << NE) | (1L << LT) | (1L << GT) | (1L << LE) | (1L << GE))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -2442,97 +2616,97 @@ public class SQLParser extends Parser {
 		int _parentState = getState();
 		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
 		ExpressionContext _prevctx = _localctx;
-		int _startState = 60;
-		enterRecursionRule(_localctx, 60, RULE_expression, _p);
+		int _startState = 64;
+		enterRecursionRule(_localctx, 64, RULE_expression, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(376);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-					case K_NULL:
-					case IDENTIFIER:
-					case NUMERIC_LITERAL:
-					case STRING_LITERAL:
-					{
-						setState(371);
-						comparer();
-					}
-					break;
-					case T__1:
-					{
-						setState(372);
-						match(T__1);
-						setState(373);
-						expression(0);
-						setState(374);
-						match(T__3);
-					}
-					break;
-					default:
-						throw new NoViableAltException(this);
+			setState(407);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_NULL:
+			case IDENTIFIER:
+			case NUMERIC_LITERAL:
+			case STRING_LITERAL:
+				{
+				setState(402);
+				comparer();
 				}
-				_ctx.stop = _input.LT(-1);
-				setState(386);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						if ( _parseListeners!=null ) triggerExitRuleEvent();
-						_prevctx = _localctx;
+				break;
+			case T__1:
+				{
+				setState(403);
+				match(T__1);
+				setState(404);
+				expression(0);
+				setState(405);
+				match(T__3);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(417);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(415);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(409);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(410);
+						_la = _input.LA(1);
+						if ( !(_la==MUL || _la==DIV) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(411);
+						expression(4);
+						}
+						break;
+					case 2:
 						{
-							setState(384);
-							_errHandler.sync(this);
-							switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
-								case 1:
-								{
-									_localctx = new ExpressionContext(_parentctx, _parentState);
-									pushNewRecursionContext(_localctx, _startState, RULE_expression);
-									setState(378);
-									if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-									setState(379);
-									_la = _input.LA(1);
-									if ( !(_la==MUL || _la==DIV) ) {
-										_errHandler.recoverInline(this);
-									}
-									else {
-										if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-										_errHandler.reportMatch(this);
-										consume();
-									}
-									setState(380);
-									expression(4);
-								}
-								break;
-								case 2:
-								{
-									_localctx = new ExpressionContext(_parentctx, _parentState);
-									pushNewRecursionContext(_localctx, _startState, RULE_expression);
-									setState(381);
-									if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-									setState(382);
-									_la = _input.LA(1);
-									if ( !(_la==ADD || _la==SUB) ) {
-										_errHandler.recoverInline(this);
-									}
-									else {
-										if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-										_errHandler.reportMatch(this);
-										consume();
-									}
-									setState(383);
-									expression(3);
-								}
-								break;
-							}
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(412);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(413);
+						_la = _input.LA(1);
+						if ( !(_la==ADD || _la==SUB) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
 						}
+						setState(414);
+						expression(3);
+						}
+						break;
 					}
-					setState(388);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+					} 
 				}
+				setState(419);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -2576,37 +2750,37 @@ public class SQLParser extends Parser {
 
 	public final Table_constraintContext table_constraint() throws RecognitionException {
 		Table_constraintContext _localctx = new Table_constraintContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_table_constraint);
+		enterRule(_localctx, 66, RULE_table_constraint);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(389);
-				match(K_PRIMARY);
-				setState(390);
-				match(K_KEY);
-				setState(391);
-				match(T__1);
-				setState(392);
+			setState(420);
+			match(K_PRIMARY);
+			setState(421);
+			match(K_KEY);
+			setState(422);
+			match(T__1);
+			setState(423);
+			column_name();
+			setState(428);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(424);
+				match(T__2);
+				setState(425);
 				column_name();
-				setState(397);
+				}
+				}
+				setState(430);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__2) {
-					{
-						{
-							setState(393);
-							match(T__2);
-							setState(394);
-							column_name();
-						}
-					}
-					setState(399);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				}
-				setState(400);
-				match(T__3);
+			}
+			setState(431);
+			match(T__3);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2649,34 +2823,34 @@ public class SQLParser extends Parser {
 
 	public final Result_columnContext result_column() throws RecognitionException {
 		Result_columnContext _localctx = new Result_columnContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_result_column);
+		enterRule(_localctx, 68, RULE_result_column);
 		try {
-			setState(408);
+			setState(439);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
-				case 1:
-					enterOuterAlt(_localctx, 1);
+			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
 				{
-					setState(402);
-					match(MUL);
+				setState(433);
+				match(MUL);
 				}
 				break;
-				case 2:
-					enterOuterAlt(_localctx, 2);
+			case 2:
+				enterOuterAlt(_localctx, 2);
 				{
-					setState(403);
-					table_name();
-					setState(404);
-					match(T__4);
-					setState(405);
-					match(MUL);
+				setState(434);
+				table_name();
+				setState(435);
+				match(T__4);
+				setState(436);
+				match(MUL);
 				}
 				break;
-				case 3:
-					enterOuterAlt(_localctx, 3);
+			case 3:
+				enterOuterAlt(_localctx, 3);
 				{
-					setState(407);
-					column_full_name();
+				setState(438);
+				column_full_name();
 				}
 				break;
 			}
@@ -2728,44 +2902,44 @@ public class SQLParser extends Parser {
 
 	public final Table_queryContext table_query() throws RecognitionException {
 		Table_queryContext _localctx = new Table_queryContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_table_query);
+		enterRule(_localctx, 70, RULE_table_query);
 		int _la;
 		try {
-			setState(421);
+			setState(452);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
-				case 1:
-					enterOuterAlt(_localctx, 1);
+			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
 				{
-					setState(410);
-					table_name();
+				setState(441);
+				table_name();
 				}
 				break;
-				case 2:
-					enterOuterAlt(_localctx, 2);
+			case 2:
+				enterOuterAlt(_localctx, 2);
 				{
-					setState(411);
+				setState(442);
+				table_name();
+				setState(445); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(443);
+					match(K_JOIN);
+					setState(444);
 					table_name();
-					setState(414);
+					}
+					}
+					setState(447); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
-					do {
-						{
-							{
-								setState(412);
-								match(K_JOIN);
-								setState(413);
-								table_name();
-							}
-						}
-						setState(416);
-						_errHandler.sync(this);
-						_la = _input.LA(1);
-					} while ( _la==K_JOIN );
-					setState(418);
-					match(K_ON);
-					setState(419);
-					multiple_condition(0);
+				} while ( _la==K_JOIN );
+				setState(449);
+				match(K_ON);
+				setState(450);
+				multiple_condition(0);
 				}
 				break;
 			}
@@ -2808,21 +2982,21 @@ public class SQLParser extends Parser {
 
 	public final Auth_levelContext auth_level() throws RecognitionException {
 		Auth_levelContext _localctx = new Auth_levelContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_auth_level);
+		enterRule(_localctx, 72, RULE_auth_level);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(423);
-				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << K_DELETE) | (1L << K_DROP) | (1L << K_INSERT) | (1L << K_SELECT) | (1L << K_UPDATE))) != 0)) ) {
-					_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
+			setState(454);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << K_DELETE) | (1L << K_DROP) | (1L << K_INSERT) | (1L << K_SELECT) | (1L << K_UPDATE))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -2861,21 +3035,21 @@ public class SQLParser extends Parser {
 
 	public final Literal_valueContext literal_value() throws RecognitionException {
 		Literal_valueContext _localctx = new Literal_valueContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_literal_value);
+		enterRule(_localctx, 74, RULE_literal_value);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(425);
-				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << K_NULL) | (1L << NUMERIC_LITERAL) | (1L << STRING_LITERAL))) != 0)) ) {
-					_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
+			setState(456);
+			_la = _input.LA(1);
+			if ( !(((((_la - 46)) & ~0x3f) == 0 && ((1L << (_la - 46)) & ((1L << (K_NULL - 46)) | (1L << (NUMERIC_LITERAL - 46)) | (1L << (STRING_LITERAL - 46)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -2917,24 +3091,24 @@ public class SQLParser extends Parser {
 
 	public final Column_full_nameContext column_full_name() throws RecognitionException {
 		Column_full_nameContext _localctx = new Column_full_nameContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_column_full_name);
+		enterRule(_localctx, 76, RULE_column_full_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(430);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
-					case 1:
-					{
-						setState(427);
-						table_name();
-						setState(428);
-						match(T__4);
-					}
-					break;
+			setState(461);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
+			case 1:
+				{
+				setState(458);
+				table_name();
+				setState(459);
+				match(T__4);
 				}
-				setState(432);
-				column_name();
+				break;
+			}
+			setState(463);
+			column_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2971,12 +3145,12 @@ public class SQLParser extends Parser {
 
 	public final Database_nameContext database_name() throws RecognitionException {
 		Database_nameContext _localctx = new Database_nameContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_database_name);
+		enterRule(_localctx, 78, RULE_database_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(434);
-				match(IDENTIFIER);
+			setState(465);
+			match(IDENTIFIER);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3013,12 +3187,12 @@ public class SQLParser extends Parser {
 
 	public final Table_nameContext table_name() throws RecognitionException {
 		Table_nameContext _localctx = new Table_nameContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_table_name);
+		enterRule(_localctx, 80, RULE_table_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(436);
-				match(IDENTIFIER);
+			setState(467);
+			match(IDENTIFIER);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3055,12 +3229,12 @@ public class SQLParser extends Parser {
 
 	public final User_nameContext user_name() throws RecognitionException {
 		User_nameContext _localctx = new User_nameContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_user_name);
+		enterRule(_localctx, 82, RULE_user_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(438);
-				match(IDENTIFIER);
+			setState(469);
+			match(IDENTIFIER);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3097,12 +3271,12 @@ public class SQLParser extends Parser {
 
 	public final Column_nameContext column_name() throws RecognitionException {
 		Column_nameContext _localctx = new Column_nameContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_column_name);
+		enterRule(_localctx, 84, RULE_column_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(440);
-				match(IDENTIFIER);
+			setState(471);
+			match(IDENTIFIER);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3139,12 +3313,54 @@ public class SQLParser extends Parser {
 
 	public final View_nameContext view_name() throws RecognitionException {
 		View_nameContext _localctx = new View_nameContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_view_name);
+		enterRule(_localctx, 86, RULE_view_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(442);
-				match(IDENTIFIER);
+			setState(473);
+			match(IDENTIFIER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Index_nameContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(SQLParser.IDENTIFIER, 0); }
+		public Index_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_index_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterIndex_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitIndex_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitIndex_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Index_nameContext index_name() throws RecognitionException {
+		Index_nameContext _localctx = new Index_nameContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_index_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(475);
+			match(IDENTIFIER);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3181,12 +3397,12 @@ public class SQLParser extends Parser {
 
 	public final PasswordContext password() throws RecognitionException {
 		PasswordContext _localctx = new PasswordContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_password);
+		enterRule(_localctx, 90, RULE_password);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-				setState(444);
-				match(STRING_LITERAL);
+			setState(477);
+			match(STRING_LITERAL);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3202,191 +3418,203 @@ public class SQLParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-			case 26:
-				return multiple_condition_sempred((Multiple_conditionContext)_localctx, predIndex);
-			case 30:
-				return expression_sempred((ExpressionContext)_localctx, predIndex);
+		case 28:
+			return multiple_condition_sempred((Multiple_conditionContext)_localctx, predIndex);
+		case 32:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
 		}
 		return true;
 	}
 	private boolean multiple_condition_sempred(Multiple_conditionContext _localctx, int predIndex) {
 		switch (predIndex) {
-			case 0:
-				return precpred(_ctx, 2);
-			case 1:
-				return precpred(_ctx, 1);
+		case 0:
+			return precpred(_ctx, 2);
+		case 1:
+			return precpred(_ctx, 1);
 		}
 		return true;
 	}
 	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
 		switch (predIndex) {
-			case 2:
-				return precpred(_ctx, 3);
-			case 3:
-				return precpred(_ctx, 2);
+		case 2:
+			return precpred(_ctx, 3);
+		case 3:
+			return precpred(_ctx, 2);
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-			"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3D\u01c1\4\2\t\2\4"+
-					"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
-					"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
-					"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
-					"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
-					"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
-					",\t,\3\2\3\2\3\3\7\3\\\n\3\f\3\16\3_\13\3\3\3\3\3\6\3c\n\3\r\3\16\3d\3"+
-					"\3\7\3h\n\3\f\3\16\3k\13\3\3\3\7\3n\n\3\f\3\16\3q\13\3\3\4\3\4\3\4\3\4"+
-					"\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\5\4\u0086"+
-					"\n\4\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\5\6\u0090\n\6\3\6\3\6\3\7\3\7\3\7"+
-					"\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\5\b\u009f\n\b\3\b\3\b\3\t\3\t\3\t\3\t"+
-					"\3\t\3\t\3\t\7\t\u00aa\n\t\f\t\16\t\u00ad\13\t\3\t\3\t\5\t\u00b1\n\t\3"+
-					"\t\3\t\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\7\13\u00bd\n\13\f\13\16\13"+
-					"\u00c0\13\13\3\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\7\f\u00cb\n\f\f"+
-					"\f\16\f\u00ce\13\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\16\3\16\3\16\3\16"+
-					"\3\16\5\16\u00dd\n\16\3\17\3\17\3\17\3\17\5\17\u00e3\n\17\3\17\3\17\3"+
-					"\20\3\20\3\20\3\21\3\21\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3"+
-					"\23\3\23\7\23\u00f7\n\23\f\23\16\23\u00fa\13\23\3\23\3\23\5\23\u00fe\n"+
-					"\23\3\23\3\23\3\23\3\23\7\23\u0104\n\23\f\23\16\23\u0107\13\23\3\24\3"+
-					"\24\3\24\3\24\7\24\u010d\n\24\f\24\16\24\u0110\13\24\3\24\3\24\3\25\3"+
-					"\25\5\25\u0116\n\25\3\25\3\25\3\25\7\25\u011b\n\25\f\25\16\25\u011e\13"+
-					"\25\3\25\3\25\3\25\3\25\7\25\u0124\n\25\f\25\16\25\u0127\13\25\3\25\3"+
-					"\25\5\25\u012b\n\25\3\26\3\26\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27"+
-					"\5\27\u0137\n\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\5\30"+
-					"\u0143\n\30\3\31\3\31\3\31\7\31\u0148\n\31\f\31\16\31\u014b\13\31\3\32"+
-					"\3\32\3\32\3\32\3\32\3\32\3\32\3\32\5\32\u0155\n\32\3\33\3\33\3\33\3\33"+
-					"\5\33\u015b\n\33\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\7\34\u0166"+
-					"\n\34\f\34\16\34\u0169\13\34\3\35\3\35\3\35\3\35\3\36\3\36\5\36\u0171"+
-					"\n\36\3\37\3\37\3 \3 \3 \3 \3 \3 \5 \u017b\n \3 \3 \3 \3 \3 \3 \7 \u0183"+
-					"\n \f \16 \u0186\13 \3!\3!\3!\3!\3!\3!\7!\u018e\n!\f!\16!\u0191\13!\3"+
-					"!\3!\3\"\3\"\3\"\3\"\3\"\3\"\5\"\u019b\n\"\3#\3#\3#\3#\6#\u01a1\n#\r#"+
-					"\16#\u01a2\3#\3#\3#\5#\u01a8\n#\3$\3$\3%\3%\3&\3&\3&\5&\u01b1\n&\3&\3"+
-					"&\3\'\3\'\3(\3(\3)\3)\3*\3*\3+\3+\3,\3,\3,\2\4\66>-\2\4\6\b\n\f\16\20"+
-					"\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTV\2\b\4\2\32"+
-					"\32\"\"\3\2\b\r\3\2\20\21\3\2\16\17\7\2!!##))\63\6388\5\2..??AA\2\u01cf"+
-					"\2X\3\2\2\2\4]\3\2\2\2\6\u0085\3\2\2\2\b\u0087\3\2\2\2\n\u008b\3\2\2\2"+
-					"\f\u0093\3\2\2\2\16\u009a\3\2\2\2\20\u00a2\3\2\2\2\22\u00b4\3\2\2\2\24"+
-					"\u00b8\3\2\2\2\26\u00c6\3\2\2\2\30\u00d4\3\2\2\2\32\u00d7\3\2\2\2\34\u00de"+
-					"\3\2\2\2\36\u00e6\3\2\2\2 \u00e9\3\2\2\2\"\u00eb\3\2\2\2$\u00ef\3\2\2"+
-					"\2&\u0108\3\2\2\2(\u0113\3\2\2\2*\u012c\3\2\2\2,\u0132\3\2\2\2.\u013a"+
-					"\3\2\2\2\60\u0144\3\2\2\2\62\u0154\3\2\2\2\64\u015a\3\2\2\2\66\u015c\3"+
-					"\2\2\28\u016a\3\2\2\2:\u0170\3\2\2\2<\u0172\3\2\2\2>\u017a\3\2\2\2@\u0187"+
-					"\3\2\2\2B\u019a\3\2\2\2D\u01a7\3\2\2\2F\u01a9\3\2\2\2H\u01ab\3\2\2\2J"+
-					"\u01b0\3\2\2\2L\u01b4\3\2\2\2N\u01b6\3\2\2\2P\u01b8\3\2\2\2R\u01ba\3\2"+
-					"\2\2T\u01bc\3\2\2\2V\u01be\3\2\2\2XY\5\4\3\2Y\3\3\2\2\2Z\\\7\3\2\2[Z\3"+
-					"\2\2\2\\_\3\2\2\2][\3\2\2\2]^\3\2\2\2^`\3\2\2\2_]\3\2\2\2`i\5\6\4\2ac"+
-					"\7\3\2\2ba\3\2\2\2cd\3\2\2\2db\3\2\2\2de\3\2\2\2ef\3\2\2\2fh\5\6\4\2g"+
-					"b\3\2\2\2hk\3\2\2\2ig\3\2\2\2ij\3\2\2\2jo\3\2\2\2ki\3\2\2\2ln\7\3\2\2"+
-					"ml\3\2\2\2nq\3\2\2\2om\3\2\2\2op\3\2\2\2p\5\3\2\2\2qo\3\2\2\2r\u0086\5"+
-					"\20\t\2s\u0086\5\b\5\2t\u0086\5\f\7\2u\u0086\5\n\6\2v\u0086\5\16\b\2w"+
-					"\u0086\5\32\16\2x\u0086\5\34\17\2y\u0086\5$\23\2z\u0086\5(\25\2{\u0086"+
-					"\5*\26\2|\u0086\5,\27\2}\u0086\5\24\13\2~\u0086\5\26\f\2\177\u0086\5\30"+
-					"\r\2\u0080\u0086\5\36\20\2\u0081\u0086\5\"\22\2\u0082\u0086\5\22\n\2\u0083"+
-					"\u0086\5 \21\2\u0084\u0086\5.\30\2\u0085r\3\2\2\2\u0085s\3\2\2\2\u0085"+
-					"t\3\2\2\2\u0085u\3\2\2\2\u0085v\3\2\2\2\u0085w\3\2\2\2\u0085x\3\2\2\2"+
-					"\u0085y\3\2\2\2\u0085z\3\2\2\2\u0085{\3\2\2\2\u0085|\3\2\2\2\u0085}\3"+
-					"\2\2\2\u0085~\3\2\2\2\u0085\177\3\2\2\2\u0085\u0080\3\2\2\2\u0085\u0081"+
-					"\3\2\2\2\u0085\u0082\3\2\2\2\u0085\u0083\3\2\2\2\u0085\u0084\3\2\2\2\u0086"+
-					"\7\3\2\2\2\u0087\u0088\7\36\2\2\u0088\u0089\7\37\2\2\u0089\u008a\5L\'"+
-					"\2\u008a\t\3\2\2\2\u008b\u008c\7#\2\2\u008c\u008f\7\37\2\2\u008d\u008e"+
-					"\7\'\2\2\u008e\u0090\7$\2\2\u008f\u008d\3\2\2\2\u008f\u0090\3\2\2\2\u0090"+
-					"\u0091\3\2\2\2\u0091\u0092\5L\'\2\u0092\13\3\2\2\2\u0093\u0094\7\36\2"+
-					"\2\u0094\u0095\7:\2\2\u0095\u0096\5P)\2\u0096\u0097\7(\2\2\u0097\u0098"+
-					"\7\34\2\2\u0098\u0099\5V,\2\u0099\r\3\2\2\2\u009a\u009b\7#\2\2\u009b\u009e"+
-					"\7:\2\2\u009c\u009d\7\'\2\2\u009d\u009f\7$\2\2\u009e\u009c\3\2\2\2\u009e"+
-					"\u009f\3\2\2\2\u009f\u00a0\3\2\2\2\u00a0\u00a1\5P)\2\u00a1\17\3\2\2\2"+
-					"\u00a2\u00a3\7\36\2\2\u00a3\u00a4\7\66\2\2\u00a4\u00a5\5N(\2\u00a5\u00a6"+
-					"\7\4\2\2\u00a6\u00ab\5\60\31\2\u00a7\u00a8\7\5\2\2\u00a8\u00aa\5\60\31"+
-					"\2\u00a9\u00a7\3\2\2\2\u00aa\u00ad\3\2\2\2\u00ab\u00a9\3\2\2\2\u00ab\u00ac"+
-					"\3\2\2\2\u00ac\u00b0\3\2\2\2\u00ad\u00ab\3\2\2\2\u00ae\u00af\7\5\2\2\u00af"+
-					"\u00b1\5@!\2\u00b0\u00ae\3\2\2\2\u00b0\u00b1\3\2\2\2\u00b1\u00b2\3\2\2"+
-					"\2\u00b2\u00b3\7\6\2\2\u00b3\21\3\2\2\2\u00b4\u00b5\7\65\2\2\u00b5\u00b6"+
-					"\7\66\2\2\u00b6\u00b7\5N(\2\u00b7\23\3\2\2\2\u00b8\u00b9\7&\2\2\u00b9"+
-					"\u00be\5F$\2\u00ba\u00bb\7\5\2\2\u00bb\u00bd\5F$\2\u00bc\u00ba\3\2\2\2"+
-					"\u00bd\u00c0\3\2\2\2\u00be\u00bc\3\2\2\2\u00be\u00bf\3\2\2\2\u00bf\u00c1"+
-					"\3\2\2\2\u00c0\u00be\3\2\2\2\u00c1\u00c2\7/\2\2\u00c2\u00c3\5N(\2\u00c3"+
-					"\u00c4\7\67\2\2\u00c4\u00c5\5P)\2\u00c5\25\3\2\2\2\u00c6\u00c7\7\62\2"+
-					"\2\u00c7\u00cc\5F$\2\u00c8\u00c9\7\5\2\2\u00c9\u00cb\5F$\2\u00ca\u00c8"+
-					"\3\2\2\2\u00cb\u00ce\3\2\2\2\u00cc\u00ca\3\2\2\2\u00cc\u00cd\3\2\2\2\u00cd"+
-					"\u00cf\3\2\2\2\u00ce\u00cc\3\2\2\2\u00cf\u00d0\7/\2\2\u00d0\u00d1\5N("+
-					"\2\u00d1\u00d2\7%\2\2\u00d2\u00d3\5P)\2\u00d3\27\3\2\2\2\u00d4\u00d5\7"+
-					"9\2\2\u00d5\u00d6\5L\'\2\u00d6\31\3\2\2\2\u00d7\u00d8\7!\2\2\u00d8\u00d9"+
-					"\7%\2\2\u00d9\u00dc\5N(\2\u00da\u00db\7=\2\2\u00db\u00dd\5\66\34\2\u00dc"+
-					"\u00da\3\2\2\2\u00dc\u00dd\3\2\2\2\u00dd\33\3\2\2\2\u00de\u00df\7#\2\2"+
-					"\u00df\u00e2\7\66\2\2\u00e0\u00e1\7\'\2\2\u00e1\u00e3\7$\2\2\u00e2\u00e0"+
-					"\3\2\2\2\u00e2\u00e3\3\2\2\2\u00e3\u00e4\3\2\2\2\u00e4\u00e5\5N(\2\u00e5"+
-					"\35\3\2\2\2\u00e6\u00e7\7\65\2\2\u00e7\u00e8\7 \2\2\u00e8\37\3\2\2\2\u00e9"+
-					"\u00ea\7\61\2\2\u00ea!\3\2\2\2\u00eb\u00ec\7\65\2\2\u00ec\u00ed\7\37\2"+
-					"\2\u00ed\u00ee\5L\'\2\u00ee#\3\2\2\2\u00ef\u00f0\7)\2\2\u00f0\u00f1\7"+
-					"*\2\2\u00f1\u00fd\5N(\2\u00f2\u00f3\7\4\2\2\u00f3\u00f8\5R*\2\u00f4\u00f5"+
-					"\7\5\2\2\u00f5\u00f7\5R*\2\u00f6\u00f4\3\2\2\2\u00f7\u00fa\3\2\2\2\u00f8"+
-					"\u00f6\3\2\2\2\u00f8\u00f9\3\2\2\2\u00f9\u00fb\3\2\2\2\u00fa\u00f8\3\2"+
-					"\2\2\u00fb\u00fc\7\6\2\2\u00fc\u00fe\3\2\2\2\u00fd\u00f2\3\2\2\2\u00fd"+
-					"\u00fe\3\2\2\2\u00fe\u00ff\3\2\2\2\u00ff\u0100\7;\2\2\u0100\u0105\5&\24"+
-					"\2\u0101\u0102\7\5\2\2\u0102\u0104\5&\24\2\u0103\u0101\3\2\2\2\u0104\u0107"+
-					"\3\2\2\2\u0105\u0103\3\2\2\2\u0105\u0106\3\2\2\2\u0106%\3\2\2\2\u0107"+
-					"\u0105\3\2\2\2\u0108\u0109\7\4\2\2\u0109\u010e\5H%\2\u010a\u010b\7\5\2"+
-					"\2\u010b\u010d\5H%\2\u010c\u010a\3\2\2\2\u010d\u0110\3\2\2\2\u010e\u010c"+
-					"\3\2\2\2\u010e\u010f\3\2\2\2\u010f\u0111\3\2\2\2\u0110\u010e\3\2\2\2\u0111"+
-					"\u0112\7\6\2\2\u0112\'\3\2\2\2\u0113\u0115\7\63\2\2\u0114\u0116\t\2\2"+
-					"\2\u0115\u0114\3\2\2\2\u0115\u0116\3\2\2\2\u0116\u0117\3\2\2\2\u0117\u011c"+
-					"\5B\"\2\u0118\u0119\7\5\2\2\u0119\u011b\5B\"\2\u011a\u0118\3\2\2\2\u011b"+
-					"\u011e\3\2\2\2\u011c\u011a\3\2\2\2\u011c\u011d\3\2\2\2\u011d\u011f\3\2"+
-					"\2\2\u011e\u011c\3\2\2\2\u011f\u0120\7%\2\2\u0120\u0125\5D#\2\u0121\u0122"+
-					"\7\5\2\2\u0122\u0124\5D#\2\u0123\u0121\3\2\2\2\u0124\u0127\3\2\2\2\u0125"+
-					"\u0123\3\2\2\2\u0125\u0126\3\2\2\2\u0126\u012a\3\2\2\2\u0127\u0125\3\2"+
-					"\2\2\u0128\u0129\7=\2\2\u0129\u012b\5\66\34\2\u012a\u0128\3\2\2\2\u012a"+
-					"\u012b\3\2\2\2\u012b)\3\2\2\2\u012c\u012d\7\36\2\2\u012d\u012e\7<\2\2"+
-					"\u012e\u012f\5T+\2\u012f\u0130\7\33\2\2\u0130\u0131\5(\25\2\u0131+\3\2"+
-					"\2\2\u0132\u0133\7#\2\2\u0133\u0136\7<\2\2\u0134\u0135\7\'\2\2\u0135\u0137"+
-					"\7$\2\2\u0136\u0134\3\2\2\2\u0136\u0137\3\2\2\2\u0137\u0138\3\2\2\2\u0138"+
-					"\u0139\5T+\2\u0139-\3\2\2\2\u013a\u013b\78\2\2\u013b\u013c\5N(\2\u013c"+
-					"\u013d\7\64\2\2\u013d\u013e\5R*\2\u013e\u013f\7\b\2\2\u013f\u0142\5> "+
-					"\2\u0140\u0141\7=\2\2\u0141\u0143\5\66\34\2\u0142\u0140\3\2\2\2\u0142"+
-					"\u0143\3\2\2\2\u0143/\3\2\2\2\u0144\u0145\5R*\2\u0145\u0149\5\62\32\2"+
-					"\u0146\u0148\5\64\33\2\u0147\u0146\3\2\2\2\u0148\u014b\3\2\2\2\u0149\u0147"+
-					"\3\2\2\2\u0149\u014a\3\2\2\2\u014a\61\3\2\2\2\u014b\u0149\3\2\2\2\u014c"+
-					"\u0155\7\24\2\2\u014d\u0155\7\25\2\2\u014e\u0155\7\26\2\2\u014f\u0155"+
-					"\7\27\2\2\u0150\u0151\7\30\2\2\u0151\u0152\7\4\2\2\u0152\u0153\7?\2\2"+
-					"\u0153\u0155\7\6\2\2\u0154\u014c\3\2\2\2\u0154\u014d\3\2\2\2\u0154\u014e"+
-					"\3\2\2\2\u0154\u014f\3\2\2\2\u0154\u0150\3\2\2\2\u0155\63\3\2\2\2\u0156"+
-					"\u0157\7\60\2\2\u0157\u015b\7,\2\2\u0158\u0159\7-\2\2\u0159\u015b\7.\2"+
-					"\2\u015a\u0156\3\2\2\2\u015a\u0158\3\2\2\2\u015b\65\3\2\2\2\u015c\u015d"+
-					"\b\34\1\2\u015d\u015e\58\35\2\u015e\u0167\3\2\2\2\u015f\u0160\f\4\2\2"+
-					"\u0160\u0161\7\22\2\2\u0161\u0166\5\66\34\5\u0162\u0163\f\3\2\2\u0163"+
-					"\u0164\7\23\2\2\u0164\u0166\5\66\34\4\u0165\u015f\3\2\2\2\u0165\u0162"+
-					"\3\2\2\2\u0166\u0169\3\2\2\2\u0167\u0165\3\2\2\2\u0167\u0168\3\2\2\2\u0168"+
-					"\67\3\2\2\2\u0169\u0167\3\2\2\2\u016a\u016b\5> \2\u016b\u016c\5<\37\2"+
-					"\u016c\u016d\5> \2\u016d9\3\2\2\2\u016e\u0171\5J&\2\u016f\u0171\5H%\2"+
-					"\u0170\u016e\3\2\2\2\u0170\u016f\3\2\2\2\u0171;\3\2\2\2\u0172\u0173\t"+
-					"\3\2\2\u0173=\3\2\2\2\u0174\u0175\b \1\2\u0175\u017b\5:\36\2\u0176\u0177"+
-					"\7\4\2\2\u0177\u0178\5> \2\u0178\u0179\7\6\2\2\u0179\u017b\3\2\2\2\u017a"+
-					"\u0174\3\2\2\2\u017a\u0176\3\2\2\2\u017b\u0184\3\2\2\2\u017c\u017d\f\5"+
-					"\2\2\u017d\u017e\t\4\2\2\u017e\u0183\5> \6\u017f\u0180\f\4\2\2\u0180\u0181"+
-					"\t\5\2\2\u0181\u0183\5> \5\u0182\u017c\3\2\2\2\u0182\u017f\3\2\2\2\u0183"+
-					"\u0186\3\2\2\2\u0184\u0182\3\2\2\2\u0184\u0185\3\2\2\2\u0185?\3\2\2\2"+
-					"\u0186\u0184\3\2\2\2\u0187\u0188\7\60\2\2\u0188\u0189\7,\2\2\u0189\u018a"+
-					"\7\4\2\2\u018a\u018f\5R*\2\u018b\u018c\7\5\2\2\u018c\u018e\5R*\2\u018d"+
-					"\u018b\3\2\2\2\u018e\u0191\3\2\2\2\u018f\u018d\3\2\2\2\u018f\u0190\3\2"+
-					"\2\2\u0190\u0192\3\2\2\2\u0191\u018f\3\2\2\2\u0192\u0193\7\6\2\2\u0193"+
-					"A\3\2\2\2\u0194\u019b\7\20\2\2\u0195\u0196\5N(\2\u0196\u0197\7\7\2\2\u0197"+
-					"\u0198\7\20\2\2\u0198\u019b\3\2\2\2\u0199\u019b\5J&\2\u019a\u0194\3\2"+
-					"\2\2\u019a\u0195\3\2\2\2\u019a\u0199\3\2\2\2\u019bC\3\2\2\2\u019c\u01a8"+
-					"\5N(\2\u019d\u01a0\5N(\2\u019e\u019f\7+\2\2\u019f\u01a1\5N(\2\u01a0\u019e"+
-					"\3\2\2\2\u01a1\u01a2\3\2\2\2\u01a2\u01a0\3\2\2\2\u01a2\u01a3\3\2\2\2\u01a3"+
-					"\u01a4\3\2\2\2\u01a4\u01a5\7/\2\2\u01a5\u01a6\5\66\34\2\u01a6\u01a8\3"+
-					"\2\2\2\u01a7\u019c\3\2\2\2\u01a7\u019d\3\2\2\2\u01a8E\3\2\2\2\u01a9\u01aa"+
-					"\t\6\2\2\u01aaG\3\2\2\2\u01ab\u01ac\t\7\2\2\u01acI\3\2\2\2\u01ad\u01ae"+
-					"\5N(\2\u01ae\u01af\7\7\2\2\u01af\u01b1\3\2\2\2\u01b0\u01ad\3\2\2\2\u01b0"+
-					"\u01b1\3\2\2\2\u01b1\u01b2\3\2\2\2\u01b2\u01b3\5R*\2\u01b3K\3\2\2\2\u01b4"+
-					"\u01b5\7>\2\2\u01b5M\3\2\2\2\u01b6\u01b7\7>\2\2\u01b7O\3\2\2\2\u01b8\u01b9"+
-					"\7>\2\2\u01b9Q\3\2\2\2\u01ba\u01bb\7>\2\2\u01bbS\3\2\2\2\u01bc\u01bd\7"+
-					">\2\2\u01bdU\3\2\2\2\u01be\u01bf\7A\2\2\u01bfW\3\2\2\2\']dio\u0085\u008f"+
-					"\u009e\u00ab\u00b0\u00be\u00cc\u00dc\u00e2\u00f8\u00fd\u0105\u010e\u0115"+
-					"\u011c\u0125\u012a\u0136\u0142\u0149\u0154\u015a\u0165\u0167\u0170\u017a"+
-					"\u0182\u0184\u018f\u019a\u01a2\u01a7\u01b0";
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3F\u01e2\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\3\2\3\2\3\3\7\3b\n\3\f\3\16\3e\13\3\3\3\3\3\6\3"+
+		"i\n\3\r\3\16\3j\3\3\7\3n\n\3\f\3\16\3q\13\3\3\3\7\3t\n\3\f\3\16\3w\13"+
+		"\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4"+
+		"\3\4\3\4\3\4\3\4\5\4\u008e\n\4\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\5\6\u0098"+
+		"\n\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\5\b\u00a7\n\b"+
+		"\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u00b2\n\t\f\t\16\t\u00b5\13\t"+
+		"\3\t\3\t\5\t\u00b9\n\t\3\t\3\t\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\5\f\u00ce\n\f\3\f\3\f\3\f\3\f\3\r"+
+		"\3\r\3\r\3\r\7\r\u00d8\n\r\f\r\16\r\u00db\13\r\3\r\3\r\3\r\3\r\3\r\3\16"+
+		"\3\16\3\16\3\16\7\16\u00e6\n\16\f\16\16\16\u00e9\13\16\3\16\3\16\3\16"+
+		"\3\16\3\16\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\5\20\u00f8\n\20\3\21"+
+		"\3\21\3\21\3\21\5\21\u00fe\n\21\3\21\3\21\3\22\3\22\3\22\3\23\3\23\3\24"+
+		"\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25\3\25\7\25\u0112\n\25\f\25"+
+		"\16\25\u0115\13\25\3\25\3\25\5\25\u0119\n\25\3\25\3\25\3\25\3\25\7\25"+
+		"\u011f\n\25\f\25\16\25\u0122\13\25\3\26\3\26\3\26\3\26\7\26\u0128\n\26"+
+		"\f\26\16\26\u012b\13\26\3\26\3\26\3\27\3\27\5\27\u0131\n\27\3\27\3\27"+
+		"\3\27\7\27\u0136\n\27\f\27\16\27\u0139\13\27\3\27\3\27\3\27\3\27\7\27"+
+		"\u013f\n\27\f\27\16\27\u0142\13\27\3\27\3\27\5\27\u0146\n\27\3\27\3\27"+
+		"\5\27\u014a\n\27\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31\5\31"+
+		"\u0156\n\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\5\32\u0162"+
+		"\n\32\3\33\3\33\3\33\7\33\u0167\n\33\f\33\16\33\u016a\13\33\3\34\3\34"+
+		"\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u0174\n\34\3\35\3\35\3\35\3\35\5\35"+
+		"\u017a\n\35\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\7\36\u0185\n"+
+		"\36\f\36\16\36\u0188\13\36\3\37\3\37\3\37\3\37\3 \3 \5 \u0190\n \3!\3"+
+		"!\3\"\3\"\3\"\3\"\3\"\3\"\5\"\u019a\n\"\3\"\3\"\3\"\3\"\3\"\3\"\7\"\u01a2"+
+		"\n\"\f\"\16\"\u01a5\13\"\3#\3#\3#\3#\3#\3#\7#\u01ad\n#\f#\16#\u01b0\13"+
+		"#\3#\3#\3$\3$\3$\3$\3$\3$\5$\u01ba\n$\3%\3%\3%\3%\6%\u01c0\n%\r%\16%\u01c1"+
+		"\3%\3%\3%\5%\u01c7\n%\3&\3&\3\'\3\'\3(\3(\3(\5(\u01d0\n(\3(\3(\3)\3)\3"+
+		"*\3*\3+\3+\3,\3,\3-\3-\3.\3.\3/\3/\3/\2\4:B\60\2\4\6\b\n\f\16\20\22\24"+
+		"\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\\2\b\4\2\32\32"+
+		"\"\"\3\2\b\r\3\2\20\21\3\2\16\17\7\2!!##**\65\65::\5\2\60\60AACC\2\u01f1"+
+		"\2^\3\2\2\2\4c\3\2\2\2\6\u008d\3\2\2\2\b\u008f\3\2\2\2\n\u0093\3\2\2\2"+
+		"\f\u009b\3\2\2\2\16\u00a2\3\2\2\2\20\u00aa\3\2\2\2\22\u00bc\3\2\2\2\24"+
+		"\u00c0\3\2\2\2\26\u00c9\3\2\2\2\30\u00d3\3\2\2\2\32\u00e1\3\2\2\2\34\u00ef"+
+		"\3\2\2\2\36\u00f2\3\2\2\2 \u00f9\3\2\2\2\"\u0101\3\2\2\2$\u0104\3\2\2"+
+		"\2&\u0106\3\2\2\2(\u010a\3\2\2\2*\u0123\3\2\2\2,\u012e\3\2\2\2.\u014b"+
+		"\3\2\2\2\60\u0151\3\2\2\2\62\u0159\3\2\2\2\64\u0163\3\2\2\2\66\u0173\3"+
+		"\2\2\28\u0179\3\2\2\2:\u017b\3\2\2\2<\u0189\3\2\2\2>\u018f\3\2\2\2@\u0191"+
+		"\3\2\2\2B\u0199\3\2\2\2D\u01a6\3\2\2\2F\u01b9\3\2\2\2H\u01c6\3\2\2\2J"+
+		"\u01c8\3\2\2\2L\u01ca\3\2\2\2N\u01cf\3\2\2\2P\u01d3\3\2\2\2R\u01d5\3\2"+
+		"\2\2T\u01d7\3\2\2\2V\u01d9\3\2\2\2X\u01db\3\2\2\2Z\u01dd\3\2\2\2\\\u01df"+
+		"\3\2\2\2^_\5\4\3\2_\3\3\2\2\2`b\7\3\2\2a`\3\2\2\2be\3\2\2\2ca\3\2\2\2"+
+		"cd\3\2\2\2df\3\2\2\2ec\3\2\2\2fo\5\6\4\2gi\7\3\2\2hg\3\2\2\2ij\3\2\2\2"+
+		"jh\3\2\2\2jk\3\2\2\2kl\3\2\2\2ln\5\6\4\2mh\3\2\2\2nq\3\2\2\2om\3\2\2\2"+
+		"op\3\2\2\2pu\3\2\2\2qo\3\2\2\2rt\7\3\2\2sr\3\2\2\2tw\3\2\2\2us\3\2\2\2"+
+		"uv\3\2\2\2v\5\3\2\2\2wu\3\2\2\2x\u008e\5\20\t\2y\u008e\5\b\5\2z\u008e"+
+		"\5\f\7\2{\u008e\5\n\6\2|\u008e\5\16\b\2}\u008e\5\36\20\2~\u008e\5 \21"+
+		"\2\177\u008e\5(\25\2\u0080\u008e\5,\27\2\u0081\u008e\5.\30\2\u0082\u008e"+
+		"\5\60\31\2\u0083\u008e\5\30\r\2\u0084\u008e\5\32\16\2\u0085\u008e\5\34"+
+		"\17\2\u0086\u008e\5\"\22\2\u0087\u008e\5&\24\2\u0088\u008e\5\22\n\2\u0089"+
+		"\u008e\5$\23\2\u008a\u008e\5\62\32\2\u008b\u008e\5\24\13\2\u008c\u008e"+
+		"\5\26\f\2\u008dx\3\2\2\2\u008dy\3\2\2\2\u008dz\3\2\2\2\u008d{\3\2\2\2"+
+		"\u008d|\3\2\2\2\u008d}\3\2\2\2\u008d~\3\2\2\2\u008d\177\3\2\2\2\u008d"+
+		"\u0080\3\2\2\2\u008d\u0081\3\2\2\2\u008d\u0082\3\2\2\2\u008d\u0083\3\2"+
+		"\2\2\u008d\u0084\3\2\2\2\u008d\u0085\3\2\2\2\u008d\u0086\3\2\2\2\u008d"+
+		"\u0087\3\2\2\2\u008d\u0088\3\2\2\2\u008d\u0089\3\2\2\2\u008d\u008a\3\2"+
+		"\2\2\u008d\u008b\3\2\2\2\u008d\u008c\3\2\2\2\u008e\7\3\2\2\2\u008f\u0090"+
+		"\7\36\2\2\u0090\u0091\7\37\2\2\u0091\u0092\5P)\2\u0092\t\3\2\2\2\u0093"+
+		"\u0094\7#\2\2\u0094\u0097\7\37\2\2\u0095\u0096\7\'\2\2\u0096\u0098\7$"+
+		"\2\2\u0097\u0095\3\2\2\2\u0097\u0098\3\2\2\2\u0098\u0099\3\2\2\2\u0099"+
+		"\u009a\5P)\2\u009a\13\3\2\2\2\u009b\u009c\7\36\2\2\u009c\u009d\7<\2\2"+
+		"\u009d\u009e\5T+\2\u009e\u009f\7(\2\2\u009f\u00a0\7\34\2\2\u00a0\u00a1"+
+		"\5\\/\2\u00a1\r\3\2\2\2\u00a2\u00a3\7#\2\2\u00a3\u00a6\7<\2\2\u00a4\u00a5"+
+		"\7\'\2\2\u00a5\u00a7\7$\2\2\u00a6\u00a4\3\2\2\2\u00a6\u00a7\3\2\2\2\u00a7"+
+		"\u00a8\3\2\2\2\u00a8\u00a9\5T+\2\u00a9\17\3\2\2\2\u00aa\u00ab\7\36\2\2"+
+		"\u00ab\u00ac\78\2\2\u00ac\u00ad\5R*\2\u00ad\u00ae\7\4\2\2\u00ae\u00b3"+
+		"\5\64\33\2\u00af\u00b0\7\5\2\2\u00b0\u00b2\5\64\33\2\u00b1\u00af\3\2\2"+
+		"\2\u00b2\u00b5\3\2\2\2\u00b3\u00b1\3\2\2\2\u00b3\u00b4\3\2\2\2\u00b4\u00b8"+
+		"\3\2\2\2\u00b5\u00b3\3\2\2\2\u00b6\u00b7\7\5\2\2\u00b7\u00b9\5D#\2\u00b8"+
+		"\u00b6\3\2\2\2\u00b8\u00b9\3\2\2\2\u00b9\u00ba\3\2\2\2\u00ba\u00bb\7\6"+
+		"\2\2\u00bb\21\3\2\2\2\u00bc\u00bd\7\67\2\2\u00bd\u00be\78\2\2\u00be\u00bf"+
+		"\5R*\2\u00bf\23\3\2\2\2\u00c0\u00c1\7\36\2\2\u00c1\u00c2\7)\2\2\u00c2"+
+		"\u00c3\5Z.\2\u00c3\u00c4\7\61\2\2\u00c4\u00c5\5R*\2\u00c5\u00c6\7\4\2"+
+		"\2\u00c6\u00c7\5V,\2\u00c7\u00c8\7\6\2\2\u00c8\25\3\2\2\2\u00c9\u00ca"+
+		"\7#\2\2\u00ca\u00cd\7)\2\2\u00cb\u00cc\7\'\2\2\u00cc\u00ce\7$\2\2\u00cd"+
+		"\u00cb\3\2\2\2\u00cd\u00ce\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf\u00d0\5Z"+
+		".\2\u00d0\u00d1\7\61\2\2\u00d1\u00d2\5R*\2\u00d2\27\3\2\2\2\u00d3\u00d4"+
+		"\7&\2\2\u00d4\u00d9\5J&\2\u00d5\u00d6\7\5\2\2\u00d6\u00d8\5J&\2\u00d7"+
+		"\u00d5\3\2\2\2\u00d8\u00db\3\2\2\2\u00d9\u00d7\3\2\2\2\u00d9\u00da\3\2"+
+		"\2\2\u00da\u00dc\3\2\2\2\u00db\u00d9\3\2\2\2\u00dc\u00dd\7\61\2\2\u00dd"+
+		"\u00de\5R*\2\u00de\u00df\79\2\2\u00df\u00e0\5T+\2\u00e0\31\3\2\2\2\u00e1"+
+		"\u00e2\7\64\2\2\u00e2\u00e7\5J&\2\u00e3\u00e4\7\5\2\2\u00e4\u00e6\5J&"+
+		"\2\u00e5\u00e3\3\2\2\2\u00e6\u00e9\3\2\2\2\u00e7\u00e5\3\2\2\2\u00e7\u00e8"+
+		"\3\2\2\2\u00e8\u00ea\3\2\2\2\u00e9\u00e7\3\2\2\2\u00ea\u00eb\7\61\2\2"+
+		"\u00eb\u00ec\5R*\2\u00ec\u00ed\7%\2\2\u00ed\u00ee\5T+\2\u00ee\33\3\2\2"+
+		"\2\u00ef\u00f0\7;\2\2\u00f0\u00f1\5P)\2\u00f1\35\3\2\2\2\u00f2\u00f3\7"+
+		"!\2\2\u00f3\u00f4\7%\2\2\u00f4\u00f7\5R*\2\u00f5\u00f6\7?\2\2\u00f6\u00f8"+
+		"\5:\36\2\u00f7\u00f5\3\2\2\2\u00f7\u00f8\3\2\2\2\u00f8\37\3\2\2\2\u00f9"+
+		"\u00fa\7#\2\2\u00fa\u00fd\78\2\2\u00fb\u00fc\7\'\2\2\u00fc\u00fe\7$\2"+
+		"\2\u00fd\u00fb\3\2\2\2\u00fd\u00fe\3\2\2\2\u00fe\u00ff\3\2\2\2\u00ff\u0100"+
+		"\5R*\2\u0100!\3\2\2\2\u0101\u0102\7\67\2\2\u0102\u0103\7 \2\2\u0103#\3"+
+		"\2\2\2\u0104\u0105\7\63\2\2\u0105%\3\2\2\2\u0106\u0107\7\67\2\2\u0107"+
+		"\u0108\7\37\2\2\u0108\u0109\5P)\2\u0109\'\3\2\2\2\u010a\u010b\7*\2\2\u010b"+
+		"\u010c\7+\2\2\u010c\u0118\5R*\2\u010d\u010e\7\4\2\2\u010e\u0113\5V,\2"+
+		"\u010f\u0110\7\5\2\2\u0110\u0112\5V,\2\u0111\u010f\3\2\2\2\u0112\u0115"+
+		"\3\2\2\2\u0113\u0111\3\2\2\2\u0113\u0114\3\2\2\2\u0114\u0116\3\2\2\2\u0115"+
+		"\u0113\3\2\2\2\u0116\u0117\7\6\2\2\u0117\u0119\3\2\2\2\u0118\u010d\3\2"+
+		"\2\2\u0118\u0119\3\2\2\2\u0119\u011a\3\2\2\2\u011a\u011b\7=\2\2\u011b"+
+		"\u0120\5*\26\2\u011c\u011d\7\5\2\2\u011d\u011f\5*\26\2\u011e\u011c\3\2"+
+		"\2\2\u011f\u0122\3\2\2\2\u0120\u011e\3\2\2\2\u0120\u0121\3\2\2\2\u0121"+
+		")\3\2\2\2\u0122\u0120\3\2\2\2\u0123\u0124\7\4\2\2\u0124\u0129\5L\'\2\u0125"+
+		"\u0126\7\5\2\2\u0126\u0128\5L\'\2\u0127\u0125\3\2\2\2\u0128\u012b\3\2"+
+		"\2\2\u0129\u0127\3\2\2\2\u0129\u012a\3\2\2\2\u012a\u012c\3\2\2\2\u012b"+
+		"\u0129\3\2\2\2\u012c\u012d\7\6\2\2\u012d+\3\2\2\2\u012e\u0130\7\65\2\2"+
+		"\u012f\u0131\t\2\2\2\u0130\u012f\3\2\2\2\u0130\u0131\3\2\2\2\u0131\u0132"+
+		"\3\2\2\2\u0132\u0137\5F$\2\u0133\u0134\7\5\2\2\u0134\u0136\5F$\2\u0135"+
+		"\u0133\3\2\2\2\u0136\u0139\3\2\2\2\u0137\u0135\3\2\2\2\u0137\u0138\3\2"+
+		"\2\2\u0138\u013a\3\2\2\2\u0139\u0137\3\2\2\2\u013a\u013b\7%\2\2\u013b"+
+		"\u0140\5H%\2\u013c\u013d\7\5\2\2\u013d\u013f\5H%\2\u013e\u013c\3\2\2\2"+
+		"\u013f\u0142\3\2\2\2\u0140\u013e\3\2\2\2\u0140\u0141\3\2\2\2\u0141\u0145"+
+		"\3\2\2\2\u0142\u0140\3\2\2\2\u0143\u0144\7?\2\2\u0144\u0146\5:\36\2\u0145"+
+		"\u0143\3\2\2\2\u0145\u0146\3\2\2\2\u0146\u0149\3\2\2\2\u0147\u0148\7."+
+		"\2\2\u0148\u014a\7A\2\2\u0149\u0147\3\2\2\2\u0149\u014a\3\2\2\2\u014a"+
+		"-\3\2\2\2\u014b\u014c\7\36\2\2\u014c\u014d\7>\2\2\u014d\u014e\5X-\2\u014e"+
+		"\u014f\7\33\2\2\u014f\u0150\5,\27\2\u0150/\3\2\2\2\u0151\u0152\7#\2\2"+
+		"\u0152\u0155\7>\2\2\u0153\u0154\7\'\2\2\u0154\u0156\7$\2\2\u0155\u0153"+
+		"\3\2\2\2\u0155\u0156\3\2\2\2\u0156\u0157\3\2\2\2\u0157\u0158\5X-\2\u0158"+
+		"\61\3\2\2\2\u0159\u015a\7:\2\2\u015a\u015b\5R*\2\u015b\u015c\7\66\2\2"+
+		"\u015c\u015d\5V,\2\u015d\u015e\7\b\2\2\u015e\u0161\5B\"\2\u015f\u0160"+
+		"\7?\2\2\u0160\u0162\5:\36\2\u0161\u015f\3\2\2\2\u0161\u0162\3\2\2\2\u0162"+
+		"\63\3\2\2\2\u0163\u0164\5V,\2\u0164\u0168\5\66\34\2\u0165\u0167\58\35"+
+		"\2\u0166\u0165\3\2\2\2\u0167\u016a\3\2\2\2\u0168\u0166\3\2\2\2\u0168\u0169"+
+		"\3\2\2\2\u0169\65\3\2\2\2\u016a\u0168\3\2\2\2\u016b\u0174\7\24\2\2\u016c"+
+		"\u0174\7\25\2\2\u016d\u0174\7\26\2\2\u016e\u0174\7\27\2\2\u016f\u0170"+
+		"\7\30\2\2\u0170\u0171\7\4\2\2\u0171\u0172\7A\2\2\u0172\u0174\7\6\2\2\u0173"+
+		"\u016b\3\2\2\2\u0173\u016c\3\2\2\2\u0173\u016d\3\2\2\2\u0173\u016e\3\2"+
+		"\2\2\u0173\u016f\3\2\2\2\u0174\67\3\2\2\2\u0175\u0176\7\62\2\2\u0176\u017a"+
+		"\7-\2\2\u0177\u0178\7/\2\2\u0178\u017a\7\60\2\2\u0179\u0175\3\2\2\2\u0179"+
+		"\u0177\3\2\2\2\u017a9\3\2\2\2\u017b\u017c\b\36\1\2\u017c\u017d\5<\37\2"+
+		"\u017d\u0186\3\2\2\2\u017e\u017f\f\4\2\2\u017f\u0180\7\22\2\2\u0180\u0185"+
+		"\5:\36\5\u0181\u0182\f\3\2\2\u0182\u0183\7\23\2\2\u0183\u0185\5:\36\4"+
+		"\u0184\u017e\3\2\2\2\u0184\u0181\3\2\2\2\u0185\u0188\3\2\2\2\u0186\u0184"+
+		"\3\2\2\2\u0186\u0187\3\2\2\2\u0187;\3\2\2\2\u0188\u0186\3\2\2\2\u0189"+
+		"\u018a\5B\"\2\u018a\u018b\5@!\2\u018b\u018c\5B\"\2\u018c=\3\2\2\2\u018d"+
+		"\u0190\5N(\2\u018e\u0190\5L\'\2\u018f\u018d\3\2\2\2\u018f\u018e\3\2\2"+
+		"\2\u0190?\3\2\2\2\u0191\u0192\t\3\2\2\u0192A\3\2\2\2\u0193\u0194\b\"\1"+
+		"\2\u0194\u019a\5> \2\u0195\u0196\7\4\2\2\u0196\u0197\5B\"\2\u0197\u0198"+
+		"\7\6\2\2\u0198\u019a\3\2\2\2\u0199\u0193\3\2\2\2\u0199\u0195\3\2\2\2\u019a"+
+		"\u01a3\3\2\2\2\u019b\u019c\f\5\2\2\u019c\u019d\t\4\2\2\u019d\u01a2\5B"+
+		"\"\6\u019e\u019f\f\4\2\2\u019f\u01a0\t\5\2\2\u01a0\u01a2\5B\"\5\u01a1"+
+		"\u019b\3\2\2\2\u01a1\u019e\3\2\2\2\u01a2\u01a5\3\2\2\2\u01a3\u01a1\3\2"+
+		"\2\2\u01a3\u01a4\3\2\2\2\u01a4C\3\2\2\2\u01a5\u01a3\3\2\2\2\u01a6\u01a7"+
+		"\7\62\2\2\u01a7\u01a8\7-\2\2\u01a8\u01a9\7\4\2\2\u01a9\u01ae\5V,\2\u01aa"+
+		"\u01ab\7\5\2\2\u01ab\u01ad\5V,\2\u01ac\u01aa\3\2\2\2\u01ad\u01b0\3\2\2"+
+		"\2\u01ae\u01ac\3\2\2\2\u01ae\u01af\3\2\2\2\u01af\u01b1\3\2\2\2\u01b0\u01ae"+
+		"\3\2\2\2\u01b1\u01b2\7\6\2\2\u01b2E\3\2\2\2\u01b3\u01ba\7\20\2\2\u01b4"+
+		"\u01b5\5R*\2\u01b5\u01b6\7\7\2\2\u01b6\u01b7\7\20\2\2\u01b7\u01ba\3\2"+
+		"\2\2\u01b8\u01ba\5N(\2\u01b9\u01b3\3\2\2\2\u01b9\u01b4\3\2\2\2\u01b9\u01b8"+
+		"\3\2\2\2\u01baG\3\2\2\2\u01bb\u01c7\5R*\2\u01bc\u01bf\5R*\2\u01bd\u01be"+
+		"\7,\2\2\u01be\u01c0\5R*\2\u01bf\u01bd\3\2\2\2\u01c0\u01c1\3\2\2\2\u01c1"+
+		"\u01bf\3\2\2\2\u01c1\u01c2\3\2\2\2\u01c2\u01c3\3\2\2\2\u01c3\u01c4\7\61"+
+		"\2\2\u01c4\u01c5\5:\36\2\u01c5\u01c7\3\2\2\2\u01c6\u01bb\3\2\2\2\u01c6"+
+		"\u01bc\3\2\2\2\u01c7I\3\2\2\2\u01c8\u01c9\t\6\2\2\u01c9K\3\2\2\2\u01ca"+
+		"\u01cb\t\7\2\2\u01cbM\3\2\2\2\u01cc\u01cd\5R*\2\u01cd\u01ce\7\7\2\2\u01ce"+
+		"\u01d0\3\2\2\2\u01cf\u01cc\3\2\2\2\u01cf\u01d0\3\2\2\2\u01d0\u01d1\3\2"+
+		"\2\2\u01d1\u01d2\5V,\2\u01d2O\3\2\2\2\u01d3\u01d4\7@\2\2\u01d4Q\3\2\2"+
+		"\2\u01d5\u01d6\7@\2\2\u01d6S\3\2\2\2\u01d7\u01d8\7@\2\2\u01d8U\3\2\2\2"+
+		"\u01d9\u01da\7@\2\2\u01daW\3\2\2\2\u01db\u01dc\7@\2\2\u01dcY\3\2\2\2\u01dd"+
+		"\u01de\7@\2\2\u01de[\3\2\2\2\u01df\u01e0\7C\2\2\u01e0]\3\2\2\2)cjou\u008d"+
+		"\u0097\u00a6\u00b3\u00b8\u00cd\u00d9\u00e7\u00f7\u00fd\u0113\u0118\u0120"+
+		"\u0129\u0130\u0137\u0140\u0145\u0149\u0155\u0161\u0168\u0173\u0179\u0184"+
+		"\u0186\u018f\u0199\u01a1\u01a3\u01ae\u01b9\u01c1\u01c6\u01cf";
 	public static final ATN _ATN =
-			new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
 		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
 		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
@@ -64,6 +64,18 @@ public interface SQLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitShow_meta_stmt(SQLParser.Show_meta_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#create_index_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCreate_index_stmt(SQLParser.Create_index_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#drop_index_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SQLParser#grant_stmt}.
 	 * @param ctx the parse tree
@@ -262,6 +274,12 @@ public interface SQLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitView_name(SQLParser.View_nameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#index_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIndex_name(SQLParser.Index_nameContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SQLParser#password}.
 	 * @param ctx the parse tree
@@ -0,0 +1,42 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * select distinct：按各属性的值去重，只记住已经输出过的行。
+ */
+
+public class DistinctOperator extends QueryTable {
+
+  private final QueryTable child;
+  private final HashSet<List<Object>> seen = new HashSet<>();
+
+  public DistinctOperator(QueryTable child) {
+    this.child = child;
+    this.columns = child.columns;
+  }
+
+  @Override
+  protected Row fetch() {
+    while (child.hasNext()) {
+      Row row = child.next();
+      // 用值而不是 Cell 作键，null 值也能参与比较
+      List<Object> values = new ArrayList<>(row.getEntries().size());
+      for (Cell cell : row.getEntries())
+        values.add(cell.value);
+      if (seen.add(values))
+        return row;
+    }
+    return null;
+  }
+
+  @Override
+  public int estimated_rows() {
+    return child.estimated_rows();
+  }
+}
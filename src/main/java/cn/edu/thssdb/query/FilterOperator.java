@@ -0,0 +1,109 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.exception.ValueFormatInvalidException;
+import cn.edu.thssdb.parser.SQLParser;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static cn.edu.thssdb.schema.Column.parseEntry;
+
+/**
+ * 只放行满足 where / on 条件的行。
+ * 条件在构造时编译成 Predicate，列下标和常量只解析一次；含 null 的比较结果为假。
+ */
+
+public class FilterOperator extends QueryTable {
+
+  private final QueryTable child;
+  private final Predicate<Row> predicate;
+
+  public FilterOperator(QueryTable child, SQLParser.Multiple_conditionContext condition) {
+    this(child, compile(child.columns, condition));
+  }
+
+  public FilterOperator(QueryTable child, SQLParser.ConditionContext condition) {
+    this(child, compile(child.columns, condition));
+  }
+
+  private FilterOperator(QueryTable child, Predicate<Row> predicate) {
+    this.child = child;
+    this.columns = child.columns;
+    this.predicate = predicate;
+  }
+
+  @Override
+  protected Row fetch() {
+    while (child.hasNext()) {
+      Row row = child.next();
+      if (predicate.test(row))
+        return row;
+    }
+    return null;
+  }
+
+  @Override
+  public int estimated_rows() {
+    return child.estimated_rows();
+  }
+
+  public static Predicate<Row> compile(ArrayList<Column> columns, SQLParser.Multiple_conditionContext mc) {
+    if (mc.condition() != null)
+      return compile(columns, mc.condition());
+    Predicate<Row> left = compile(columns, mc.multiple_condition(0));
+    Predicate<Row> right = compile(columns, mc.multiple_condition(1));
+    return mc.AND() != null ? left.and(right) : left.or(right);
+  }
+
+  public static Predicate<Row> compile(ArrayList<Column> columns, SQLParser.ConditionContext condition) {
+    SQLParser.ComparerContext left = condition.expression(0).comparer();
+    SQLParser.ComparerContext right = condition.expression(1).comparer();
+    if (left == null || right == null || (left.column_full_name() == null && right.column_full_name() == null))
+      throw new ValueFormatInvalidException("(unsupported expression in condition)");
+
+    Function<Row, Cell> left_operand;
+    Function<Row, Cell> right_operand;
+    if (left.column_full_name() != null && right.column_full_name() != null) {
+      left_operand = column_operand(columns, left);
+      right_operand = column_operand(columns, right);
+    } else if (left.column_full_name() != null) {
+      left_operand = column_operand(columns, left);
+      right_operand = literal_operand(columns, left, right);
+    } else {
+      left_operand = literal_operand(columns, right, left);
+      right_operand = column_operand(columns, right);
+    }
+
+    SQLParser.ComparatorContext comparator = condition.comparator();
+    return row -> {
+      Cell left_value = left_operand.apply(row);
+      Cell right_value = right_operand.apply(row);
+      if (left_value.value == null || right_value.value == null)
+        return false;
+      int result = left_value.compareTo(right_value);
+      if (comparator.EQ() != null) return result == 0;
+      if (comparator.NE() != null) return result != 0;
+      if (comparator.LE() != null) return result <= 0;
+      if (comparator.GE() != null) return result >= 0;
+      if (comparator.LT() != null) return result < 0;
+      return result > 0;
+    };
+  }
+
+  private static Function<Row, Cell> column_operand(ArrayList<Column> columns, SQLParser.ComparerContext comparer) {
+    int index = resolve_column(columns, comparer.column_full_name().getText().toLowerCase());
+    return row -> row.getEntries().get(index);
+  }
+
+  // 常量按另一侧列的类型解析
+  private static Function<Row, Cell> literal_operand(ArrayList<Column> columns, SQLParser.ComparerContext column,
+                                                     SQLParser.ComparerContext literal) {
+    int index = resolve_column(columns, column.column_full_name().getText().toLowerCase());
+    Cell value = parseEntry(literal.literal_value().getText(), columns.get(index));
+    return row -> value;
+  }
+}
@@ -0,0 +1,178 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.SQLParser;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**
+ * 连接两个 QueryTable，输出行为左表全部属性加上右表 right_output 指定的属性。
+ * 有连接键时做 hash join：在估计较小的一侧建 hash 表，另一侧逐行探测，只生成匹配的行；
+ * 没有连接键时为笛卡尔积，右表物化，左表逐行流过。键中含 null 的行不参与匹配。
+ */
+
+public class JoinOperator extends QueryTable {
+
+  private final QueryTable left;
+  private final QueryTable right;
+  private final int[] left_keys;
+  private final int[] right_keys;
+  private final int[] right_output;
+  private final boolean build_left;
+
+  private HashMap<ArrayList<Cell>, ArrayList<Row>> hash_table;
+  private ArrayList<Row> build_rows;
+  private Row probe_row;
+  private Iterator<Row> matches;
+
+  private JoinOperator(QueryTable left, QueryTable right, int[] left_keys, int[] right_keys, int[] right_output) {
+    this.left = left;
+    this.right = right;
+    this.left_keys = left_keys;
+    this.right_keys = right_keys;
+    this.right_output = right_output;
+    this.build_left = left_keys != null && left.estimated_rows() >= 0 && right.estimated_rows() >= 0
+            && left.estimated_rows() < right.estimated_rows();
+    this.columns = new ArrayList<>(left.columns);
+    for (int index : right_output)
+      this.columns.add(right.columns.get(index));
+  }
+
+  /**
+   * table_a JOIN table_b ON condition
+   */
+  public static QueryTable join_on(QueryTable left, QueryTable right, SQLParser.ConditionContext join_condition) {
+    int[] join_keys = equi_join_keys(left, right, join_condition);
+    if (join_keys != null)
+      return new JoinOperator(left, right, new int[]{join_keys[0]}, new int[]{join_keys[1]}, all_columns(right));
+    return new FilterOperator(cross_join(left, right), join_condition);
+  }
+
+  public static QueryTable cross_join(QueryTable left, QueryTable right) {
+    return new JoinOperator(left, right, null, null, all_columns(right));
+  }
+
+  /**
+   * 自然连接：以同名属性为键，右表的同名属性不再输出；没有同名属性时退化为笛卡尔积
+   */
+  public static QueryTable natural_join(QueryTable left, QueryTable right) {
+    ArrayList<Integer> left_key_list = new ArrayList<>();
+    ArrayList<Integer> right_key_list = new ArrayList<>();
+    ArrayList<Integer> right_output_list = new ArrayList<>();
+    for (int i = 0; i < right.columns.size(); i++) {
+      String real_name = get_real_column_name(right.columns.get(i).getColumnName().toLowerCase());
+      int left_index = get_real_name_column_index(left.columns, real_name);
+      if (left_index >= 0) {
+        left_key_list.add(left_index);
+        right_key_list.add(i);
+      } else {
+        right_output_list.add(i);
+      }
+    }
+    if (left_key_list.isEmpty())
+      return cross_join(left, right);
+    return new JoinOperator(left, right, to_array(left_key_list), to_array(right_key_list), to_array(right_output_list));
+  }
+
+  @Override
+  protected Row fetch() {
+    if (build_rows == null && hash_table == null)
+      build();
+    QueryTable probe = build_left ? right : left;
+    int[] probe_keys = build_left ? right_keys : left_keys;
+    while (true) {
+      if (matches != null && matches.hasNext()) {
+        Row build_row = matches.next();
+        return combine(build_left ? build_row : probe_row, build_left ? probe_row : build_row);
+      }
+      if (!probe.hasNext())
+        return null;
+      probe_row = probe.next();
+      if (hash_table == null) {
+        matches = build_rows.iterator();
+      } else {
+        ArrayList<Cell> key = join_key(probe_row, probe_keys);
+        ArrayList<Row> found = key == null ? null : hash_table.get(key);
+        matches = found == null ? null : found.iterator();
+      }
+    }
+  }
+
+  private void build() {
+    QueryTable build = build_left ? left : right;
+    if (left_keys == null) {
+      build_rows = new ArrayList<>();
+      while (build.hasNext())
+        build_rows.add(build.next());
+      return;
+    }
+    int[] build_keys = build_left ? left_keys : right_keys;
+    hash_table = new HashMap<>();
+    while (build.hasNext()) {
+      Row row = build.next();
+      ArrayList<Cell> key = join_key(row, build_keys);
+      if (key == null) continue;
+      hash_table.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+    }
+  }
+
+  private Row combine(Row left_row, Row right_row) {
+    Row new_row = new Row(left_row.getEntries());
+    for (int index : right_output)
+      new_row.getEntries().add(right_row.getEntries().get(index));
+    return new_row;
+  }
+
+  /**
+   * 判断连接条件是否为 "左表列 = 右表列"（两侧可互换），
+   * 是则返回 {左表中的列下标, 右表中的列下标}，否则返回 null
+   */
+  private static int[] equi_join_keys(QueryTable left, QueryTable right, SQLParser.ConditionContext condition) {
+    if (condition.comparator().EQ() == null)
+      return null;
+    SQLParser.ComparerContext left_comparer = condition.expression(0).comparer();
+    SQLParser.ComparerContext right_comparer = condition.expression(1).comparer();
+    if (left_comparer == null || left_comparer.column_full_name() == null
+            || right_comparer == null || right_comparer.column_full_name() == null)
+      return null;
+    ArrayList<Column> columns = new ArrayList<>(left.columns);
+    columns.addAll(right.columns);
+    int left_size = left.columns.size();
+    int left_index = resolve_column(columns, left_comparer.column_full_name().getText().toLowerCase());
+    int right_index = resolve_column(columns, right_comparer.column_full_name().getText().toLowerCase());
+    if (left_index < left_size && right_index >= left_size)
+      return new int[]{left_index, right_index - left_size};
+    if (right_index < left_size && left_index >= left_size)
+      return new int[]{right_index, left_index - left_size};
+    return null;
+  }
+
+  private static ArrayList<Cell> join_key(Row row, int[] key_indexes) {
+    ArrayList<Cell> key = new ArrayList<>(key_indexes.length);
+    for (int index : key_indexes) {
+      Cell cell = row.getEntries().get(index);
+      if (cell.value == null)
+        return null;
+      key.add(cell);
+    }
+    return key;
+  }
+
+  private static int[] all_columns(QueryTable table) {
+    int[] indexes = new int[table.columns.size()];
+    for (int i = 0; i < indexes.length; i++)
+      indexes[i] = i;
+    return indexes;
+  }
+
+  private static int[] to_array(ArrayList<Integer> list) {
+    int[] array = new int[list.size()];
+    for (int i = 0; i < array.length; i++)
+      array[i] = list.get(i);
+    return array;
+  }
+}
@@ -0,0 +1,34 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Row;
+
+/**
+ * select ... limit n：取够 n 行后不再向下游拉取。
+ */
+
+public class LimitOperator extends QueryTable {
+
+  private final QueryTable child;
+  private final int limit;
+  private int count;
+
+  public LimitOperator(QueryTable child, int limit) {
+    this.child = child;
+    this.columns = child.columns;
+    this.limit = limit;
+  }
+
+  @Override
+  protected Row fetch() {
+    if (count >= limit || !child.hasNext())
+      return null;
+    count++;
+    return child.next();
+  }
+
+  @Override
+  public int estimated_rows() {
+    int child_rows = child.estimated_rows();
+    return child_rows < 0 ? limit : Math.min(limit, child_rows);
+  }
+}
@@ -0,0 +1,45 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+
+/**
+ * 投影：只保留 select 列表中的属性，列名取 select 中写出的名字。
+ */
+
+public class ProjectOperator extends QueryTable {
+
+  private final QueryTable child;
+  private final int[] column_indexes;
+
+  public ProjectOperator(QueryTable child, ArrayList<String> column_names) {
+    this.child = child;
+    this.columns = new ArrayList<>();
+    this.column_indexes = new int[column_names.size()];
+    for (int i = 0; i < column_names.size(); i++) {
+      column_indexes[i] = resolve_column(child.columns, column_names.get(i));
+      Column column = child.columns.get(column_indexes[i]);
+      this.columns.add(new Column(column_names.get(i), column.getColumnType(), column.getPrimary(),
+              column.cantBeNull(), column.getMaxLength()));
+    }
+  }
+
+  @Override
+  protected Row fetch() {
+    if (!child.hasNext())
+      return null;
+    Row row = child.next();
+    ArrayList<Cell> entries = new ArrayList<>(column_indexes.length);
+    for (int index : column_indexes)
+      entries.add(row.getEntries().get(index));
+    return new Row(entries);
+  }
+
+  @Override
+  public int estimated_rows() {
+    return child.estimated_rows();
+  }
+}
@@ -1,48 +1,136 @@
 package cn.edu.thssdb.query;
 
 
+import cn.edu.thssdb.schema.Column;
 import cn.edu.thssdb.schema.MetaInfo;
 import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.Snapshot;
+import cn.edu.thssdb.schema.Table;
+import cn.edu.thssdb.schema.VersionManager;
+import cn.edu.thssdb.type.ColumnType;
 import cn.edu.thssdb.type.QueryResultType;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.TreeMap;
 
 /**
  * Designed to hold general query result:
  * In SQL result, the returned answer could be QueryTable OR an error message
- * For errors, resultType = QueryResultType.MESSAGE, see Construct method.
+ * For errors, resultType = QueryResultType.ERROR and errorMessage holds the error.
  * For results, it will hold QueryTable.
+ * Rows are pulled from the QueryTable in batches through fetch, so a large result
+ * never has to be materialized at once. The rows come from the snapshot the statement
+ * opened, so no table lock is taken; each batch holds the tables' read latches only
+ * while it is read, and the snapshot is released once the result is exhausted or closed.
  */
 
 public class QueryResult {
 
   public final QueryResultType resultType;
   public final String errorMessage; // If it is an error.
+  // rows inserted, deleted or updated by the statement
+  public final int affectedRows;
 
   private List<MetaInfo> metaInfoInfos;
   private List<String> columnNames;
 
-  public List<Row> results;
+  private QueryTable queryTable;
+  private List<Table> readTables;
+  private Snapshot snapshot;
 
   public QueryResult(QueryTable[] queryTables) {
     this.resultType = QueryResultType.SELECT;
     this.errorMessage = null;
+    this.affectedRows = 0;
     // TODO
   }
 
   public QueryResult(String errorMessage){
+    this(errorMessage, 0);
+  }
+
+  public QueryResult(String message, int affectedRows) {
     resultType = QueryResultType.MESSAGE;
+    this.errorMessage = message;
+    this.affectedRows = affectedRows;
+  }
+
+  // the statement's transaction was aborted, e.g. chosen as a deadlock victim
+  public QueryResult(QueryResultType resultType, String errorMessage) {
+    this.resultType = resultType;
     this.errorMessage = errorMessage;
+    this.affectedRows = 0;
   }
 
-  public QueryResult(ArrayList<Row> rows, ArrayList<String> columnNames) {
+  // readTables must be in latchOrder
+  public QueryResult(QueryTable queryTable, List<Table> readTables, Snapshot snapshot, ArrayList<String> columnNames) {
     this.resultType = QueryResultType.SELECT;
     this.errorMessage = null;
-    this.results = rows;
+    this.affectedRows = 0;
+    this.queryTable = queryTable;
+    this.readTables = readTables;
+    this.snapshot = snapshot;
     this.columnNames = columnNames;
   }
+
+  // each table once, in a fixed order, so readers latching several tables agree on the order
+  public static ArrayList<Table> latchOrder(List<Table> tables) {
+    TreeMap<String, Table> ordered = new TreeMap<>();
+    for (Table table : tables)
+      ordered.put(table.tableName, table);
+    return new ArrayList<>(ordered.values());
+  }
+
+  /**
+   * Pull at most maxRows rows, maxRows <= 0 pulls every remaining row.
+   */
+  public synchronized ArrayList<Row> fetch(int maxRows) {
+    ArrayList<Row> rows = new ArrayList<>();
+    if (snapshot == null)
+      return rows;
+    boolean more;
+    try {
+      for (Table table : readTables) {
+        table.takeReadLatch();
+      }
+      while ((maxRows <= 0 || rows.size() < maxRows) && queryTable.hasNext()) {
+        rows.add(queryTable.next());
+      }
+      // look ahead while still latched, the operators are not called once the latches are released
+      more = queryTable.hasNext();
+    } finally {
+      for (Table table : readTables) {
+        table.releaseReadLatch();
+      }
+    }
+    if (!more)
+      close();
+    return rows;
+  }
+
+  // after fetch the next row is already buffered, or the result is closed when there is none
+  public synchronized boolean hasMoreRows() {
+    return snapshot != null && queryTable.hasNext();
+  }
+
+  // release the snapshot, the remaining rows are dropped
+  public synchronized void close() {
+    if (snapshot == null)
+      return;
+    VersionManager.getInstance().closeSnapshot(snapshot);
+    snapshot = null;
+  }
+
+  // the statement failed, or its transaction was aborted
+  public boolean isError() {
+    return resultType == QueryResultType.ERROR || resultType == QueryResultType.ABORT;
+  }
+
+  public long getSession() {
+    return snapshot == null ? -1 : snapshot.getSession();
+  }
   public static Row combineRow(LinkedList<Row> rows) {
     // TODO
     return null;
@@ -54,4 +142,11 @@ public class QueryResult {
   }
 
   public List<String> getColumnNames(){return this.columnNames;}
+
+  public List<ColumnType> getColumnTypes() {
+    ArrayList<ColumnType> columnTypes = new ArrayList<>();
+    for (Column column : queryTable.columns)
+      columnTypes.add(column.getColumnType());
+    return columnTypes;
+  }
 }
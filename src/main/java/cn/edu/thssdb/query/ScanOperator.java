@@ -0,0 +1,44 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.Table;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+ * 扫描一张表，列名为 "表名.列名"。
+ * rowIterator 可以是全表扫描，也可以是主键索引或二级索引上的范围扫描。
+ */
+
+public class ScanOperator extends QueryTable {
+
+  private final Iterator<Row> row_iterator;
+  private final int table_size;
+
+  public ScanOperator(Table table) {
+    this(table, table.iterator());
+  }
+
+  public ScanOperator(Table table, Iterator<Row> row_iterator) {
+    this.columns = new ArrayList<>();
+    for (Column column : table.columns) {
+      Column new_column = new Column(table.tableName + "." + column.getColumnName(),
+              column.getColumnType(), column.getPrimary(), column.cantBeNull(), column.getMaxLength());
+      this.columns.add(new_column);
+    }
+    this.row_iterator = row_iterator;
+    this.table_size = table.index.size();
+  }
+
+  @Override
+  protected Row fetch() {
+    return row_iterator.hasNext() ? row_iterator.next() : null;
+  }
+
+  @Override
+  public int estimated_rows() {
+    return table_size;
+  }
+}
@@ -0,0 +1,58 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.common.Pair;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Clean pages of all table files, cached in LRU order up to BUFFER_POOL_PAGES pages.
+ * A page changed by a persist is pinned by its PageFile until the file is flushed and only then
+ * handed back to the pool, so evicting a page never has to write it and never loses a change.
+ */
+
+public class BufferPool {
+
+    private static final BufferPool INSTANCE = new BufferPool(Global.BUFFER_POOL_PAGES);
+
+    private final int capacity;
+    private final LinkedHashMap<Pair<PageFile, Integer>, Page> pages = new LinkedHashMap<>(16, 0.75f, true);
+
+    private BufferPool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public static BufferPool getInstance() {
+        return INSTANCE;
+    }
+
+    synchronized Page get(PageFile file, int pageId) {
+        return pages.get(new Pair<>(file, pageId));
+    }
+
+    synchronized void put(PageFile file, Page page) {
+        pages.put(new Pair<>(file, page.pageId), page);
+        Iterator<Page> eldest = pages.values().iterator();
+        while (pages.size() > capacity) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    synchronized void remove(PageFile file, int pageId) {
+        pages.remove(new Pair<>(file, pageId));
+    }
+
+    synchronized void discard(PageFile file) {
+        Iterator<Map.Entry<Pair<PageFile, Integer>, Page>> iterator = pages.entrySet().iterator();
+        while (iterator.hasNext())
+            if (iterator.next().getKey().left == file)
+                iterator.remove();
+    }
+
+    public synchronized int size() {
+        return pages.size();
+    }
+}
@@ -0,0 +1,67 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+
+/**
+ * Background checkpointer.
+ * It checkpoints every database whose log has records once CHECKPOINT_INTERVAL has passed since the
+ * last round, and earlier any database whose log has grown beyond CHECKPOINT_LOG_SIZE, which a
+ * committing transaction reports through request. Committers never wait for a checkpoint.
+ */
+
+public class Checkpointer extends Thread {
+
+    private final Manager manager;
+    private boolean requested = false;
+    private boolean stopped = false;
+
+    Checkpointer(Manager manager) {
+        super("checkpointer");
+        this.manager = manager;
+        setDaemon(true);
+    }
+
+    public synchronized void request() {
+        requested = true;
+        notifyAll();
+    }
+
+    synchronized void shutdown() {
+        stopped = true;
+        notifyAll();
+    }
+
+    @Override
+    public void run() {
+        long lastRound = System.currentTimeMillis();
+        while (true) {
+            synchronized (this) {
+                long remaining;
+                while (!stopped && !requested
+                        && (remaining = lastRound + Global.CHECKPOINT_INTERVAL - System.currentTimeMillis()) > 0) {
+                    try {
+                        wait(remaining);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (stopped)
+                    return;
+                requested = false;
+            }
+            boolean timeUp = System.currentTimeMillis() - lastRound >= Global.CHECKPOINT_INTERVAL;
+            for (Database database : manager.getDatabases()) {
+                long size = database.getLog().size();
+                if (size == 0 || (!timeUp && size <= Global.CHECKPOINT_LOG_SIZE))
+                    continue;
+                try {
+                    manager.checkpoint(database);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+            if (timeUp)
+                lastRound = System.currentTimeMillis();
+        }
+    }
+}
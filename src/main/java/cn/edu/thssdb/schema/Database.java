@@ -21,6 +21,9 @@ public class Database {
   private String databaseName;
   private HashMap<String, Table> tableMap;
   private static ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private WriteAheadLog log;
+  // 检查点与关闭数据库不能同时落盘
+  private final Object checkpointLock = new Object();
 
   public Database(String databaseName) {
     this.databaseName = databaseName;
@@ -34,8 +37,10 @@ public class Database {
 
   // Operations: (basic) persist, create tables
   private void persist() {
-    // 把各表的元数据写到磁盘上
+    // 把各表的元数据写到磁盘上；没有读入过的表的元数据没有变化，跳过
     for (Table table : this.tableMap.values()) {
+      if (!table.isLoaded())
+        continue;
       String filename = table.getTableMetaPath();
       ArrayList<Column> columns = table.columns;
       try {
@@ -48,6 +53,28 @@ public class Database {
       } catch (Exception e) {
         throw new FileIOException(filename);
       }
+      persistIndexes(table);
+    }
+  }
+
+  // 二级索引的元数据写在 _meta 旁边，每行 "索引名,列名"，索引数据在恢复时重建
+  private void persistIndexes(Table table) {
+    String filename = table.getTableIndexMetaPath();
+    File file = new File(filename);
+    if (table.getSecondaryIndexes().isEmpty()) {
+      if (file.isFile() && !file.delete())
+        throw new FileIOException(filename);
+      return;
+    }
+    try {
+      FileOutputStream fileOutputStream = new FileOutputStream(filename);
+      OutputStreamWriter outputStreamWriter = new OutputStreamWriter(fileOutputStream);
+      for (SecondaryIndex secondaryIndex : table.getSecondaryIndexes())
+        outputStreamWriter.write(secondaryIndex.toString() + "\n");
+      outputStreamWriter.close();
+      fileOutputStream.close();
+    } catch (Exception e) {
+      throw new FileIOException(filename);
     }
   }
 
@@ -57,6 +84,7 @@ public class Database {
       if (this.tableMap.containsKey(tableName))
         throw new DuplicateTableException(tableName);
       Table table = new Table(this.databaseName, tableName, columns);
+      table.load();
       this.tableMap.put(tableName, table);
       this.persist();
     } finally {
@@ -64,8 +92,18 @@ public class Database {
     }
   }
 
+  public void createIndex(String tableName, String indexName, String columnName) {
+    get(tableName).createIndex(indexName, columnName);
+    this.persist();
+  }
+
+  public void dropIndex(String tableName, String indexName) {
+    get(tableName).dropIndex(indexName);
+    this.persist();
+  }
+
   /**
-   * 获取对应的表
+   * 获取对应的表，表的数据在第一次获取时才读入
    * @param tableName
    * @return
    */
@@ -74,7 +112,10 @@ public class Database {
       // TODO add lock control.
       if (!this.tableMap.containsKey(tableName))
         throw new TableNotExistException(tableName);
-      return this.tableMap.get(tableName);
+      Table table = this.tableMap.get(tableName);
+      if (!table.isLoaded())
+        table.load();
+      return table;
     } finally {
       // TODO add lock control.
     }
@@ -90,6 +131,9 @@ public class Database {
       File file = new File(filename);
       if (file.isFile() && !file.delete())
         throw new FileIOException(tableName + " _meta  when drop a table in database");
+      File indexFile = new File(table.getTableIndexMetaPath());
+      if (indexFile.isFile() && !indexFile.delete())
+        throw new FileIOException(tableName + " index meta when drop a table in database");
 
       table.dropTable();
       this.tableMap.remove(tableName);
@@ -105,6 +149,9 @@ public class Database {
         File file = new File(table.getTableMetaPath());
         if (file.isFile()&&!file.delete())
           throw new FileIOException(this.databaseName + " _meta when drop the database");
+        File indexFile = new File(table.getTableIndexMetaPath());
+        if (indexFile.isFile() && !indexFile.delete())
+          throw new FileIOException(this.databaseName + " index meta when drop the database");
         table.dropTable();
       }
       this.tableMap.clear();
@@ -114,6 +161,7 @@ public class Database {
     }
   }
 
+  // 启动时只读各表的 _meta，得到表结构；表文件留到第一次使用时再读
   private void recover() {
     System.out.println("! try to recover database " + this.databaseName);
     File tableFolder = new File(this.getDatabaseTableFolderPath());
@@ -124,35 +172,48 @@ public class Database {
     for (File file : files) {
       if (!file.isFile() || !file.getName().endsWith(Global.META_SUFFIX)) continue;
       try {
-        String fileName = file.getName();
-        String tableName = fileName.substring(0,fileName.length()-Global.META_SUFFIX.length());
-        if (this.tableMap.containsKey(tableName))
-          throw new DuplicateTableException(tableName);
-
-        ArrayList<Column> columnList = new ArrayList<>();
-        InputStreamReader reader = new InputStreamReader(new FileInputStream(file));
-        BufferedReader bufferedReader = new BufferedReader(reader);
-        String readLine;
-        while ((readLine = bufferedReader.readLine()) != null)
-          columnList.add(Column.parseColumn(readLine));
-        bufferedReader.close();
-        reader.close();
-        Table table = new Table(this.databaseName, tableName, columnList.toArray(new Column[0]));
-        System.out.println(table.toString());
-        for(Row row: table)
-          System.out.println(row.toString());
-        this.tableMap.put(tableName, table);
+        Table table = recoverTable(file);
+        this.tableMap.put(table.tableName, table);
       } catch (Exception ignored) {
       }
     }
   }
 
+  private Table recoverTable(File metaFile) throws IOException {
+    String fileName = metaFile.getName();
+    String tableName = fileName.substring(0,fileName.length()-Global.META_SUFFIX.length());
+    ArrayList<Column> columnList = new ArrayList<>();
+    InputStreamReader reader = new InputStreamReader(new FileInputStream(metaFile));
+    BufferedReader bufferedReader = new BufferedReader(reader);
+    String readLine;
+    while ((readLine = bufferedReader.readLine()) != null)
+      columnList.add(Column.parseColumn(readLine));
+    bufferedReader.close();
+    reader.close();
+    Table table = new Table(this.databaseName, tableName, columnList.toArray(new Column[0]));
+    System.out.println(table.toString());
+    return table;
+  }
+
+  // 建表、删表和改索引时元数据已经写盘，这里只落盘表数据，没有改动的表直接跳过
   public void quit() {
-    try {
+    synchronized (checkpointLock) {
       for (Table table : this.tableMap.values())
         table.persist();
-      this.persist();
-    } finally {
+    }
+  }
+
+  /**
+   * 检查点：事务继续执行的同时把各表已提交的数据落盘，然后截断 redoLsn 之前的日志。
+   * redoLsn 须在落盘开始前取得，之后才提交的事务的日志记录都不早于它，恢复时会重做。
+   */
+  public void checkpoint(long redoLsn) {
+    synchronized (checkpointLock) {
+      if (this.tableMap == null)
+        return;
+      for (Table table : new ArrayList<>(this.tableMap.values()))
+        table.persist();
+      this.getLog().truncateBefore(redoLsn);
     }
   }
 
@@ -167,6 +228,19 @@ public class Database {
 
 
 
+  // 数据库的预写日志，第一次使用时打开
+  public synchronized WriteAheadLog getLog() {
+    if (this.log == null)
+      this.log = new WriteAheadLog(this.getDatabaseLogFilePath());
+    return this.log;
+  }
+
+  public synchronized void closeLog() {
+    if (this.log != null)
+      this.log.close();
+    this.log = null;
+  }
+
   // Find position
   public String getDatabasePath(){
     return Global.DBMS_DIR + File.separator + "data" + File.separator + this.databaseName;
@@ -0,0 +1,281 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.DeadlockException;
+import cn.edu.thssdb.exception.LockTimeoutException;
+import cn.edu.thssdb.type.LockMode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Central table lock manager.
+ * Each table keeps a FIFO queue of waiting requests. A request is granted once it is compatible
+ * with the current holders and nothing is queued ahead of it; every waiter sleeps on its own
+ * condition, so a release wakes exactly the requests it grants.
+ * A session that holds S and asks for X upgrades in place and goes to the head of the queue.
+ *
+ * Whenever a request has to wait, the wait-for graph (waiter -> holders and queued requests ahead
+ * of it) is searched for a cycle through the new waiter. Any new cycle must pass through it, so
+ * checking on wait is enough. The youngest transaction on the cycle is the victim: its request is
+ * dropped, acquire throws DeadlockException, and the caller rolls the transaction back.
+ * With Global.LOCK_WAIT_TIMEOUT set, a request still waiting after that long is dropped the same
+ * way and acquire throws LockTimeoutException. This bounds how long a waiter can keep a worker
+ * thread, which matters when a few workers serve every connection.
+ */
+
+public class LockManager {
+
+    private static final LockManager INSTANCE = new LockManager();
+
+    private final ReentrantLock latch = new ReentrantLock();
+    private final IdentityHashMap<Table, TableLock> tableLocks = new IdentityHashMap<>();
+    // the request each blocked session is waiting on, i.e. the nodes of the wait-for graph
+    private final HashMap<Long, Request> waiting = new HashMap<>();
+    // transaction start order, a larger stamp is a younger transaction
+    private final HashMap<Long, Long> transactionStamps = new HashMap<>();
+    private long nextStamp = 0;
+    // sessions whose request was dropped, with the reason, until the statement checks
+    private final HashMap<Long, RuntimeException> abortedSessions = new HashMap<>();
+
+    public static LockManager getInstance() {
+        return INSTANCE;
+    }
+
+    private static class Request {
+        final long session;
+        final LockMode mode;
+        final TableLock lock;
+        final Condition condition;
+        boolean granted = false;
+        RuntimeException abortCause = null;
+
+        Request(long session, LockMode mode, TableLock lock, Condition condition) {
+            this.session = session;
+            this.mode = mode;
+            this.lock = lock;
+            this.condition = condition;
+        }
+    }
+
+    private static class TableLock {
+        final HashSet<Long> sharedHolders = new HashSet<>();
+        Long exclusiveHolder = null;
+        final LinkedList<Request> waiters = new LinkedList<>();
+
+        boolean compatible(Request request) {
+            if (exclusiveHolder != null)
+                return exclusiveHolder == request.session;
+            if (request.mode == LockMode.SHARED)
+                return true;
+            return sharedHolders.isEmpty() || (sharedHolders.size() == 1 && sharedHolders.contains(request.session));
+        }
+
+        boolean idle() {
+            return exclusiveHolder == null && sharedHolders.isEmpty() && waiters.isEmpty();
+        }
+    }
+
+    /**
+     * Block until the session holds the lock in the given mode.
+     * Returns false if the session already held a lock covering that mode.
+     */
+    public boolean acquire(Table table, long session, LockMode mode) {
+        latch.lock();
+        try {
+            TableLock lock = tableLocks.computeIfAbsent(table, t -> new TableLock());
+            if (lock.exclusiveHolder != null && lock.exclusiveHolder == session)
+                return false;
+            if (mode == LockMode.SHARED && lock.sharedHolders.contains(session))
+                return false;
+            Request request = new Request(session, mode, lock, latch.newCondition());
+            if (mode == LockMode.EXCLUSIVE && lock.sharedHolders.contains(session))
+                lock.waiters.addFirst(request);
+            else
+                lock.waiters.addLast(request);
+            grant(lock);
+            if (!request.granted) {
+                waiting.put(session, request);
+                resolveDeadlocks(session);
+            }
+            await(request);
+            waiting.remove(session);
+            if (request.abortCause != null) {
+                if (lock.idle())
+                    tableLocks.remove(table);
+                throw request.abortCause;
+            }
+            return true;
+        } finally {
+            latch.unlock();
+        }
+    }
+
+    // wait to be granted or aborted; past the timeout the request is dropped
+    private void await(Request request) {
+        long timeout = Global.LOCK_WAIT_TIMEOUT;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        boolean interrupted = false;
+        while (!request.granted && request.abortCause == null) {
+            if (timeout <= 0) {
+                request.condition.awaitUninterruptibly();
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                abort(request, new LockTimeoutException());
+                break;
+            }
+            try {
+                request.condition.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    public void release(Table table, long session, LockMode mode) {
+        latch.lock();
+        try {
+            TableLock lock = tableLocks.get(table);
+            if (lock == null)
+                return;
+            if (mode == LockMode.SHARED)
+                lock.sharedHolders.remove(session);
+            else if (lock.exclusiveHolder != null && lock.exclusiveHolder == session)
+                lock.exclusiveHolder = null;
+            grant(lock);
+            if (lock.idle())
+                tableLocks.remove(table);
+        } finally {
+            latch.unlock();
+        }
+    }
+
+    public void beginTransaction(long session) {
+        latch.lock();
+        try {
+            transactionStamps.put(session, nextStamp++);
+        } finally {
+            latch.unlock();
+        }
+    }
+
+    public void endTransaction(long session) {
+        latch.lock();
+        try {
+            transactionStamps.remove(session);
+        } finally {
+            latch.unlock();
+        }
+    }
+
+    /**
+     * Why the request of the session was dropped since the last call (deadlock victim or lock wait
+     * timeout), or null. The statement that saw the exception may have swallowed it, so callers
+     * check here.
+     */
+    public RuntimeException takeAbortCause(long session) {
+        latch.lock();
+        try {
+            return abortedSessions.remove(session);
+        } finally {
+            latch.unlock();
+        }
+    }
+
+    private void resolveDeadlocks(long session) {
+        ArrayList<Long> cycle;
+        while (waiting.containsKey(session) && (cycle = findCycle(session)) != null) {
+            long victim = cycle.get(0);
+            for (long member : cycle) {
+                if (age(member) > age(victim))
+                    victim = member;
+            }
+            abort(waiting.get(victim), new DeadlockException());
+        }
+    }
+
+    // drop a waiting request; requests queued behind it may be grantable now
+    private void abort(Request request, RuntimeException cause) {
+        waiting.remove(request.session);
+        request.lock.waiters.remove(request);
+        request.abortCause = cause;
+        abortedSessions.put(request.session, cause);
+        request.condition.signal();
+        grant(request.lock);
+    }
+
+    // sessions not in a transaction count as the youngest
+    private long age(long session) {
+        Long stamp = transactionStamps.get(session);
+        return stamp == null ? Long.MAX_VALUE : stamp;
+    }
+
+    // a cycle of the wait-for graph through start, in path order, or null
+    private ArrayList<Long> findCycle(long start) {
+        ArrayList<Long> path = new ArrayList<>();
+        path.add(start);
+        return findCycle(start, path, new HashSet<>()) ? path : null;
+    }
+
+    private boolean findCycle(long start, ArrayList<Long> path, HashSet<Long> visited) {
+        long current = path.get(path.size() - 1);
+        for (long next : waitsFor(current)) {
+            if (next == start)
+                return true;
+            if (!waiting.containsKey(next) || !visited.add(next))
+                continue;
+            path.add(next);
+            if (findCycle(start, path, visited))
+                return true;
+            path.remove(path.size() - 1);
+        }
+        return false;
+    }
+
+    private HashSet<Long> waitsFor(long session) {
+        HashSet<Long> sessions = new HashSet<>();
+        Request request = waiting.get(session);
+        if (request == null)
+            return sessions;
+        TableLock lock = request.lock;
+        if (lock.exclusiveHolder != null)
+            sessions.add(lock.exclusiveHolder);
+        if (request.mode == LockMode.EXCLUSIVE)
+            sessions.addAll(lock.sharedHolders);
+        for (Request ahead : lock.waiters) {
+            if (ahead == request)
+                break;
+            sessions.add(ahead.session);
+        }
+        sessions.remove(session);
+        return sessions;
+    }
+
+    // grant queued requests in order until the first one that has to keep waiting
+    private void grant(TableLock lock) {
+        Iterator<Request> iterator = lock.waiters.iterator();
+        while (iterator.hasNext()) {
+            Request request = iterator.next();
+            if (!lock.compatible(request))
+                break;
+            iterator.remove();
+            if (request.mode == LockMode.SHARED)
+                lock.sharedHolders.add(request.session);
+            else
+                lock.exclusiveHolder = request.session;
+            request.granted = true;
+            request.condition.signal();
+        }
+    }
+}
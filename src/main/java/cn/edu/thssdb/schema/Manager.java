@@ -2,15 +2,24 @@ package cn.edu.thssdb.schema;
 
 import cn.edu.thssdb.exception.DatabaseNotExistException;
 import cn.edu.thssdb.exception.FileIOException;
+import cn.edu.thssdb.exception.RecoveryException;
+import cn.edu.thssdb.exception.TableNotExistException;
 import cn.edu.thssdb.parser.SQLHandler;
 import cn.edu.thssdb.query.QueryResult;
 import cn.edu.thssdb.common.Global;
 import com.sun.org.apache.bcel.internal.Const;
 
 import java.io.*;
-import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 
@@ -20,12 +29,15 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public class Manager {
     private HashMap<String, Database> databases;
     private static ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private static HashMap<String, ReentrantReadWriteLock> databaseLock = new HashMap<>();
-    public Database currentDatabase;
-    public ArrayList<Long> currentSessions;
+    // Ự״̬ǰݿ⡢񡢳еỰ id ң RPC ̲߳
+    private final ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<>();
+    // û use ݿĻỰʹõݿ⣺ʱָĵһһݿ
+    private volatile Database defaultDatabase;
     public ArrayList<Long> waitSessions;
     public static SQLHandler sqlHandler;
-    public HashMap<Long, ArrayList<String>> x_lockDict;
+    // ÿδд־еĵһ¼begin LSNֻܽض֮ǰ־
+    private final HashMap<Long, LinkedHashMap<WriteAheadLog, Long>> transactionFirstLsn = new HashMap<>();
+    private Checkpointer checkpointer;
 
 
     public static Manager getInstance() {
@@ -35,14 +47,14 @@ public class Manager {
     public Manager() {
         // TODO: init possible additional variables
         databases = new HashMap<>();
-        currentDatabase = null;
-        currentSessions = new ArrayList<Long>();
+        defaultDatabase = null;
         sqlHandler = new SQLHandler(this);
-        x_lockDict = new HashMap<>();
         File managerFolder = new File(Global.DBMS_DIR + File.separator + "data");
         if (!managerFolder.exists())
             managerFolder.mkdirs();
         this.recover();
+        checkpointer = new Checkpointer(this);
+        checkpointer.start();
     }
 
     public void deleteDatabase(String databaseName) {
@@ -53,18 +65,24 @@ public class Manager {
             Database database = databases.get(databaseName);
             database.dropDatabase();
             databases.remove(databaseName);
+            for (Session session : sessions.values())
+                if (session.getCurrentDatabase() == database)
+                    session.setCurrentDatabase(null);
+            if (defaultDatabase == database)
+                defaultDatabase = null;
 
         } finally {
             // TODO: add lock control
         }
     }
 
-    public void switchDatabase(String databaseName) {
+    // ֻлỰݿ⣬ỰӰ
+    public void switchDatabase(String databaseName, long session) {
         try {
             // TODO: add lock control
             if (!databases.containsKey(databaseName))
                 throw new DatabaseNotExistException(databaseName);
-            currentDatabase = databases.get(databaseName);
+            getSession(session).setCurrentDatabase(databases.get(databaseName));
         } finally {
             // TODO: add lock control
         }
@@ -78,8 +96,22 @@ public class Manager {
         }
     }
 
-    public Database getCurrentDatabase() {
-        return currentDatabase;
+    public Database getCurrentDatabase(long session) {
+        Database database = getSession(session).getCurrentDatabase();
+        return database == null ? defaultDatabase : database;
+    }
+
+    // Ự connect һִʱֱӵ SQLHandler ĻỰָʱ 114514 û connectdisconnect ʱƳ
+    public Session getSession(long session) {
+        return sessions.computeIfAbsent(session, Session::new);
+    }
+
+    public boolean hasSession(long session) {
+        return sessions.containsKey(session);
+    }
+
+    public void closeSession(long session) {
+        sessions.remove(session);
     }
 
     // utils:
@@ -88,8 +120,11 @@ public class Manager {
     public void quit() {
         try {
             lock.writeLock().lock();
-            for (Database database : databases.values())
+            checkpointer.shutdown();
+            for (Database database : databases.values()) {
                 database.quit();
+                database.closeLog();
+            }
             persist();
             databases.clear();
         } finally {
@@ -113,16 +148,8 @@ public class Manager {
             // TODO: add lock control
             if (!databases.containsKey(databaseName))
                 databases.put(databaseName, new Database(databaseName));
-            if (currentDatabase == null) {
-                try {
-                    // TODO: add lock control
-                    if (!databases.containsKey(databaseName))
-                        throw new DatabaseNotExistException(databaseName);
-                    currentDatabase = databases.get(databaseName);
-                } finally {
-                    // TODO: add lock control
-                }
-            }
+            if (defaultDatabase == null)
+                defaultDatabase = databases.get(databaseName);
         } finally {
             // TODO: add lock control
         }
@@ -153,123 +180,111 @@ public class Manager {
     }
 
 
+    // Undo control: only statements inside a transaction can be rolled back.
+    // ÿ޸ĵڻỰУعʱִ
+    public void recordUndo(long session, Runnable undo) {
+        getSession(session).recordUndo(undo);
+    }
+
+    public void clearUndo(long session) {
+        getSession(session).clearUndo();
+    }
+
+    public void undo(long session) {
+        getSession(session).undo();
+    }
+
     // Log control and recover from logs.
+    // ʱдÿ־׷ commit  rollbackcommit ¼̺ŷأύһˢ
+    // ûд־ԶύĲѯȲд¼Ҳˢ
     public void writeLog(String statement, long session) {
-        String logFilename = this.currentDatabase.getDatabaseLogFilePath();
-        if(!databaseLock.containsKey(this.currentDatabase.getDatabaseName())) {
-            databaseLock.put(this.currentDatabase.getDatabaseName(), new ReentrantReadWriteLock());
-        }
-        ReentrantReadWriteLock myLock = databaseLock.get(this.currentDatabase.getDatabaseName());
-        try {
-            myLock.writeLock().lock();
-            System.out.printf("logFilename: %s\n", logFilename);
-            FileWriter writer = new FileWriter(logFilename, true);
-            String logString = String.format("%d|%s\n", session, statement);
-            writer.write(logString);
-            System.out.printf("writeLog: %s\n", logString);
-            writer.close();
-        } catch (Exception e) {
-            throw new FileIOException(logFilename);
-        } finally {
-            myLock.writeLock().unlock();
+        LinkedHashMap<WriteAheadLog, Long> logs;
+        synchronized (transactionFirstLsn) {
+            logs = transactionFirstLsn.get(session);
         }
+        if (logs == null)
+            return;
+        LinkedHashMap<WriteAheadLog, Long> lastLsn = new LinkedHashMap<>();
+        for (WriteAheadLog log : logs.keySet())
+            lastLsn.put(log, log.append(session, statement));
+        if (statement.equals(Global.LOG_COMMIT))
+            for (Map.Entry<WriteAheadLog, Long> entry : lastLsn.entrySet())
+                entry.getKey().flush(entry.getValue());
     }
 
-    // TODO: read Log in transaction to recover.
-    public void readLog(String databaseName) {
-        String logFilename = Global.DBMS_DIR + File.separator + "data" + File.separator + databaseName + File.separator + "log";
-        File file = new File(logFilename);
-        // ӦļǷȷ
-        if(!file.exists() || !file.isFile()) {
-            System.out.printf("readLog: something about the file %s went wrong\n", logFilename);
-            return;
+    // ޸ļ¼д־־еĵһ޸ļ¼֮ǰȲд begin
+    private WriteAheadLog transactionLog(long session) {
+        WriteAheadLog log = this.getCurrentDatabase(session).getLog();
+        if (!getSession(session).inTransaction())
+            return log;
+        synchronized (transactionFirstLsn) {
+            LinkedHashMap<WriteAheadLog, Long> logs = transactionFirstLsn.computeIfAbsent(session, k -> new LinkedHashMap<>());
+            if (!logs.containsKey(log))
+                logs.put(log, log.append(session, Global.LOG_BEGIN_TRANSACTION));
         }
+        return log;
+    }
 
-        System.out.printf("reading log of database %s from %s\n", databaseName, logFilename);
-        System.out.println("Database log file size: " + file.length() + " Byte");
-        System.out.println("Read WAL log to recover database.");
-        // databaseרöдǷڣ򴴽һ
-        if(!databaseLock.containsKey(databaseName)) {
-            databaseLock.put(databaseName, new ReentrantReadWriteLock());
+    // ޸ѶԼĿտɼ֮
+    public void endLoggedTransaction(long session) {
+        synchronized (transactionFirstLsn) {
+            transactionFirstLsn.remove(session);
         }
-        ReentrantReadWriteLock myLock = databaseLock.get(databaseName);
-        try {
-            // 
-            myLock.readLock().lock();
-            InputStreamReader reader = new InputStreamReader(new FileInputStream(file));
-            BufferedReader bufferedReader = new BufferedReader(reader);
+    }
 
-            String line;
-            ArrayList<String> lines = new ArrayList<>();
-            // ¼ÿsessionһcommit
-            HashMap<String, Integer>lastCommitOfSession = new HashMap<>();
-            int index = 0;
-            while ((line = bufferedReader.readLine()) != null) {
-                System.out.println(line);
-                String[] contents = line.split("\\|");
-                String session = contents[0];
-                String command = contents[1];
-                System.out.printf("session: %s, command: %s\n", session, command);
-                if (command.equals("commit")) {
-                    System.out.printf("commit here\n");
-                    lastCommitOfSession.put(session, index);
-                    System.out.printf("last commit of session %s is %d\n",session, lastCommitOfSession.containsKey(session)?lastCommitOfSession.get(session):-1);
-                }
-                lines.add(line);
-                index++;
+    // Խضϵ LSNδ־Լ֮д־Ҫ
+    private long redoStartLsn(WriteAheadLog log) {
+        synchronized (transactionFirstLsn) {
+            long lsn = log.nextLsn();
+            for (LinkedHashMap<WriteAheadLog, Long> logs : transactionFirstLsn.values()) {
+                Long firstLsn = logs.get(log);
+                if (firstLsn != null)
+                    lsn = Math.min(lsn, firstLsn);
             }
-            System.out.println("read over");
-            sqlHandler.evaluate("begin transaction", 114514);
-            sqlHandler.evaluate("use " + databaseName, 114514);
-            sqlHandler.evaluate("commit", 114514);
-            for(int i = 0; i < lines.size();++i) {
-                String[] contents = lines.get(i).split("\\|");
-                String session = contents[0];
-                String command = contents[1];
-                System.out.printf("session: %s, command: %s\n", session, command);
-                if(lastCommitOfSession.containsKey(session) &&
-                    lastCommitOfSession.get(session) >= i &&
-                    !command.equals("commit") &&
-                    !command.equals("begin transaction")) {
-                    System.out.printf("i = %d, lastCommit = %d, redo!\n", i, lastCommitOfSession.get(session));
-                    sqlHandler.evaluate("begin transaction", 114514);
-                    sqlHandler.evaluate(command, 114514);
-                    sqlHandler.evaluate("commit", 114514);
+            return lsn;
+        }
+    }
 
-                }
-            }
-            bufferedReader.close();
-            reader.close();
+    public void checkpoint(Database database) {
+        database.checkpoint(redoStartLsn(database.getLog()));
+    }
 
+    // ־ֵʱύãںִ̨Уύ
+    public void requestCheckpoint() {
+        checkpointer.request();
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-        } finally {
-          myLock.readLock().unlock();
-        }
+    ArrayList<Database> getDatabases() {
         try {
-            myLock.writeLock().lock();
-            try
-            {
-                FileWriter writer = new FileWriter(logFilename);
-                writer.write( "");
-                writer.close();
-            } catch (IOException e)
-            {
-                e.printStackTrace();
-            }
-            persistDatabase(databaseName);
-        } catch (Exception e) {
-            e.printStackTrace();
+            lock.readLock().lock();
+            return new ArrayList<>(databases.values());
         } finally {
-            myLock.writeLock().unlock();
+            lock.readLock().unlock();
         }
     }
 
+    // ޸İм¼߼־ָʱֱдرУִ SQL
+    public void writeRowLog(long session, Table table, Row row) {
+        if (session != 114514)
+            transactionLog(session).appendPut(session, table, row);
+    }
+
+    public void writeDeleteLog(long session, Table table, Cell primaryCell) {
+        if (session != 114514)
+            transactionLog(session).appendDelete(session, table, primaryCell);
+    }
+
+    /**
+     * ָݿֻṹļڵһʹʱŶ룻
+     * ̳֮߳ϲУݿ־ҳύļ¼
+     * ־¼ÿűļ־˳ͬı֮以Ӱ졣̲־
+     * ĳݿ־ȡʧʱ־գֹ
+     */
     public void recover() {
         File managerDataFile = new File(Manager.getManagerDataFilePath());
         System.out.printf("managerDataFile: %s\n", managerDataFile.getPath());
         if (!managerDataFile.isFile()) return;
+        ArrayList<String> databaseNames = new ArrayList<>();
         try {
             System.out.println("??!! try to recover manager");
             InputStreamReader reader = new InputStreamReader(new FileInputStream(managerDataFile));
@@ -277,14 +292,188 @@ public class Manager {
             String line;
             while ((line = bufferedReader.readLine()) != null) {
                 System.out.printf("databaseName: %s\n", line);
-                createDatabaseIfNotExists(line);
-                readLog(line);
+                if (!databaseNames.contains(line))
+                    databaseNames.add(line);
             }
             bufferedReader.close();
             reader.close();
         } catch (Exception e) {
             e.printStackTrace();
         }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Global.RECOVERY_THREADS));
+        try {
+            ArrayList<Database> recovered = new ArrayList<>();
+            for (String databaseName : databaseNames)
+                if (!databases.containsKey(databaseName))
+                    recovered.add(new Database(databaseName));
+            for (Database database : recovered) {
+                databases.put(database.getDatabaseName(), database);
+                if (defaultDatabase == null)
+                    defaultDatabase = database;
+            }
+            redoLogs(recovered, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void redoLogs(ArrayList<Database> recovered, ExecutorService pool) {
+        ArrayList<Future<ArrayList<WriteAheadLog.Record>>> analyses = new ArrayList<>();
+        for (Database database : recovered)
+            analyses.add(pool.submit(() -> committedRecords(database)));
+
+        // ʧܵݿⲻ̣־ԭ´ʱ
+        LinkedHashMap<Database, RuntimeException> failed = new LinkedHashMap<>();
+        ArrayList<Database> redone = new ArrayList<>();
+        LinkedHashMap<Future<?>, Database> replays = new LinkedHashMap<>();
+        for (int i = 0; i < recovered.size(); i++) {
+            Database database = recovered.get(i);
+            ArrayList<WriteAheadLog.Record> records;
+            try {
+                records = await(analyses.get(i));
+            } catch (RuntimeException e) {
+                failed.put(database, e);
+                continue;
+            }
+            // ֻδύ־ҲҪգỰ id ͷ䣬ͬ id »Ựύʱһ
+            if (records.isEmpty()) {
+                if (database.getLog().size() > 0)
+                    redone.add(database);
+                continue;
+            }
+            redone.add(database);
+            boolean legacy = false;
+            for (WriteAheadLog.Record record : records)
+                legacy |= record.type == WriteAheadLog.STATEMENT;
+            if (legacy) {
+                // ɸʽ־е SQL 漰űԭ˳
+                try {
+                    replayStatements(database, records);
+                } catch (RuntimeException e) {
+                    failed.put(database, e);
+                }
+                continue;
+            }
+            LinkedHashMap<String, ArrayList<WriteAheadLog.Record>> recordsOfTable = new LinkedHashMap<>();
+            for (WriteAheadLog.Record record : records)
+                recordsOfTable.computeIfAbsent(record.tableName, k -> new ArrayList<>()).add(record);
+            for (Map.Entry<String, ArrayList<WriteAheadLog.Record>> entry : recordsOfTable.entrySet()) {
+                replays.put(pool.submit(() -> {
+                    // һαʹãļĶҲ̳߳вн
+                    Table table;
+                    try {
+                        table = database.get(entry.getKey());
+                    } catch (TableNotExistException e) {
+                        return;   // ֮ɾ
+                    }
+                    for (WriteAheadLog.Record record : entry.getValue())
+                        redo(table, record);
+                }), database);
+            }
+        }
+        for (Map.Entry<Future<?>, Database> replay : replays.entrySet()) {
+            try {
+                await(replay.getKey());
+            } catch (RuntimeException e) {
+                failed.putIfAbsent(replay.getValue(), e);
+            }
+        }
+
+        // Ḷ̌־
+        LinkedHashMap<Future<?>, Database> checkpoints = new LinkedHashMap<>();
+        for (Database database : redone)
+            if (!failed.containsKey(database))
+                checkpoints.put(pool.submit(() -> {
+                    database.quit();
+                    database.getLog().truncate();
+                }), database);
+        for (Map.Entry<Future<?>, Database> checkpoint : checkpoints.entrySet()) {
+            try {
+                await(checkpoint.getKey());
+            } catch (RuntimeException e) {
+                failed.putIfAbsent(checkpoint.getValue(), e);
+            }
+        }
+        if (!redone.isEmpty())
+            persist();
+        // ûлָݿᶪʧύֹ
+        if (!failed.isEmpty()) {
+            for (RuntimeException e : failed.values())
+                e.printStackTrace();
+            Map.Entry<Database, RuntimeException> first = failed.entrySet().iterator().next();
+            throw new RecoveryException(first.getKey().getDatabaseName(), first.getValue());
+        }
+    }
+
+    // ύҪļ¼־˳򣻱 rollback δύеļ¼
+    private ArrayList<WriteAheadLog.Record> committedRecords(Database database) {
+        ArrayList<WriteAheadLog.Record> records = database.getLog().readAll();
+        System.out.printf("reading log of database %s, %d records\n", database.getDatabaseName(), records.size());
+        HashMap<Long, ArrayList<Integer>> pendingOfSession = new HashMap<>();
+        TreeSet<Integer> committedLines = new TreeSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            WriteAheadLog.Record record = records.get(i);
+            if (record.type != WriteAheadLog.STATEMENT) {
+                pendingOfSession.computeIfAbsent(record.session, k -> new ArrayList<>()).add(i);
+            } else if (record.statement.equals(Global.LOG_COMMIT)) {
+                if (pendingOfSession.containsKey(record.session))
+                    committedLines.addAll(pendingOfSession.remove(record.session));
+            } else if (record.statement.equals(Global.LOG_ROLLBACK)) {
+                pendingOfSession.remove(record.session);
+            } else if (record.statement.equals(Global.LOG_BEGIN_TRANSACTION)) {
+                // ͬһỰ id ֮ǰδ
+                pendingOfSession.remove(record.session);
+            } else {
+                // ɸʽ־е SQL 
+                pendingOfSession.computeIfAbsent(record.session, k -> new ArrayList<>()).add(i);
+            }
+        }
+        ArrayList<WriteAheadLog.Record> committed = new ArrayList<>();
+        for (int line : committedLines)
+            committed.add(records.get(line));
+        return committed;
+    }
+
+    private void replayStatements(Database database, ArrayList<WriteAheadLog.Record> records) {
+        sqlHandler.evaluate("begin transaction", 114514);
+        sqlHandler.evaluate("use " + database.getDatabaseName(), 114514);
+        sqlHandler.evaluate("commit", 114514);
+        for (WriteAheadLog.Record record : records) {
+            if (record.type != WriteAheadLog.STATEMENT) {
+                try {
+                    redo(database.get(record.tableName), record);
+                } catch (TableNotExistException ignored) {
+                }
+                continue;
+            }
+            sqlHandler.evaluate("begin transaction", 114514);
+            sqlHandler.evaluate(record.statement, 114514);
+            sqlHandler.evaluate("commit", 114514);
+        }
+    }
+
+    private static void redo(Table table, WriteAheadLog.Record record) {
+        if (record.type == WriteAheadLog.ROW_PUT)
+            table.redoPut(new Row(record.cells(table.getRowCodec())));
+        else
+            table.redoDelete(record.cells(table.getKeyCodec()).get(0));
+    }
+
+    // ȴ̳߳е׳쳣ԭ׳
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw new RuntimeException(e.getCause());
+        }
     }
 
     // Get positions
@@ -0,0 +1,155 @@
+package cn.edu.thssdb.schema;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A slotted page of a table file.
+ * The header holds the number of slots and the offset where the record area starts. The slot
+ * directory follows it, one (offset, length) pair per slot, while records grow from the end of
+ * the page towards it. A free slot has offset 0 and is reused by the next insert, so a record keeps
+ * its slot, and with it its location, until it no longer fits into its page.
+ */
+
+public class Page {
+
+    static final int HEADER_SIZE = 8;
+    static final int SLOT_SIZE = 8;
+
+    final int pageId;
+    final ByteBuffer data;
+    // bytes not used by the header, the slot directory or live records
+    private int free;
+
+    Page(int pageId, ByteBuffer data) {
+        this.pageId = pageId;
+        this.data = data;
+        int used = HEADER_SIZE + slotCount() * SLOT_SIZE;
+        for (int slot = 0; slot < slotCount(); slot++)
+            used += length(slot);
+        this.free = data.capacity() - used;
+    }
+
+    static Page empty(int pageId, int pageSize) {
+        ByteBuffer data = ByteBuffer.allocate(pageSize);
+        data.putInt(0, 0);
+        data.putInt(4, pageSize);
+        return new Page(pageId, data);
+    }
+
+    int slotCount() {
+        return data.getInt(0);
+    }
+
+    int freeSpace() {
+        return free;
+    }
+
+    boolean isLive(int slot) {
+        return slot < slotCount() && offset(slot) != 0;
+    }
+
+    byte[] get(int slot) {
+        byte[] record = new byte[length(slot)];
+        for (int i = 0; i < record.length; i++)
+            record[i] = data.get(offset(slot) + i);
+        return record;
+    }
+
+    // the record as a view of the page, nothing is copied
+    ByteBuffer view(int slot) {
+        ByteBuffer record = data.duplicate();
+        record.limit(offset(slot) + length(slot));
+        record.position(offset(slot));
+        return record.slice();
+    }
+
+    // the slot the record was put in, -1 if it does not fit
+    int insert(byte[] record) {
+        int slot = 0;
+        while (slot < slotCount() && offset(slot) != 0)
+            slot++;
+        int needed = record.length + (slot == slotCount() ? SLOT_SIZE : 0);
+        if (needed > free)
+            return -1;
+        if (slot == slotCount())
+            data.putInt(0, slot + 1);
+        place(slot, record);
+        free -= needed;
+        return slot;
+    }
+
+    // rewrites the record in its slot, false if it grew beyond the free space of the page
+    boolean update(int slot, byte[] record) {
+        int length = length(slot);
+        if (record.length <= length) {
+            int offset = offset(slot);
+            for (int i = 0; i < record.length; i++)
+                data.put(offset + i, record[i]);
+            setSlot(slot, offset, record.length);
+            free += length - record.length;
+            return true;
+        }
+        if (record.length - length > free)
+            return false;
+        setSlot(slot, 0, 0);
+        place(slot, record);
+        free -= record.length - length;
+        return true;
+    }
+
+    void delete(int slot) {
+        free += length(slot);
+        setSlot(slot, 0, 0);
+        int count = slotCount();
+        while (count > 0 && offset(count - 1) == 0) {
+            count--;
+            free += SLOT_SIZE;
+        }
+        data.putInt(0, count);
+    }
+
+    // puts the record below the record area, compacting the page first if the gap is too small
+    private void place(int slot, byte[] record) {
+        if (recordStart() - (HEADER_SIZE + slotCount() * SLOT_SIZE) < record.length)
+            compact();
+        int offset = recordStart() - record.length;
+        for (int i = 0; i < record.length; i++)
+            data.put(offset + i, record[i]);
+        setSlot(slot, offset, record.length);
+        data.putInt(4, offset);
+    }
+
+    private void compact() {
+        byte[] records = new byte[data.capacity()];
+        int start = data.capacity();
+        for (int slot = 0; slot < slotCount(); slot++) {
+            if (offset(slot) == 0)
+                continue;
+            int length = length(slot);
+            start -= length;
+            for (int i = 0; i < length; i++)
+                records[start + i] = data.get(offset(slot) + i);
+            setSlot(slot, start, length);
+        }
+        for (int i = start; i < data.capacity(); i++)
+            data.put(i, records[i]);
+        data.putInt(4, start);
+    }
+
+    private int recordStart() {
+        return data.getInt(4);
+    }
+
+    private int offset(int slot) {
+        return data.getInt(HEADER_SIZE + slot * SLOT_SIZE);
+    }
+
+    private int length(int slot) {
+        return data.getInt(HEADER_SIZE + slot * SLOT_SIZE + 4);
+    }
+
+    private void setSlot(int slot, int offset, int length) {
+        data.putInt(HEADER_SIZE + slot * SLOT_SIZE, offset);
+        data.putInt(HEADER_SIZE + slot * SLOT_SIZE + 4, length);
+    }
+}
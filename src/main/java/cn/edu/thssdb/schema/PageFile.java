@@ -0,0 +1,279 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.exception.FileIOException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * The heap file of a table: fixed-size slotted pages read through the shared BufferPool.
+ * Page 0 is a header (magic, page size), rows live in the pages after it and are addressed by
+ * their location, the page id in the high and the slot in the low 32 bits.
+ *
+ * Pages changed by insert, update and delete stay in memory until flush writes all of them at once.
+ * They go to the side file <table>.dwb first, which is forced before the pages are overwritten in
+ * place, so a crash during a flush cannot tear a page: open copies a complete side file over the
+ * table file again, and an incomplete one means the table file was not touched yet.
+ */
+
+public class PageFile {
+
+    private static final int MAGIC = 0x54504731;
+    private static final int DOUBLE_WRITE_MAGIC = 0x54445731;
+    private static final int HEADER_SIZE = 8;
+    // bytes mapped at once by scan, rounded down to whole pages
+    private static final long MAP_SEGMENT_SIZE = 64L << 20;
+
+    private final File file;
+    private final File doubleWriteFile;
+    private final FileChannel channel;
+    final int pageSize;
+    private int pageCount;
+    // changed pages, pinned until flush
+    private final LinkedHashMap<Integer, Page> dirtyPages = new LinkedHashMap<>();
+    // pages with a quarter or more free, tried before the last page for new records
+    private final LinkedHashSet<Integer> reusablePages = new LinkedHashSet<>();
+
+    /**
+     * Opens the table file, creating it with the given page size if it does not exist.
+     * An existing file keeps the page size it was created with.
+     */
+    PageFile(String path, int pageSize) {
+        this.file = new File(path);
+        this.doubleWriteFile = new File(path + ".dwb");
+        try {
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            restoreDoubleWrite();
+            if (channel.size() < HEADER_SIZE) {
+                ByteBuffer header = ByteBuffer.allocate(pageSize);
+                header.putInt(0, MAGIC);
+                header.putInt(4, pageSize);
+                writeFully(header, 0);
+                channel.force(true);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(header, 0);
+            if (header.getInt(0) != MAGIC)
+                throw new FileIOException(path + " is not a table file");
+            this.pageSize = header.getInt(4);
+            this.pageCount = (int) Math.max(1, channel.size() / this.pageSize);
+        } catch (IOException e) {
+            throw new FileIOException(path + " when open table file");
+        }
+    }
+
+    static long location(int pageId, int slot) {
+        return ((long) pageId << 32) | slot;
+    }
+
+    private static int pageOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int slotOf(long location) {
+        return (int) location;
+    }
+
+    /**
+     * Hands every record in the file with its location to the visitor, in file order.
+     * The file is mapped segment by segment and each record is a view of the mapping, so loading a
+     * table copies no page into the heap; the buffer pool is not filled either.
+     * A page changed since the last flush is visited as it is in memory.
+     */
+    void scan(BiConsumer<Long, ByteBuffer> visitor) {
+        int pagesPerSegment = (int) Math.max(1, MAP_SEGMENT_SIZE / pageSize);
+        try {
+            for (int first = 1; first < pageCount; first += pagesPerSegment) {
+                int pages = Math.min(pagesPerSegment, pageCount - first);
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY,
+                        (long) first * pageSize, (long) pages * pageSize);
+                for (int i = 0; i < pages; i++) {
+                    int pageId = first + i;
+                    Page page = dirtyPages.get(pageId);
+                    if (page == null) {
+                        ByteBuffer data = segment.duplicate();
+                        data.position(i * pageSize);
+                        data.limit((i + 1) * pageSize);
+                        page = new Page(pageId, data.slice());
+                    }
+                    for (int slot = 0; slot < page.slotCount(); slot++)
+                        if (page.isLive(slot))
+                            visitor.accept(location(pageId, slot), page.view(slot));
+                    track(page);
+                }
+            }
+        } catch (IOException e) {
+            throw new FileIOException(file.getPath() + " when map table file");
+        }
+    }
+
+    long insert(byte[] record) {
+        if (record.length + Page.HEADER_SIZE + Page.SLOT_SIZE > pageSize)
+            throw new FileIOException(file.getPath() + ", a row does not fit into a page");
+        Iterator<Integer> reusable = reusablePages.iterator();
+        if (reusable.hasNext()) {
+            Page page = fetch(reusable.next());
+            int slot = page.insert(record);
+            if (slot >= 0) {
+                changed(page);
+                return location(page.pageId, slot);
+            }
+            reusable.remove();
+        }
+        Page page = pageCount > 1 ? fetch(pageCount - 1) : null;
+        int slot = page == null ? -1 : page.insert(record);
+        if (slot < 0) {
+            page = Page.empty(pageCount++, pageSize);
+            slot = page.insert(record);
+        }
+        changed(page);
+        return location(page.pageId, slot);
+    }
+
+    // rewrites the record at its location, moving it to another page if it no longer fits
+    long update(long location, byte[] record) {
+        Page page = fetch(pageOf(location));
+        boolean fits = page.update(slotOf(location), record);
+        if (!fits)
+            page.delete(slotOf(location));
+        changed(page);
+        return fits ? location : insert(record);
+    }
+
+    void delete(long location) {
+        Page page = fetch(pageOf(location));
+        page.delete(slotOf(location));
+        changed(page);
+    }
+
+    /**
+     * Writes every changed page: first all of them to the side file, forced, then each one in place,
+     * and removes the side file once the table file is forced as well.
+     */
+    void flush() {
+        if (dirtyPages.isEmpty())
+            return;
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(12 + dirtyPages.size() * (4 + pageSize) + 8);
+            buffer.putInt(DOUBLE_WRITE_MAGIC).putInt(dirtyPages.size()).putInt(pageSize);
+            for (Page page : dirtyPages.values()) {
+                buffer.putInt(page.pageId);
+                buffer.put(page.data.array());
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, buffer.position());
+            buffer.putLong(crc.getValue());
+            buffer.flip();
+            try (FileChannel doubleWrite = FileChannel.open(doubleWriteFile.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining())
+                    doubleWrite.write(buffer);
+                doubleWrite.force(true);
+            }
+            for (Page page : dirtyPages.values())
+                writeFully(ByteBuffer.wrap(page.data.array()), (long) page.pageId * pageSize);
+            channel.force(true);
+            if (!doubleWriteFile.delete())
+                throw new IOException();
+        } catch (IOException e) {
+            throw new FileIOException(file.getPath() + " when flush pages");
+        }
+        for (Page page : dirtyPages.values())
+            BufferPool.getInstance().put(this, page);
+        dirtyPages.clear();
+    }
+
+    void close() {
+        BufferPool.getInstance().discard(this);
+        dirtyPages.clear();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new FileIOException(file.getPath() + " when close table file");
+        }
+    }
+
+    // a changed page is pinned until flush, other pages come from the pool or the disk
+    private Page fetch(int pageId) {
+        Page page = dirtyPages.get(pageId);
+        if (page != null)
+            return page;
+        page = BufferPool.getInstance().get(this, pageId);
+        if (page != null)
+            return page;
+        try {
+            ByteBuffer data = ByteBuffer.allocate(pageSize);
+            readFully(data, (long) pageId * pageSize);
+            page = new Page(pageId, data);
+        } catch (IOException e) {
+            throw new FileIOException(file.getPath() + " when read page " + pageId);
+        }
+        BufferPool.getInstance().put(this, page);
+        return page;
+    }
+
+    private void track(Page page) {
+        if (page.freeSpace() >= pageSize / 4 && page.pageId != pageCount - 1)
+            reusablePages.add(page.pageId);
+        else
+            reusablePages.remove(page.pageId);
+    }
+
+    private void changed(Page page) {
+        if (dirtyPages.put(page.pageId, page) == null)
+            BufferPool.getInstance().remove(this, page.pageId);
+        track(page);
+    }
+
+    private void restoreDoubleWrite() throws IOException {
+        if (!doubleWriteFile.exists())
+            return;
+        byte[] bytes = Files.readAllBytes(doubleWriteFile.toPath());
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length >= 20 && buffer.getInt(0) == DOUBLE_WRITE_MAGIC) {
+            int count = buffer.getInt(4);
+            int size = buffer.getInt(8);
+            long length = 12 + (long) count * (4 + size) + 8;
+            CRC32 crc = new CRC32();
+            if (length == bytes.length) {
+                crc.update(bytes, 0, bytes.length - 8);
+                if (crc.getValue() == buffer.getLong(bytes.length - 8)) {
+                    for (int i = 0; i < count; i++) {
+                        int position = 12 + i * (4 + size);
+                        int pageId = buffer.getInt(position);
+                        writeFully(ByteBuffer.wrap(bytes, position + 4, size), (long) pageId * size);
+                    }
+                    channel.force(true);
+                }
+            }
+        }
+        if (!doubleWriteFile.delete())
+            throw new IOException();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0)
+                break;
+        }
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long offset = position - buffer.position();
+        while (buffer.hasRemaining())
+            channel.write(buffer, offset + buffer.position());
+    }
+}
@@ -12,6 +12,16 @@ public class Row implements Serializable {
   private static final long serialVersionUID = -5809782578272943999L;
   protected ArrayList<Cell> entries;
 
+  // MVCC: a row stored in a table is one version of its primary key, newer versions point to
+  // older ones. Versions live only in memory, rows read back from disk are committed at time 0.
+  static final long PENDING = Long.MAX_VALUE;
+  transient volatile long commitTimestamp = 0;
+  transient long writer = -1;
+  transient boolean deleted = false;
+  transient volatile Row previous = null;
+  // this version is the one stored in the table file, a persist can skip it
+  transient boolean persisted = false;
+
   public Row() {
     this.entries = new ArrayList<>();
   }
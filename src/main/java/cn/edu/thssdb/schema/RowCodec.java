@@ -0,0 +1,151 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.type.ColumnType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary format of a row, driven by the column types of its table instead of value tags or Java
+ * serialization: a null bitmap with one bit per column, then every non-null value in column order,
+ * INT and FLOAT in 4 bytes, LONG and DOUBLE in 8, STRING as its UTF-8 length (a varint) and bytes.
+ * Nothing describes the columns, so a row is read back with a codec built from the same columns.
+ */
+
+public class RowCodec {
+
+    private final ColumnType[] types;
+
+    RowCodec(ColumnType... types) {
+        this.types = types;
+    }
+
+    static RowCodec of(List<Column> columns) {
+        ColumnType[] types = new ColumnType[columns.size()];
+        for (int i = 0; i < types.length; i++)
+            types[i] = columns.get(i).getColumnType();
+        return new RowCodec(types);
+    }
+
+    // the longest encoding of a row of these columns, strings at their maximal length
+    static int maxLength(List<Column> columns) {
+        int length = (columns.size() + 7) / 8;
+        for (Column column : columns)
+            length += column.getColumnType() == ColumnType.STRING ? 5 + 3 * column.getMaxLength() : 8;
+        return length;
+    }
+
+    byte[] encode(List<Cell> cells) {
+        int bitmapLength = (types.length + 7) / 8;
+        int length = bitmapLength;
+        byte[][] strings = new byte[types.length][];
+        for (int i = 0; i < types.length; i++) {
+            Object value = cells.get(i).value;
+            if (value == null)
+                continue;
+            switch (types[i]) {
+                case INT:
+                case FLOAT:
+                    length += 4;
+                    break;
+                case LONG:
+                case DOUBLE:
+                    length += 8;
+                    break;
+                default:
+                    strings[i] = value.toString().getBytes(StandardCharsets.UTF_8);
+                    length += varintLength(strings[i].length) + strings[i].length;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.position(bitmapLength);
+        for (int i = 0; i < types.length; i++) {
+            Object value = cells.get(i).value;
+            if (value == null) {
+                buffer.put(i >> 3, (byte) (buffer.get(i >> 3) | 1 << (i & 7)));
+                continue;
+            }
+            switch (types[i]) {
+                case INT:
+                    buffer.putInt(((Number) value).intValue());
+                    break;
+                case LONG:
+                    buffer.putLong(((Number) value).longValue());
+                    break;
+                case FLOAT:
+                    buffer.putFloat(((Number) value).floatValue());
+                    break;
+                case DOUBLE:
+                    buffer.putDouble(((Number) value).doubleValue());
+                    break;
+                default:
+                    putVarint(buffer, strings[i].length);
+                    buffer.put(strings[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    ArrayList<Cell> decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    // reads one row from the current position of the buffer
+    ArrayList<Cell> decode(ByteBuffer buffer) {
+        int bitmapOffset = buffer.position();
+        buffer.position(bitmapOffset + (types.length + 7) / 8);
+        ArrayList<Cell> cells = new ArrayList<>(types.length);
+        for (int i = 0; i < types.length; i++) {
+            if ((buffer.get(bitmapOffset + (i >> 3)) & 1 << (i & 7)) != 0) {
+                cells.add(new Cell(null));
+                continue;
+            }
+            switch (types[i]) {
+                case INT:
+                    cells.add(new Cell(buffer.getInt()));
+                    break;
+                case LONG:
+                    cells.add(new Cell(buffer.getLong()));
+                    break;
+                case FLOAT:
+                    cells.add(new Cell(buffer.getFloat()));
+                    break;
+                case DOUBLE:
+                    cells.add(new Cell(buffer.getDouble()));
+                    break;
+                default:
+                    byte[] bytes = new byte[getVarint(buffer)];
+                    buffer.get(bytes);
+                    cells.add(new Cell(new String(bytes, StandardCharsets.UTF_8)));
+            }
+        }
+        return cells;
+    }
+
+    private static int varintLength(int value) {
+        int length = 1;
+        while ((value >>>= 7) != 0)
+            length++;
+        return length;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.index.BPlusTree;
+import cn.edu.thssdb.index.BPlusTreeIterator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+
+/**
+ * SecondaryIndex maps the value of a non-primary column to the primary keys of the rows
+ * holding it. Each B+ tree entry keeps a hash set of every primary key sharing that value, so
+ * duplicate column values are allowed and adding or removing one key costs the same however many
+ * rows share the value. Null values are not indexed.
+ * Entries are only added by writes; an entry whose value no older version of the row still
+ * holds is removed when the table vacuums that row, so snapshot readers find old values too.
+ */
+
+public class SecondaryIndex {
+
+  private final String indexName;
+  private final String columnName;
+  private final int columnIndex;
+  private final int primaryIndex;
+  private final BPlusTree<Cell, Row> primaryTree;
+  private final BPlusTree<Cell, LinkedHashSet<Cell>> tree;
+
+  SecondaryIndex(String indexName, String columnName, int columnIndex, int primaryIndex,
+                 BPlusTree<Cell, Row> primaryTree) {
+    this.indexName = indexName;
+    this.columnName = columnName;
+    this.columnIndex = columnIndex;
+    this.primaryIndex = primaryIndex;
+    this.primaryTree = primaryTree;
+    this.tree = new BPlusTree<>();
+  }
+
+  void insert(Row row) {
+    Cell key = row.getEntries().get(columnIndex);
+    if (key.value == null) return;
+    Cell primaryKey = row.getEntries().get(primaryIndex);
+    if (tree.contains(key)) {
+      tree.get(key).add(primaryKey);
+    } else {
+      LinkedHashSet<Cell> primaryKeys = new LinkedHashSet<>();
+      primaryKeys.add(primaryKey);
+      tree.put(key, primaryKeys);
+    }
+  }
+
+  // fills the empty tree from rows given in primary key order: sorting by value keeps that order
+  // within each value, and versions of a row sharing a value are stored once by the set
+  void load(ArrayList<Row> rows) {
+    ArrayList<Row> sorted = new ArrayList<>();
+    for (Row row : rows)
+      if (row.getEntries().get(columnIndex).value != null)
+        sorted.add(row);
+    sorted.sort((a, b) -> a.getEntries().get(columnIndex).compareTo(b.getEntries().get(columnIndex)));
+    ArrayList<Pair<Cell, LinkedHashSet<Cell>>> entries = new ArrayList<>();
+    for (Row row : sorted) {
+      Cell key = row.getEntries().get(columnIndex);
+      Cell primaryKey = row.getEntries().get(primaryIndex);
+      Pair<Cell, LinkedHashSet<Cell>> entry = entries.isEmpty() ? null : entries.get(entries.size() - 1);
+      if (entry == null || !entry.left.equals(key)) {
+        entry = new Pair<>(key, new LinkedHashSet<>());
+        entries.add(entry);
+      }
+      entry.right.add(primaryKey);
+    }
+    tree.bulkLoad(entries.iterator());
+  }
+
+  void delete(Row row) {
+    Cell key = row.getEntries().get(columnIndex);
+    if (key.value == null || !tree.contains(key)) return;
+    LinkedHashSet<Cell> primaryKeys = tree.get(key);
+    primaryKeys.remove(row.getEntries().get(primaryIndex));
+    if (primaryKeys.isEmpty())
+      tree.remove(key);
+  }
+
+  // rows visible in the snapshot whose indexed value falls in the range, a null bound leaves that side open
+  public Iterator<Row> rangeIterator(Cell lo, boolean loInclusive, Cell hi, boolean hiInclusive, Snapshot snapshot) {
+    return new RowIterator(tree.range(lo, loInclusive, hi, hiInclusive), snapshot);
+  }
+
+  int getColumnIndex() {
+    return columnIndex;
+  }
+
+  public String getIndexName() {
+    return indexName;
+  }
+
+  public String getColumnName() {
+    return columnName;
+  }
+
+  public String toString() {
+    return indexName + ',' + columnName;
+  }
+
+  // copies each key list so it stays valid across batches of a cursor, and yields a row only under
+  // the entry matching the value of its visible version
+  private class RowIterator implements Iterator<Row> {
+    private final BPlusTreeIterator<Cell, LinkedHashSet<Cell>> iterator;
+    private final Snapshot snapshot;
+    private Cell value;
+    private Iterator<Cell> primaryKeys;
+    private Row nextRow;
+
+    RowIterator(BPlusTreeIterator<Cell, LinkedHashSet<Cell>> iterator, Snapshot snapshot) {
+      this.iterator = iterator;
+      this.snapshot = snapshot;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (nextRow == null) {
+        if (primaryKeys != null && primaryKeys.hasNext()) {
+          Cell primaryKey = primaryKeys.next();
+          if (!primaryTree.contains(primaryKey))
+            continue;
+          Row row = snapshot.visible(primaryTree.get(primaryKey));
+          if (row != null && value.equals(row.getEntries().get(columnIndex)))
+            nextRow = row;
+        } else if (iterator.hasNext()) {
+          Pair<Cell, LinkedHashSet<Cell>> entry = iterator.next();
+          value = entry.left;
+          primaryKeys = new ArrayList<>(entry.right).iterator();
+        } else {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public Row next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+      Row row = nextRow;
+      nextRow = null;
+      return row;
+    }
+  }
+}
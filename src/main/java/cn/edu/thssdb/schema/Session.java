@@ -0,0 +1,70 @@
+package cn.edu.thssdb.schema;
+
+import java.util.ArrayList;
+
+/**
+ * State of one client session: the database it uses, whether a transaction is running, the tables
+ * the transaction has locked and the undo actions of its changes.
+ * Sessions are kept by the Manager and looked up by id for every statement. The statements of one
+ * session run one after another, so only the database is read by other threads.
+ */
+
+public class Session {
+
+    public final long id;
+    // null until the session uses a database, the Manager then falls back to its default database
+    private volatile Database currentDatabase;
+    private boolean inTransaction;
+    // tables locked by the running transaction, released when it ends
+    private final ArrayList<Table> lockedTables = new ArrayList<>();
+    // inverse of every change of the running transaction, run backwards on rollback
+    private final ArrayList<Runnable> undoLog = new ArrayList<>();
+
+    Session(long id) {
+        this.id = id;
+    }
+
+    public Database getCurrentDatabase() {
+        return currentDatabase;
+    }
+
+    void setCurrentDatabase(Database database) {
+        this.currentDatabase = database;
+    }
+
+    public boolean inTransaction() {
+        return inTransaction;
+    }
+
+    public void beginTransaction() {
+        this.inTransaction = true;
+    }
+
+    // the tables to unlock; the undo log is dropped, a rollback has run it already
+    public ArrayList<Table> endTransaction() {
+        ArrayList<Table> tables = new ArrayList<>(lockedTables);
+        lockedTables.clear();
+        undoLog.clear();
+        inTransaction = false;
+        return tables;
+    }
+
+    void addLockedTable(Table table) {
+        lockedTables.add(table);
+    }
+
+    void recordUndo(Runnable undo) {
+        if (inTransaction)
+            undoLog.add(undo);
+    }
+
+    void clearUndo() {
+        undoLog.clear();
+    }
+
+    void undo() {
+        for (int i = undoLog.size() - 1; i >= 0; i--)
+            undoLog.get(i).run();
+        undoLog.clear();
+    }
+}
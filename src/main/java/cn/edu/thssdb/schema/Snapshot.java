@@ -0,0 +1,38 @@
+package cn.edu.thssdb.schema;
+
+/**
+ * Snapshot decides which version of a row a reader sees: the newest one committed at or before
+ * timestamp, or one the reading session wrote itself and has not committed yet.
+ * LATEST sees the newest version of every row, which is what writers holding X locks work on.
+ */
+
+public class Snapshot {
+
+    public static final Snapshot LATEST = new Snapshot(Long.MAX_VALUE, -1);
+
+    final long timestamp;
+    final long session;
+
+    Snapshot(long timestamp, long session) {
+        this.timestamp = timestamp;
+        this.session = session;
+    }
+
+    // the version of the row visible in this snapshot, null if it does not exist or was deleted
+    Row visible(Row newest) {
+        for (Row version = newest; version != null; version = version.previous) {
+            long commitTimestamp = version.commitTimestamp;
+            if (commitTimestamp <= timestamp || (commitTimestamp == Row.PENDING && version.writer == session))
+                return version.deleted ? null : version;
+        }
+        return null;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getSession() {
+        return session;
+    }
+}
@@ -4,12 +4,19 @@ import cn.edu.thssdb.exception.*;
 import cn.edu.thssdb.index.BPlusTree;
 import cn.edu.thssdb.common.Global;
 import cn.edu.thssdb.common.Pair;
-import sun.misc.Lock;
+import cn.edu.thssdb.type.LockMode;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static cn.edu.thssdb.type.ColumnType.STRING;
@@ -18,124 +25,52 @@ import static cn.edu.thssdb.type.ColumnType.STRING;
 // TODO lock control, variables init.
 
 public class Table implements Iterable<Row> {
-    private final static ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 闩：写者修改 B+ 树时持有写闩，读者不加表锁，只在读取 B+ 树期间持有读闩
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final int PERSIST_BATCH_SIZE = 1000;
     private String databaseName;
     public String tableName;
     public ArrayList<Column> columns;
     public BPlusTree<Cell, Row> index;
     private int primaryIndex;
-
-    Lock m_lock = new Lock();
-    ArrayList<Long> sLockSessions = new ArrayList<Long>();
-    ArrayList<Long> xLockSessions = new ArrayList<Long>();
-
+    private LinkedHashMap<String, SecondaryIndex> secondaryIndexes;
+    // 表文件：分页存放各主键已落盘的版本，locations 记录每个主键所在的页和槽
+    private PageFile storage;
+    private final HashMap<Cell, Long> locations = new HashMap<>();
+    // 上次落盘之后提交过修改的主键，落盘只检查这些主键，没有则整张表跳过
+    private final HashSet<Cell> dirtyKeys = new HashSet<>();
+    // 按列类型编码整行和主键，用于表文件和日志
+    private RowCodec rowCodec;
+    private RowCodec keyCodec;
+    // 启动时只读入表结构，表文件和二级索引在 load 中才读入
+    private volatile boolean loaded;
+
+    // 表锁由 LockManager 统一管理，等待者排队并在锁释放时被直接唤醒
     public void takeSLock(Long sessionId, Manager manager) {
-        try {
-            m_lock.lock();
-            if (sLockSessions.contains(sessionId)) {
-                return;
-            }
-            if (xLockSessions.size() == 1 && xLockSessions.get(0) == sessionId) {
-                return;
-            }
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        } finally {
-            m_lock.unlock();
-        }
-
-        try {
-            while (true) {
-                m_lock.lock();
-                if (xLockSessions.size() == 0) {
-                    sLockSessions.add(sessionId);
-                    manager.x_lockDict.get(sessionId).add(tableName);
-                    m_lock.unlock();
-                    return;
-                }
-                m_lock.unlock();
-                Thread.sleep(500);
-            }
-
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-        return;
-    }
-    //需要获取共享锁
-    //但存在互斥锁
-//        while (true) {
-//            try {
-//                m_lock.lock();
-//                if (xLockSessions.size() == 0) {
-//                    sLockSessions.add(sessionId);
-//                    manager.x_lockDict.get(sessionId).add(tableName);
-//                    m_lock.unlock();
-//                    return;
-//                }
-//                m_lock.unlock();
-//                Thread.sleep(500);
-//            } catch (InterruptedException e) {
-//                e.printStackTrace();
-//            }
-//        }
-//      }
+        if (LockManager.getInstance().acquire(this, sessionId, LockMode.SHARED))
+            manager.getSession(sessionId).addLockedTable(this);
+    }
 
     public void releaseSLock(Long sessionId) {
-        try {
-            m_lock.lock();
-            if (sLockSessions.contains(sessionId)) {
-                sLockSessions.remove(sessionId);
-            }
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        } finally {
-            m_lock.unlock();
-        }
+        LockManager.getInstance().release(this, sessionId, LockMode.SHARED);
     }
 
+    // 已持有共享锁时原地升级为排他锁
     public void takeXLock(Long sessionId, Manager manager) {
-        try {
-            m_lock.lock();
-            if (xLockSessions.contains(sessionId)) {
-                return;
-            }
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        } finally {
-            m_lock.unlock();
-        }
-
-        while (true) {
-            try {
-                m_lock.lock();
-                if (xLockSessions.size() == 0 && sLockSessions.size() == 0) {
-                    xLockSessions.add(sessionId);
-                    manager.x_lockDict.get(sessionId).add(tableName);
-                    m_lock.unlock();
-                    return;
-                }
-                m_lock.unlock();
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
+        if (LockManager.getInstance().acquire(this, sessionId, LockMode.EXCLUSIVE))
+            manager.getSession(sessionId).addLockedTable(this);
+    }
 
+    public void releaseXLock(Long sessionId) {
+        LockManager.getInstance().release(this, sessionId, LockMode.EXCLUSIVE);
+    }
 
+    public void takeReadLatch() {
+        lock.readLock().lock();
     }
 
-    public void releaseXLock(Long sessionId) {
-        try {
-            m_lock.lock();
-            if (xLockSessions.contains(sessionId)) {
-                xLockSessions.remove(sessionId);
-            }
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        } finally {
-            m_lock.unlock();
-        }
+    public void releaseReadLatch() {
+        lock.readLock().unlock();
     }
 
 
@@ -145,6 +80,7 @@ public class Table implements Iterable<Row> {
         this.tableName = tableName;
         this.columns = new ArrayList<>(Arrays.asList(columns));
         this.index = new BPlusTree<>();
+        this.secondaryIndexes = new LinkedHashMap<>();
         this.primaryIndex = -1;
         for (int i = 0; i < this.columns.size(); i++) {
             if (this.columns.get(i).isPrimary()) {
@@ -155,10 +91,27 @@ public class Table implements Iterable<Row> {
         }
         if (this.primaryIndex < 0)
             throw new MultiPrimaryKeyException(this.tableName);
+        this.rowCodec = RowCodec.of(this.columns);
+        this.keyCodec = new RowCodec(this.columns.get(this.primaryIndex).getColumnType());
 
         // TODO initiate lock status.
+    }
+
+    boolean isLoaded() {
+        return this.loaded;
+    }
 
+    // 第一次使用表时由 Database.get 调用，读入表文件并重建二级索引
+    synchronized void load() {
+        if (this.loaded)
+            return;
         recover();
+        try {
+            recoverIndexes();
+        } catch (IOException e) {
+            throw new FileIOException(this.getTableIndexMetaPath() + " when load");
+        }
+        this.loaded = true;
     }
 
     private void recover() {
@@ -166,127 +119,397 @@ public class Table implements Iterable<Row> {
         try {
             // TODO lock control
             ArrayList<Row> rowsOnDisk = deserialize();
+            // 表文件按主键顺序写出，排序对已有序的输入只需线性时间，再自底向上一次建树
+            ArrayList<Pair<Cell, Row>> entries = new ArrayList<>(rowsOnDisk.size());
             for (Row row : rowsOnDisk)
-                this.index.put(row.getEntries().get(this.primaryIndex), row);
+                entries.add(new Pair<>(row.getEntries().get(this.primaryIndex), row));
+            entries.sort((a, b) -> a.left.compareTo(b.left));
+            this.index.bulkLoad(entries.iterator());
         } finally {
             // TODO lock control
         }
     }
 
 
+    // 二级索引的元数据每行 "索引名,列名"，索引数据按当前的行重建
+    private void recoverIndexes() throws IOException {
+        File file = new File(this.getTableIndexMetaPath());
+        if (!file.isFile())
+            return;
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(new FileInputStream(file)));
+        String readLine;
+        while ((readLine = bufferedReader.readLine()) != null) {
+            String[] sArray = readLine.split(",");
+            createIndex(sArray[0], sArray[1]);
+        }
+        bufferedReader.close();
+    }
+
+
     // Operations: get, insert, delete, update, dropTable, you can add other operations.
     // remember to use locks to fill the TODOs
 
     public Row get(Cell primaryCell) {
         try {
             // TODO lock control
-            return this.index.get(primaryCell);
+            return this.latest(primaryCell);
         } finally {
             // TODO lock control
 
         }
     }
 
-    public void insert(Row row) {
+    // 多版本：B+ 树中存每个主键的最新版本，旧版本经 previous 串成链；
+    // 写操作只在链头加入未提交的新版本（删除为墓碑），提交时由 VersionManager 统一打上时间戳
+
+    public void insert(Row row, long session) {
+        Cell primaryCell = row.getEntries().get(this.primaryIndex);
         try {
-            // TODO lock control
+            lock.writeLock().lock();
             this.checkRowValidInTable(row);
             if (this.containsRow(row))
                 throw new DuplicateKeyException();
-            this.index.put(row.getEntries().get(this.primaryIndex), row);
+            this.writeVersion(primaryCell, new Row(row.getEntries()), session);
+            for (SecondaryIndex secondaryIndex : this.secondaryIndexes.values())
+                secondaryIndex.insert(row);
         } finally {
-            // TODO lock control
+            lock.writeLock().unlock();
         }
+        VersionManager.getInstance().recordWrite(session, this, primaryCell);
     }
 
-    public void delete(Row row) {
+    public void delete(Row row, long session) {
+        Cell primaryCell = row.getEntries().get(this.primaryIndex);
         try {
-            // TODO lock control.
+            lock.writeLock().lock();
             this.checkRowValidInTable(row);
             if (!this.containsRow(row))
                 throw new KeyNotExistException();
-            this.index.remove(row.getEntries().get(this.primaryIndex));
+            this.writeTombstone(primaryCell, session);
         } finally {
-            // TODO lock control.
+            lock.writeLock().unlock();
         }
+        VersionManager.getInstance().recordWrite(session, this, primaryCell);
     }
 
-    public void update(Cell primaryCell, Row newRow) {
+    public void update(Cell primaryCell, Row newRow, long session) {
+        Cell newPrimaryCell = newRow.getEntries().get(this.primaryIndex);
+        boolean keyChanged = newPrimaryCell.compareTo(primaryCell) != 0;
         try {
-            // TODO lock control.
+            lock.writeLock().lock();
             this.checkRowValidInTable(newRow);
-//      Row oldRow = this.get(primaryCell);
-            if(newRow.getEntries().get(this.primaryIndex).compareTo(primaryCell)!=0&&this.containsRow(newRow))
+            if (keyChanged && this.containsRow(newRow))
                 throw new DuplicateKeyException();   // 要么删并插入，要么抛出异常
-            this.index.remove(primaryCell);
-            this.index.put(newRow.getEntries().get(this.primaryIndex), newRow);
+            if (this.latest(primaryCell) == null)
+                throw new KeyNotExistException();
+            if (keyChanged)
+                this.writeTombstone(primaryCell, session);
+            this.writeVersion(newPrimaryCell, new Row(newRow.getEntries()), session);
+            for (SecondaryIndex secondaryIndex : this.secondaryIndexes.values())
+                secondaryIndex.insert(newRow);
         } finally {
-            // TODO lock control.
+            lock.writeLock().unlock();
         }
+        if (keyChanged)
+            VersionManager.getInstance().recordWrite(session, this, primaryCell, newPrimaryCell);
+        else
+            VersionManager.getInstance().recordWrite(session, this, primaryCell);
     }
 
-    private void serialize() {
+    private void writeVersion(Cell primaryCell, Row version, long session) {
+        version.commitTimestamp = Row.PENDING;
+        version.writer = session;
+        if (this.index.contains(primaryCell)) {
+            version.previous = this.index.get(primaryCell);
+            this.index.update(primaryCell, version);
+        } else {
+            this.index.put(primaryCell, version);
+        }
+    }
+
+    private void writeTombstone(Cell primaryCell, long session) {
+        Row tombstone = new Row(this.latest(primaryCell).getEntries());
+        tombstone.deleted = true;
+        this.writeVersion(primaryCell, tombstone, session);
+    }
+
+    // 恢复时重做日志中的行后像：直接写入 B+ 树，不建版本链（恢复期间没有其他事务）
+
+    void redoPut(Row row) {
+        Cell primaryCell = row.getEntries().get(this.primaryIndex);
         try {
-            File tableFolder = new File(this.getTableFolderPath());
-            if (!tableFolder.exists() ? !tableFolder.mkdirs() : !tableFolder.isDirectory())
-                throw new FileIOException(this.getTableFolderPath() + " on serializing table in folder");
-            File tableFile = new File(this.getTablePath());
-            if (!tableFile.exists() ? !tableFile.createNewFile() : !tableFile.isFile())
-                throw new FileIOException(this.getTablePath() + " on serializing table to file");
-            FileOutputStream fileOutputStream = new FileOutputStream(this.getTablePath());
-            ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream);
-            for (Row row : this)
-                objectOutputStream.writeObject(row);
-            objectOutputStream.close();
-            fileOutputStream.close();
-        } catch (IOException e) {
-            throw new FileIOException(this.getTablePath() + " on serializing");
+            lock.writeLock().lock();
+            this.removeSecondaryEntries(primaryCell);
+            if (this.index.contains(primaryCell))
+                this.index.update(primaryCell, row);
+            else
+                this.index.put(primaryCell, row);
+            for (SecondaryIndex secondaryIndex : this.secondaryIndexes.values())
+                secondaryIndex.insert(row);
+        } finally {
+            lock.writeLock().unlock();
         }
+        this.markDirty(primaryCell);
     }
 
-    private ArrayList<Row> deserialize() {
+    void redoDelete(Cell primaryCell) {
         try {
-            File tableFolder = new File(this.getTableFolderPath());
-            if (!tableFolder.exists() ? !tableFolder.mkdirs() : !tableFolder.isDirectory())
-                throw new FileIOException(this.getTableFolderPath() + " when deserialize");
-            File tableFile = new File(this.getTablePath());
-            if (!tableFile.exists())
-                return new ArrayList<>();
-            FileInputStream fileInputStream = new FileInputStream(this.getTablePath());
-            ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
-            ArrayList<Row> rowsOnDisk = new ArrayList<>();
-            Object tmpObj;
-            while (fileInputStream.available() > 0) {
-                tmpObj = objectInputStream.readObject();
-                rowsOnDisk.add((Row) tmpObj);
+            lock.writeLock().lock();
+            this.removeSecondaryEntries(primaryCell);
+            if (this.index.contains(primaryCell))
+                this.index.remove(primaryCell);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        this.markDirty(primaryCell);
+    }
+
+    private void removeSecondaryEntries(Cell primaryCell) {
+        if (!this.index.contains(primaryCell))
+            return;
+        for (Row version = this.index.get(primaryCell); version != null; version = version.previous)
+            if (!version.deleted)
+                for (SecondaryIndex secondaryIndex : this.secondaryIndexes.values())
+                    secondaryIndex.delete(version);
+    }
+
+    // 写者看到的最新版本，不存在或已删除时为 null
+    private Row latest(Cell primaryCell) {
+        if (!this.index.contains(primaryCell))
+            return null;
+        return Snapshot.LATEST.visible(this.index.get(primaryCell));
+    }
+
+    // 提交：把该会话在这个主键上写的未提交版本打上提交时间戳
+    void stamp(Cell primaryCell, long session, long commitTimestamp) {
+        try {
+            lock.readLock().lock();
+            if (!this.index.contains(primaryCell))
+                return;
+            for (Row version = this.index.get(primaryCell); version != null; version = version.previous) {
+                if (version.commitTimestamp != Row.PENDING)
+                    break;
+                if (version.writer == session)
+                    version.commitTimestamp = commitTimestamp;
             }
-            objectInputStream.close();
-            fileInputStream.close();
-            return rowsOnDisk;
+            this.markDirty(primaryCell);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 清理一个主键上任何快照都看不到的旧版本，oldest 为仍在使用的最早快照。
+     * 最新版本是已可见的墓碑时整条移出 B+ 树；旧版本独有的列值同时从二级索引中删除。
+     * 返回 false 表示还有旧版本要等快照关闭后再清理。
+     */
+    boolean vacuum(Cell primaryCell, long oldest) {
+        try {
+            lock.writeLock().lock();
+            if (!this.index.contains(primaryCell))
+                return true;
+            Row newest = this.index.get(primaryCell);
+            Row horizon = newest;
+            while (horizon != null && horizon.commitTimestamp > oldest)
+                horizon = horizon.previous;
+            if (horizon == null)
+                return newest.previous == null && !newest.deleted;
+            ArrayList<Row> removed = new ArrayList<>();
+            for (Row version = horizon.previous; version != null; version = version.previous)
+                removed.add(version);
+            horizon.previous = null;
+            if (horizon == newest && newest.deleted)
+                this.index.remove(primaryCell);
+
+            ArrayList<Row> kept = new ArrayList<>();
+            if (this.index.contains(primaryCell))
+                for (Row version = this.index.get(primaryCell); version != null; version = version.previous)
+                    if (!version.deleted)
+                        kept.add(version);
+            for (SecondaryIndex secondaryIndex : this.secondaryIndexes.values()) {
+                int columnIndex = secondaryIndex.getColumnIndex();
+                for (Row version : removed) {
+                    Cell value = version.getEntries().get(columnIndex);
+                    if (version.deleted || value.value == null)
+                        continue;
+                    boolean held = false;
+                    for (Row keptVersion : kept)
+                        if (value.equals(keptVersion.getEntries().get(columnIndex)))
+                            held = true;
+                    if (!held)
+                        secondaryIndex.delete(version);
+                }
+            }
+            return horizon == newest;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markDirty(Cell primaryCell) {
+        synchronized (this.dirtyKeys) {
+            this.dirtyKeys.add(primaryCell);
+        }
+    }
+
+    private void markDirty(Collection<Cell> primaryCells) {
+        synchronized (this.dirtyKeys) {
+            this.dirtyKeys.addAll(primaryCells);
+        }
+    }
+
+    /**
+     * 模糊检查点：只落盘快照中已提交的数据，每次持有读闩检查一批主键，写者只在批与批之间被短暂阻塞。
+     * 只检查上次落盘后提交过修改的主键：快照中已删除的释放其槽，可见版本尚未写入的写进所在的页，
+     * 最后只把这些脏页一次性刷盘。在快照之后又提交了新版本的主键留到下次落盘。
+     */
+    private void serialize(Snapshot snapshot, ArrayList<Cell> keys) {
+        ArrayList<Cell> changing = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += PERSIST_BATCH_SIZE) {
+            ArrayList<Pair<Cell, Row>> batch = new ArrayList<>();
+            try {
+                lock.readLock().lock();
+                for (Cell key : keys.subList(from, Math.min(keys.size(), from + PERSIST_BATCH_SIZE))) {
+                    Row newest = this.index.contains(key) ? this.index.get(key) : null;
+                    if (newest != null && newest.commitTimestamp > snapshot.timestamp)
+                        changing.add(key);
+                    batch.add(new Pair<>(key, newest == null ? null : snapshot.visible(newest)));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            for (Pair<Cell, Row> entry : batch) {
+                Long location = this.locations.get(entry.left);
+                if (entry.right == null) {
+                    if (location != null)
+                        this.storage.delete(this.locations.remove(entry.left));
+                } else if (!entry.right.persisted) {
+                    byte[] record = encode(entry.right);
+                    this.locations.put(entry.left, location == null ? this.storage.insert(record) : this.storage.update(location, record));
+                    entry.right.persisted = true;
+                }
+            }
+        }
+        this.storage.flush();
+        synchronized (this.dirtyKeys) {
+            this.dirtyKeys.addAll(changing);
+        }
+    }
+
+    private ArrayList<Row> deserialize() {
+        File tableFolder = new File(this.getTableFolderPath());
+        if (!tableFolder.exists() ? !tableFolder.mkdirs() : !tableFolder.isDirectory())
+            throw new FileIOException(this.getTableFolderPath() + " when deserialize");
+        File tableFile = new File(this.getTablePath());
+        if (isObjectStream(tableFile))
+            rewrite(tableFile, readObjectStream(tableFile));
+        this.storage = new PageFile(this.getTablePath(), this.pageSize());
+        // 行直接从映射的页中解码，不经过堆上的页副本
+        ArrayList<Row> rowsOnDisk = new ArrayList<>();
+        this.storage.scan((location, record) -> {
+            Row row = new Row(this.rowCodec.decode(record));
+            row.persisted = true;
+            this.locations.put(row.getEntries().get(this.primaryIndex), location);
+            rowsOnDisk.add(row);
+        });
+        return rowsOnDisk;
+    }
+
+    private byte[] encode(Row row) {
+        return this.rowCodec.encode(row.getEntries());
+    }
+
+    RowCodec getRowCodec() {
+        return this.rowCodec;
+    }
+
+    RowCodec getKeyCodec() {
+        return this.keyCodec;
+    }
+
+    // 一页至少放得下一条最长的行
+    private int pageSize() {
+        int needed = RowCodec.maxLength(this.columns) + Page.HEADER_SIZE + Page.SLOT_SIZE;
+        return (needed + Global.PAGE_SIZE - 1) / Global.PAGE_SIZE * Global.PAGE_SIZE;
+    }
+
+    // 旧版本的表文件是 Row 对象的 Java 序列化流
+    private static boolean isObjectStream(File tableFile) {
+        if (!tableFile.isFile() || tableFile.length() < 2)
+            return false;
+        try (DataInputStream input = new DataInputStream(new FileInputStream(tableFile))) {
+            return input.readShort() == ObjectStreamConstants.STREAM_MAGIC;
+        } catch (IOException e) {
+            throw new FileIOException(tableFile.getPath() + " when deserialize");
+        }
+    }
+
+    private ArrayList<Row> readObjectStream(File tableFile) {
+        ArrayList<Row> rows = new ArrayList<>();
+        try (FileInputStream fileInputStream = new FileInputStream(tableFile);
+             ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream)) {
+            while (fileInputStream.available() > 0)
+                rows.add((Row) objectInputStream.readObject());
         } catch (IOException e) {
             throw new FileIOException(this.getTablePath() + " when deserialize");
         } catch (ClassNotFoundException e) {
             throw new FileIOException(this.getTablePath() + " when deserialize(serialized object cannot be found)");
         }
+        return rows;
     }
 
-    public void persist() {
+    // 把旧格式表文件中读出的行写成新的分页临时文件，再原子地替换原文件
+    private void rewrite(File tableFile, ArrayList<Row> rows) {
+        File tempFile = new File(this.getTablePath() + ".tmp");
+        if (tempFile.exists() && !tempFile.delete())
+            throw new FileIOException(tempFile.getPath() + " when deserialize");
+        PageFile converted = new PageFile(tempFile.getPath(), this.pageSize());
+        for (Row row : rows)
+            converted.insert(encode(row));
+        converted.flush();
+        converted.close();
         try {
-            // TODO add lock control.
-            lock.writeLock().lock();
-            serialize();
-        } finally {
-            // TODO add lock control.
-            lock.writeLock().unlock();
+            Files.move(tempFile.toPath(), tableFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new FileIOException(this.getTablePath() + " when deserialize");
+        }
+    }
+
+    public void persist() {
+        synchronized (this.locations) {
+            if (this.storage == null)   // 已被删除的表
+                return;
+            ArrayList<Cell> keys;
+            synchronized (this.dirtyKeys) {
+                if (this.dirtyKeys.isEmpty())
+                    return;
+                keys = new ArrayList<>(this.dirtyKeys);
+                this.dirtyKeys.clear();
+            }
+            // 快照在落盘期间保持打开，其中的版本不会被清理
+            Snapshot snapshot = VersionManager.getInstance().openSnapshot(-1);
+            try {
+                serialize(snapshot, keys);
+            } catch (RuntimeException e) {
+                // 没有落盘的主键下次重试，日志在成功落盘前也不会被截断
+                this.markDirty(keys);
+                throw e;
+            } finally {
+                VersionManager.getInstance().closeSnapshot(snapshot);
+            }
         }
     }
 
     public void dropTable() { // remove table data file
         try {
             // TODO lock control.
-            File tableFolder = new File(this.getTableFolderPath());
-            if (!tableFolder.exists() ? !tableFolder.mkdirs() : !tableFolder.isDirectory())
-                throw new FileIOException(this.getTableFolderPath() + " when dropTable");
+            synchronized (this.locations) {
+                if (this.storage != null)   // 没有读入过的表不必关闭
+                    this.storage.close();
+                this.storage = null;
+                this.locations.clear();
+            }
             File tableFile = new File(this.getTablePath());
             if (tableFile.exists() && !tableFile.delete())
                 throw new FileIOException(this.getTablePath() + " when dropTable");
@@ -295,25 +518,89 @@ public class Table implements Iterable<Row> {
         }
     }
 
+    // Secondary indexes: column value -> primary keys, kept in sync by insert/delete/update.
+
+    public void createIndex(String indexName, String columnName) {
+        if (this.secondaryIndexes.containsKey(indexName))
+            throw new DuplicateIndexException(indexName);
+        int columnIndex = -1;
+        for (int i = 0; i < this.columns.size(); i++)
+            if (this.columns.get(i).getColumnName().equals(columnName))
+                columnIndex = i;
+        if (columnIndex < 0)
+            throw new ColumnNotExistException(columnName);
+        SecondaryIndex secondaryIndex = new SecondaryIndex(indexName, columnName, columnIndex, this.primaryIndex, this.index);
+        try {
+            lock.writeLock().lock();
+            // 旧版本也要建索引，快照读才能通过索引找到它们
+            ArrayList<Row> versions = new ArrayList<>();
+            for (Pair<Cell, Row> entry : this.index)
+                for (Row version = entry.right; version != null; version = version.previous)
+                    if (!version.deleted)
+                        versions.add(version);
+            secondaryIndex.load(versions);
+            this.secondaryIndexes.put(indexName, secondaryIndex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void dropIndex(String indexName) {
+        if (!this.secondaryIndexes.containsKey(indexName))
+            throw new IndexNotExistException(indexName);
+        try {
+            lock.writeLock().lock();
+            this.secondaryIndexes.remove(indexName);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean containsIndex(String indexName) {
+        return this.secondaryIndexes.containsKey(indexName);
+    }
+
+    // 返回该列上的任一二级索引，没有则返回 null
+    public SecondaryIndex getSecondaryIndex(String columnName) {
+        for (SecondaryIndex secondaryIndex : this.secondaryIndexes.values())
+            if (secondaryIndex.getColumnName().equals(columnName))
+                return secondaryIndex;
+        return null;
+    }
+
+    public Collection<SecondaryIndex> getSecondaryIndexes() {
+        return this.secondaryIndexes.values();
+    }
+
     // Operations involving logic expressions.
 
     // Operations
 
+    // 对每个主键返回快照中可见的版本，看不到的主键跳过
     private class TableIterator implements Iterator<Row> {
         private Iterator<Pair<Cell, Row>> iterator;
+        private Snapshot snapshot;
+        private Row nextRow;
 
-        TableIterator(Table table) {
-            this.iterator = table.index.iterator();
+        TableIterator(Iterator<Pair<Cell, Row>> iterator, Snapshot snapshot) {
+            this.iterator = iterator;
+            this.snapshot = snapshot;
         }
 
         @Override
         public boolean hasNext() {
-            return iterator.hasNext();
+            while (nextRow == null && iterator.hasNext())
+                nextRow = snapshot.visible(iterator.next().right);
+            return nextRow != null;
         }
 
         @Override
         public Row next() {
-            return iterator.next().right;
+            if (!hasNext())
+                throw new NoSuchElementException();
+            Row row = nextRow;
+            nextRow = null;
+            return row;
         }
     }
 
@@ -323,13 +610,26 @@ public class Table implements Iterable<Row> {
 
     @Override
     public Iterator<Row> iterator() {
+        return this.iterator(Snapshot.LATEST);
+    }
+
+    public Iterator<Row> iterator(Snapshot snapshot) {
         try {
             lock.readLock().lock();
-            return new TableIterator(this);
+            return new TableIterator(this.index.iterator(), snapshot);
         } finally {
             lock.readLock().unlock();
         }
+    }
 
+    // 主键索引上的范围扫描，null 表示该侧无界
+    public Iterator<Row> rangeIterator(Cell lo, boolean loInclusive, Cell hi, boolean hiInclusive, Snapshot snapshot) {
+        try {
+            lock.readLock().lock();
+            return new TableIterator(this.index.range(lo, loInclusive, hi, hiInclusive), snapshot);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     private void checkRowValidInTable(Row row) {
@@ -351,7 +651,7 @@ public class Table implements Iterable<Row> {
     }
 
     private Boolean containsRow(Row row) {
-        return this.index.contains(row.getEntries().get(this.primaryIndex));
+        return this.latest(row.getEntries().get(this.primaryIndex)) != null;
     }
 
     public String getTableFolderPath() {
@@ -366,6 +666,10 @@ public class Table implements Iterable<Row> {
         return this.getTablePath() + Global.META_SUFFIX;
     }
 
+    public String getTableIndexMetaPath() {
+        return this.getTablePath() + Global.INDEX_SUFFIX;
+    }
+
     public String toString() {
         StringBuilder s = new StringBuilder("Table " + this.tableName + ": ");
         for (Column column : this.columns) s.append("\t(").append(column.toString()).append(')');
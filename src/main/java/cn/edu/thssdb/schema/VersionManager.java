@@ -0,0 +1,122 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Pair;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.TreeMap;
+
+/**
+ * VersionManager hands out commit timestamps and snapshots for MVCC.
+ * A transaction reads the snapshot taken when it began; the versions it writes stay pending
+ * (visible only to itself) until commit stamps them all with one new timestamp.
+ * Old versions are vacuumed once no open snapshot is older than the version replacing them.
+ */
+
+public class VersionManager {
+
+    private static final VersionManager INSTANCE = new VersionManager();
+
+    // timestamp of the last commit
+    private long clock = 0;
+    // snapshots in use, timestamp -> number of holders
+    private final TreeMap<Long, Integer> activeSnapshots = new TreeMap<>();
+    private final HashMap<Long, Long> transactionSnapshots = new HashMap<>();
+    // keys each open transaction has written
+    private final HashMap<Long, ArrayList<Pair<Table, Cell>>> pendingWrites = new HashMap<>();
+    // keys holding versions that may still be needed by an open snapshot
+    private LinkedHashSet<Pair<Table, Cell>> garbage = new LinkedHashSet<>();
+
+    public static VersionManager getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void begin(long session) {
+        if (transactionSnapshots.containsKey(session))
+            return;
+        transactionSnapshots.put(session, clock);
+        retain(clock);
+    }
+
+    /**
+     * The snapshot a statement of the session reads, held until closeSnapshot so its versions
+     * are not vacuumed. Outside a transaction it is the latest committed state.
+     */
+    public synchronized Snapshot openSnapshot(long session) {
+        Long timestamp = transactionSnapshots.get(session);
+        Snapshot snapshot = new Snapshot(timestamp == null ? clock : timestamp, session);
+        retain(snapshot.timestamp);
+        return snapshot;
+    }
+
+    public synchronized void closeSnapshot(Snapshot snapshot) {
+        release(snapshot.timestamp);
+    }
+
+    // the latest committed state, for persisting
+    public synchronized Snapshot committed() {
+        return new Snapshot(clock, -1);
+    }
+
+    void recordWrite(long session, Table table, Cell... keys) {
+        boolean autoCommit;
+        synchronized (this) {
+            ArrayList<Pair<Table, Cell>> writes = pendingWrites.computeIfAbsent(session, k -> new ArrayList<>());
+            for (Cell key : keys)
+                writes.add(new Pair<>(table, key));
+            autoCommit = !transactionSnapshots.containsKey(session);
+        }
+        if (autoCommit)
+            commit(session);
+    }
+
+    /**
+     * End the session's transaction: stamp every version it wrote with a new commit timestamp,
+     * then vacuum the versions no snapshot can see any more.
+     */
+    public void commit(long session) {
+        LinkedHashSet<Pair<Table, Cell>> candidates;
+        long oldest;
+        synchronized (this) {
+            ArrayList<Pair<Table, Cell>> writes = pendingWrites.remove(session);
+            if (writes != null) {
+                long commitTimestamp = clock + 1;
+                for (Pair<Table, Cell> write : writes)
+                    write.left.stamp(write.right, session, commitTimestamp);
+                clock = commitTimestamp;
+                garbage.addAll(writes);
+            }
+            Long snapshot = transactionSnapshots.remove(session);
+            if (snapshot != null)
+                release(snapshot);
+            if (garbage.isEmpty())
+                return;
+            oldest = activeSnapshots.isEmpty() ? clock : activeSnapshots.firstKey();
+            candidates = garbage;
+            garbage = new LinkedHashSet<>();
+        }
+        ArrayList<Pair<Table, Cell>> remaining = new ArrayList<>();
+        for (Pair<Table, Cell> candidate : candidates) {
+            if (!candidate.left.vacuum(candidate.right, oldest))
+                remaining.add(candidate);
+        }
+        synchronized (this) {
+            garbage.addAll(remaining);
+        }
+    }
+
+    private void retain(long timestamp) {
+        activeSnapshots.merge(timestamp, 1, Integer::sum);
+    }
+
+    private void release(long timestamp) {
+        Integer count = activeSnapshots.get(timestamp);
+        if (count == null)
+            return;
+        if (count == 1)
+            activeSnapshots.remove(timestamp);
+        else
+            activeSnapshots.put(timestamp, count - 1);
+    }
+}
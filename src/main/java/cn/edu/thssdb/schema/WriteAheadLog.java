@@ -0,0 +1,434 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.FileIOException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead log of one database, kept in a preallocated file.
+ * The file starts with a header (magic, LSN of the first record) followed by records framed as
+ * [payload length][CRC32 of payload][payload = LSN, session, type, body].
+ * LSNs increase by one per record and keep increasing across truncate and restart.
+ *
+ * Transaction boundaries are STATEMENT records (begin, commit, rollback); begin is written just
+ * before the first change of the transaction, so a transaction that changed nothing in this database
+ * leaves no record in its log. Data changes are logged
+ * physiologically as the after-image of one row: ROW_PUT carries the table name and the new row,
+ * ROW_DELETE the table name and the primary key, so recovery writes them straight into the table.
+ * Rows and keys are encoded by the RowCodec of their table and decoded with it during recovery.
+ *
+ * append only writes the record to the channel; flush makes it durable. Committers calling flush
+ * concurrently are grouped: one of them forces the channel for every record appended so far while
+ * the others wait for it, so many commits share one force. Since the file is preallocated, the
+ * force does not have to write file metadata.
+ * Reading stops at the first zeroed, torn or corrupt record, which is where the log ends.
+ */
+
+public class WriteAheadLog {
+
+    private static final int MAGIC = 0x54574132;
+    private static final int HEADER_SIZE = 12;
+    private static final int FRAME_SIZE = 8;
+    private static final int PAYLOAD_HEADER_SIZE = 17;
+
+    public static final byte STATEMENT = 0;
+    public static final byte ROW_PUT = 3;
+    public static final byte ROW_DELETE = 4;
+
+    public static class Record {
+        public final long lsn;
+        public final long session;
+        public final byte type;
+        // STATEMENT only
+        public final String statement;
+        // ROW_PUT and ROW_DELETE only: the new row, or just the primary key of a deleted row
+        public final String tableName;
+        private final byte[] image;
+
+        private Record(long lsn, long session, byte type, String statement, String tableName, byte[] image) {
+            this.lsn = lsn;
+            this.session = session;
+            this.type = type;
+            this.statement = statement;
+            this.tableName = tableName;
+            this.image = image;
+        }
+
+        // the row, or the primary key, decoded with the codec of the table's rows or primary key
+        public ArrayList<Cell> cells(RowCodec codec) {
+            return codec.decode(image);
+        }
+    }
+
+    private final String path;
+    private FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushed = lock.newCondition();
+    private long firstLsn;
+    private long nextLsn;
+    private long durableLsn;
+    private long writePosition;
+    private long allocated;
+    private boolean flushing = false;
+    // records of a log written before the binary format, replayed once and then truncated
+    private ArrayList<Record> legacyRecords = null;
+
+    public WriteAheadLog(String path) {
+        this.path = path;
+        try {
+            File file = new File(path);
+            File folder = file.getParentFile();
+            if (folder != null && !folder.exists())
+                folder.mkdirs();
+            this.channel = FileChannel.open(file.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.allocated = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (allocated >= HEADER_SIZE && channel.read(header, 0) == HEADER_SIZE
+                    && ((ByteBuffer) header.flip()).getInt() == MAGIC) {
+                this.firstLsn = header.getLong();
+                this.nextLsn = firstLsn;
+                this.writePosition = HEADER_SIZE;
+                for (Record record : scan())
+                    nextLsn = record.lsn + 1;
+            } else {
+                this.firstLsn = 1;
+                this.nextLsn = 1;
+                if (allocated > 0)
+                    this.legacyRecords = readLegacy(file);
+                else
+                    reset();
+            }
+            this.durableLsn = nextLsn - 1;
+        } catch (IOException e) {
+            throw new FileIOException(path + " when open log");
+        }
+    }
+
+    /**
+     * Write a record after the current end of the log and return its LSN.
+     * The record is not durable until flush is called with this LSN or a later one.
+     */
+    public long append(long session, String statement) {
+        return append(session, STATEMENT, statement.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // after-image of an inserted or updated row
+    public long appendPut(long session, Table table, Row row) {
+        return append(session, ROW_PUT, body(table.tableName, table.getRowCodec().encode(row.getEntries())));
+    }
+
+    public long appendDelete(long session, Table table, Cell primaryKey) {
+        return append(session, ROW_DELETE, body(table.tableName,
+                table.getKeyCodec().encode(Collections.singletonList(primaryKey))));
+    }
+
+    private long append(long session, byte type, byte[] body) {
+        try {
+            lock.lock();
+            if (legacyRecords != null) {
+                // rewrite the old log in the binary format before adding to it
+                ArrayList<Record> records = legacyRecords;
+                legacyRecords = null;
+                reset();
+                for (Record record : records)
+                    write(record.session, STATEMENT, record.statement.getBytes(StandardCharsets.UTF_8));
+            }
+            return write(session, type, body);
+        } catch (IOException e) {
+            throw new FileIOException(path + " when append log");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long write(long session, byte type, byte[] body) throws IOException {
+        int length = PAYLOAD_HEADER_SIZE + body.length;
+        ByteBuffer buffer = ByteBuffer.allocate(FRAME_SIZE + length);
+        long lsn = nextLsn;
+        buffer.putInt(length);
+        buffer.putInt(0);
+        buffer.putLong(lsn);
+        buffer.putLong(session);
+        buffer.put(type);
+        buffer.put(body);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), FRAME_SIZE, length);
+        buffer.putInt(4, (int) crc.getValue());
+        buffer.flip();
+        ensureAllocated(writePosition + buffer.remaining());
+        while (buffer.hasRemaining())
+            writePosition += channel.write(buffer, writePosition);
+        nextLsn = lsn + 1;
+        return lsn;
+    }
+
+    // Block until every record up to lsn is on disk, sharing the force with concurrent committers.
+    public void flush(long lsn) {
+        try {
+            lock.lock();
+            while (durableLsn < lsn) {
+                if (flushing) {
+                    flushed.awaitUninterruptibly();
+                    continue;
+                }
+                flushing = true;
+                long target = nextLsn - 1;
+                boolean forced = false;
+                lock.unlock();
+                try {
+                    channel.force(false);
+                    forced = true;
+                } catch (IOException e) {
+                    throw new FileIOException(path + " when flush log");
+                } finally {
+                    lock.lock();
+                    flushing = false;
+                    if (forced && target > durableLsn)
+                        durableLsn = target;
+                    flushed.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // All records in the log, in LSN order.
+    public ArrayList<Record> readAll() {
+        try {
+            lock.lock();
+            if (legacyRecords != null)
+                return new ArrayList<>(legacyRecords);
+            return scan();
+        } catch (IOException e) {
+            throw new FileIOException(path + " when read log");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop the records before lsn once a checkpoint has made them unnecessary.
+     * The remaining records are copied to a new file that replaces the log atomically,
+     * so a crash in between leaves either the old or the new log, never a partial one.
+     */
+    public void truncateBefore(long lsn) {
+        try {
+            lock.lock();
+            lsn = Math.min(lsn, nextLsn);
+            if (legacyRecords != null || lsn <= firstLsn)
+                return;
+            awaitFlush();
+            long position = HEADER_SIZE;
+            ByteBuffer frame = ByteBuffer.allocate(4);
+            for (long skipped = firstLsn; skipped < lsn; skipped++) {
+                frame.clear();
+                channel.read(frame, position);
+                frame.flip();
+                position += FRAME_SIZE + frame.getInt();
+            }
+            long tail = writePosition - position;
+            long size = HEADER_SIZE;
+            while (size < HEADER_SIZE + tail)
+                size += Global.WAL_PREALLOCATE_SIZE;
+            File file = new File(path);
+            File temp = new File(path + ".tmp");
+            try (FileChannel output = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                output.write(header(lsn), 0);
+                output.position(HEADER_SIZE);
+                for (long copied = 0; copied < tail; )
+                    copied += channel.transferTo(position + copied, tail - copied, output);
+                output.write(ByteBuffer.allocate(1), size - 1);
+                output.force(true);
+            }
+            channel.close();
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            firstLsn = lsn;
+            writePosition = HEADER_SIZE + tail;
+            allocated = size;
+            durableLsn = nextLsn - 1;
+        } catch (IOException e) {
+            throw new FileIOException(path + " when truncate log");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Drop every record, e.g. after the tables were persisted. LSNs continue from where they were.
+    public void truncate() {
+        try {
+            lock.lock();
+            awaitFlush();
+            firstLsn = nextLsn;
+            legacyRecords = null;
+            reset();
+        } catch (IOException e) {
+            throw new FileIOException(path + " when truncate log");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // LSN the next record will get
+    public long nextLsn() {
+        try {
+            lock.lock();
+            return nextLsn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Bytes of records in the log, not counting the preallocated tail.
+    public long size() {
+        try {
+            lock.lock();
+            return legacyRecords != null ? allocated : writePosition - HEADER_SIZE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        try {
+            lock.lock();
+            channel.force(true);
+            channel.close();
+        } catch (IOException e) {
+            throw new FileIOException(path + " when close log");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // the channel must not be replaced or emptied while a flush leader forces it
+    private void awaitFlush() {
+        while (flushing)
+            flushed.awaitUninterruptibly();
+    }
+
+    private static ByteBuffer header(long firstLsn) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putLong(firstLsn);
+        header.flip();
+        return header;
+    }
+
+    private void reset() throws IOException {
+        channel.truncate(0);
+        allocated = 0;
+        ByteBuffer header = header(firstLsn);
+        ensureAllocated(HEADER_SIZE);
+        while (header.hasRemaining())
+            channel.write(header, HEADER_SIZE - header.remaining());
+        writePosition = HEADER_SIZE;
+        channel.force(true);
+    }
+
+    // Grow the file by whole chunks of zeros; the new size is forced here, so flush needs only the data.
+    private void ensureAllocated(long end) throws IOException {
+        if (end <= allocated)
+            return;
+        long size = allocated;
+        while (size < end)
+            size += Global.WAL_PREALLOCATE_SIZE;
+        channel.write(ByteBuffer.allocate(1), size - 1);
+        allocated = size;
+        channel.force(true);
+    }
+
+    // Read records from the start of the log and move writePosition to the end of the last valid one.
+    private ArrayList<Record> scan() throws IOException {
+        ArrayList<Record> records = new ArrayList<>();
+        long position = HEADER_SIZE;
+        long expectedLsn = firstLsn;
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_SIZE);
+        while (position + FRAME_SIZE <= allocated) {
+            frame.clear();
+            if (channel.read(frame, position) < FRAME_SIZE)
+                break;
+            frame.flip();
+            int length = frame.getInt();
+            int checksum = frame.getInt();
+            if (length < PAYLOAD_HEADER_SIZE || position + FRAME_SIZE + length > allocated)
+                break;
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            while (payload.hasRemaining())
+                if (channel.read(payload, position + FRAME_SIZE + payload.position()) < 0)
+                    break;
+            CRC32 crc = new CRC32();
+            crc.update(payload.array(), 0, length);
+            if (payload.hasRemaining() || (int) crc.getValue() != checksum)
+                break;
+            payload.flip();
+            long lsn = payload.getLong();
+            if (lsn != expectedLsn)
+                break;
+            long session = payload.getLong();
+            byte type = payload.get();
+            if (type == STATEMENT) {
+                String statement = new String(payload.array(), PAYLOAD_HEADER_SIZE, length - PAYLOAD_HEADER_SIZE,
+                        StandardCharsets.UTF_8);
+                records.add(new Record(lsn, session, type, statement, null, null));
+            } else {
+                DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload.array(),
+                        PAYLOAD_HEADER_SIZE, length - PAYLOAD_HEADER_SIZE));
+                String tableName = input.readUTF();
+                byte[] image = new byte[input.available()];
+                input.readFully(image);
+                records.add(new Record(lsn, session, type, null, tableName, image));
+            }
+            position += FRAME_SIZE + length;
+            expectedLsn++;
+        }
+        writePosition = position;
+        return records;
+    }
+
+    // the old text format, one "session|statement" per line
+    private static ArrayList<Record> readLegacy(File file) throws IOException {
+        ArrayList<Record> records = new ArrayList<>();
+        long lsn = 1;
+        for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+            int separator = line.indexOf('|');
+            if (separator < 0 || !line.substring(0, separator).matches("\\d+"))
+                continue;
+            records.add(new Record(lsn++, Long.parseLong(line.substring(0, separator)), STATEMENT,
+                    line.substring(separator + 1), null, null));
+        }
+        return records;
+    }
+
+    private static byte[] body(String tableName, byte[] image) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeUTF(tableName);
+            output.write(image);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new FileIOException(tableName + " when encode log record");
+        }
+    }
+}
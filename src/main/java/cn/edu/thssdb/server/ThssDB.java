@@ -3,11 +3,19 @@ package cn.edu.thssdb.server;
 import cn.edu.thssdb.rpc.thrift.IService;
 import cn.edu.thssdb.schema.Manager;
 import cn.edu.thssdb.service.IServiceHandler;
+import cn.edu.thssdb.service.SessionEventHandler;
 import cn.edu.thssdb.common.Global;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TSimpleServer;
 import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,7 +26,7 @@ public class ThssDB {
 
   private static IServiceHandler handler;
   private static IService.Processor processor;
-  private static TServerSocket transport;
+  private static TServerTransport transport;
   private static TServer server;
 
   private Manager manager;
@@ -48,16 +56,41 @@ public class ThssDB {
 
   private static void setUp(IService.Processor processor) {
     try {
-      transport = new TServerSocket(Global.DEFAULT_SERVER_PORT);
-      server = new TThreadPoolServer(new TThreadPoolServer.Args(transport).processor(processor));
+      if (Global.SERVER_MODE.equals(Global.SERVER_MODE_SELECTOR)) {
+        server = selectorServer(processor);
+      } else {
+        transport = new TServerSocket(Global.DEFAULT_SERVER_PORT);
+        server = new TThreadPoolServer(new TThreadPoolServer.Args(transport).processor(processor)
+            .protocolFactory(protocolFactory()));
+      }
     //  server = new TSimpleServer(new TServer.Args(transport).processor(processor));
-      logger.info("Starting ThssDB ...");
+      // 连接关闭时回滚并关闭在它上面打开的会话，客户端崩溃也不会一直占着锁
+      server.setServerEventHandler(new SessionEventHandler(handler));
+      logger.info("Starting ThssDB ({} mode, {} protocol) ...", Global.SERVER_MODE, Global.SERVER_PROTOCOL);
       server.serve();
     } catch (TTransportException e) {
       logger.error(e.getMessage());
     }
   }
 
+  // 空闲连接只登记在选择器上，不占用线程；读完一个请求帧后才交给工作线程执行
+  private static TServer selectorServer(IService.Processor processor) throws TTransportException {
+    TNonblockingServerSocket socket = new TNonblockingServerSocket(Global.DEFAULT_SERVER_PORT);
+    transport = socket;
+    TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(socket)
+        .selectorThreads(Global.SERVER_SELECTOR_THREADS)
+        .workerThreads(Global.SERVER_WORKER_THREADS)
+        .acceptQueueSizePerThread(Global.SERVER_ACCEPT_QUEUE_SIZE);
+    args.processor(processor).transportFactory(new TFramedTransport.Factory()).protocolFactory(protocolFactory());
+    return new TThreadedSelectorServer(args);
+  }
+
+  private static TProtocolFactory protocolFactory() {
+    if (Global.SERVER_PROTOCOL.equals(Global.PROTOCOL_COMPACT))
+      return new TCompactProtocol.Factory();
+    return new TBinaryProtocol.Factory();
+  }
+
   private static class ThssDBHolder {
     private static final ThssDB INSTANCE = new ThssDB();
     private ThssDBHolder() {
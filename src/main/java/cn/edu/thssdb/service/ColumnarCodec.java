@@ -0,0 +1,124 @@
+package cn.edu.thssdb.service;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.rpc.thrift.ColumnDataType;
+import cn.edu.thssdb.rpc.thrift.ResultColumn;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 查询结果的列式编码：每列一个按类型存放的向量加一个 null 位图，
+ * 数值不再逐个转成字符串，客户端也不必再解析回来。
+ */
+
+public class ColumnarCodec {
+
+    public static List<ResultColumn> encode(List<Row> rows, List<ColumnType> columnTypes) {
+        List<ResultColumn> columnList = new ArrayList<>(columnTypes.size());
+        for (int i = 0; i < columnTypes.size(); i++) {
+            columnList.add(encodeColumn(rows, i, columnTypes.get(i)));
+        }
+        return columnList;
+    }
+
+    private static ResultColumn encodeColumn(List<Row> rows, int index, ColumnType columnType) {
+        ResultColumn column = new ResultColumn();
+        column.setDataType(ColumnDataType.valueOf(columnType.name()));
+        byte[] nullBitmap = new byte[(rows.size() + 7) / 8];
+        List<Integer> intValues = new ArrayList<>();
+        List<Long> longValues = new ArrayList<>();
+        List<Double> doubleValues = new ArrayList<>();
+        List<Integer> stringLengths = new ArrayList<>();
+        ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        for (int i = 0; i < rows.size(); i++) {
+            Comparable value = rows.get(i).getEntries().get(index).value;
+            if (value == null) {
+                nullBitmap[i >> 3] |= 1 << (i & 7);
+            }
+            switch (columnType) {
+                case INT:
+                    intValues.add(value == null ? 0 : (Integer) value);
+                    break;
+                case LONG:
+                    longValues.add(value == null ? 0L : (Long) value);
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    doubleValues.add(value == null ? 0d : ((Number) value).doubleValue());
+                    break;
+                default:
+                    byte[] bytes = value == null ? new byte[0] : value.toString().getBytes(StandardCharsets.UTF_8);
+                    stringBytes.write(bytes, 0, bytes.length);
+                    stringLengths.add(bytes.length);
+            }
+        }
+        column.setNullBitmap(nullBitmap);
+        switch (columnType) {
+            case INT:
+                column.setIntValues(intValues);
+                break;
+            case LONG:
+                column.setLongValues(longValues);
+                break;
+            case FLOAT:
+            case DOUBLE:
+                column.setDoubleValues(doubleValues);
+                break;
+            default:
+                column.setStringBytes(stringBytes.toByteArray());
+                column.setStringLengths(stringLengths);
+        }
+        return column;
+    }
+
+    /**
+     * 把列式结果还原成按行的字符串，供只需要显示结果的客户端使用
+     */
+    public static List<List<String>> toRowList(List<ResultColumn> columnList) {
+        List<List<String>> rowList = new ArrayList<>();
+        for (int c = 0; c < columnList.size(); c++) {
+            List<String> values = decodeColumn(columnList.get(c));
+            for (int i = 0; i < values.size(); i++) {
+                if (c == 0) rowList.add(new ArrayList<>(columnList.size()));
+                rowList.get(i).add(values.get(i));
+            }
+        }
+        return rowList;
+    }
+
+    private static List<String> decodeColumn(ResultColumn column) {
+        byte[] nullBitmap = column.getNullBitmap();
+        List<String> values = new ArrayList<>();
+        switch (column.getDataType()) {
+            case INT:
+                for (Integer value : column.getIntValues()) values.add(value.toString());
+                break;
+            case LONG:
+                for (Long value : column.getLongValues()) values.add(value.toString());
+                break;
+            case FLOAT:
+                for (Double value : column.getDoubleValues()) values.add(String.valueOf(value.floatValue()));
+                break;
+            case DOUBLE:
+                for (Double value : column.getDoubleValues()) values.add(value.toString());
+                break;
+            default:
+                byte[] bytes = column.getStringBytes();
+                int offset = 0;
+                for (Integer length : column.getStringLengths()) {
+                    values.add(new String(bytes, offset, length, StandardCharsets.UTF_8));
+                    offset += length;
+                }
+        }
+        for (int i = 0; i < values.size(); i++) {
+            if ((nullBitmap[i >> 3] & (1 << (i & 7))) != 0)
+                values.set(i, Global.ENTRY_NULL);
+        }
+        return values;
+    }
+}
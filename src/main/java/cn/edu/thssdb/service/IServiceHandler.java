@@ -2,19 +2,27 @@ package cn.edu.thssdb.service;
 
 import cn.edu.thssdb.parser.SQLHandler;
 import cn.edu.thssdb.query.QueryResult;
+import cn.edu.thssdb.rpc.thrift.CloseOperationReq;
+import cn.edu.thssdb.rpc.thrift.CloseOperationResp;
 import cn.edu.thssdb.rpc.thrift.ConnectReq;
 import cn.edu.thssdb.rpc.thrift.ConnectResp;
 import cn.edu.thssdb.rpc.thrift.DisconnetReq;
 import cn.edu.thssdb.rpc.thrift.DisconnetResp;
+import cn.edu.thssdb.rpc.thrift.ExecuteBatchReq;
+import cn.edu.thssdb.rpc.thrift.ExecuteBatchResp;
 import cn.edu.thssdb.rpc.thrift.ExecuteStatementReq;
 import cn.edu.thssdb.rpc.thrift.ExecuteStatementResp;
+import cn.edu.thssdb.rpc.thrift.FetchResultsReq;
+import cn.edu.thssdb.rpc.thrift.FetchResultsResp;
 import cn.edu.thssdb.rpc.thrift.GetTimeReq;
 import cn.edu.thssdb.rpc.thrift.GetTimeResp;
 import cn.edu.thssdb.rpc.thrift.IService;
+import cn.edu.thssdb.rpc.thrift.StatementResult;
 import cn.edu.thssdb.rpc.thrift.Status;
 import cn.edu.thssdb.schema.Database;
 import cn.edu.thssdb.schema.Manager;
 import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.Session;
 import cn.edu.thssdb.server.ThssDB;
 import cn.edu.thssdb.type.QueryResultType;
 import cn.edu.thssdb.common.Global;
@@ -23,11 +31,15 @@ import org.apache.thrift.TException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 public class IServiceHandler implements IService.Iface {
     public static Manager manager;
-    public long sessionCount = 0;
+    // 各 RPC 工作线程并发 connect，会话 id 原子地分配
+    public final AtomicLong sessionCount = new AtomicLong();
     private final static String INSERT = "insert";
     private final static String UPDATE = "update";
     private final static String DELETE = "delete";
@@ -36,6 +48,11 @@ public class IServiceHandler implements IService.Iface {
     private final static String DROP = "drop";
     private final static String[] CMD_HEADS = {INSERT, UPDATE, DELETE, SELECT,CREATE,DROP};
     public static SQLHandler sqlHandler;
+    // 未取完的查询结果，按 queryId 保存，客户端通过 fetchResults 继续拉取
+    private final ConcurrentHashMap<Long, QueryResult> cursors = new ConcurrentHashMap<>();
+    private final AtomicLong queryCount = new AtomicLong();
+    // 当前请求所在的连接，由 SessionEventHandler 在每个请求执行前设置；不经过服务器直接调用时为 null
+    private final ThreadLocal<SessionEventHandler.ConnectionContext> connection = new ThreadLocal<>();
 
     public IServiceHandler() {
         super();
@@ -54,7 +71,11 @@ public class IServiceHandler implements IService.Iface {
 
     @Override
     public ConnectResp connect(ConnectReq req) throws TException {
-        long session = sessionCount++;
+        long session = sessionCount.getAndIncrement();
+        manager.getSession(session);
+        SessionEventHandler.ConnectionContext context = connection.get();
+        if (context != null)
+            context.sessions.add(session);
         ConnectResp resp = new ConnectResp();
         resp.setStatus(new Status(Global.SUCCESS_CODE));
         resp.setSessionId(session);
@@ -63,18 +84,39 @@ public class IServiceHandler implements IService.Iface {
 
     @Override
     public DisconnetResp disconnect(DisconnetReq req) throws TException {
-        // TODO
+        SessionEventHandler.ConnectionContext context = connection.get();
+        if (context != null)
+            context.sessions.remove(req.getSessionId());
+        closeSession(req.getSessionId());
 
         DisconnetResp resp = new DisconnetResp();
         resp.setStatus(new Status(Global.SUCCESS_CODE));
         return resp;
     }
 
+    void enterConnection(SessionEventHandler.ConnectionContext context) {
+        connection.set(context);
+    }
+
+    // 关闭会话：释放它未取完的查询结果，未提交的事务回滚，释放它持有的锁
+    void closeSession(long session) {
+        cursors.values().removeIf(cursor -> {
+            if (cursor.getSession() != session)
+                return false;
+            cursor.close();
+            return true;
+        });
+        if (manager.hasSession(session)) {
+            sqlHandler.rollback(session);
+            manager.closeSession(session);
+        }
+    }
+
     @Override
     public ExecuteStatementResp executeStatement(ExecuteStatementReq req) throws TException {
         ExecuteStatementResp resp = new ExecuteStatementResp();
         long session = req.getSessionId();
-        if ((session < 0 || session >= sessionCount) && session != 114514) {
+        if (!manager.hasSession(session) && session != 114514) {
             Status status = new Status(Global.FAILURE_CODE);
             status.setMsg("please connect first.");
             resp.setStatus(status);
@@ -91,7 +133,7 @@ public class IServiceHandler implements IService.Iface {
             String cmd_head = command.split("\\s+")[0];
             ArrayList<QueryResult> queryResults;
             System.out.printf("executeStatement %s\n", statement);
-            if ((Arrays.asList(CMD_HEADS).contains(cmd_head.toLowerCase())) && !manager.currentSessions.contains(session)) {
+            if ((Arrays.asList(CMD_HEADS).contains(cmd_head.toLowerCase())) && !manager.getSession(session).inTransaction()) {
                 sqlHandler.evaluate("begin transaction", session);
                 queryResults = sqlHandler.evaluate(statement, session);
                 sqlHandler.evaluate("commit", session);
@@ -99,31 +141,194 @@ public class IServiceHandler implements IService.Iface {
             if (queryResults == null || queryResults.size() == 0) {
                 resp.setStatus(new Status(Global.SUCCESS_CODE));
                 resp.setIsAbort(true);
-                return resp;
+                return withTransactionState(resp, session);
+            }
+            // 事务被中止（如死锁牺牲者），后面的语句不再执行
+            if (queryResults.get(0) != null && queryResults.get(0).resultType == QueryResultType.ABORT) {
+                resp.setStatus(new Status(Global.SUCCESS_CODE));
+                resp.setIsAbort(true);
+                resp.addToColumnsList(queryResults.get(0).errorMessage);
+                return withTransactionState(resp, session);
             }
             results.addAll(queryResults);
         }
         resp.setStatus(new Status(Global.SUCCESS_CODE));
 
         if (results.size() == 1 && results.get(0) != null && results.get(0).resultType == QueryResultType.SELECT) {
-            for (Row row : results.get(0).results) {
-                ArrayList<String> the_result = row.toStringList();
-                resp.addToRowList(the_result);
-            }
-            if (!resp.isSetRowList()) {
-                resp.rowList = new ArrayList<>();
+            QueryResult queryResult = results.get(0);
+            int fetchSize = req.isSetFetchSize() ? req.getFetchSize() : 0;
+            try {
+                List<Row> rows = queryResult.fetch(fetchSize);
+                if (req.isSetColumnar() && req.isColumnar())
+                    resp.setColumnList(ColumnarCodec.encode(rows, queryResult.getColumnTypes()));
+                else
+                    resp.setRowList(toRowList(rows));
+            } catch (Exception e) {
+                queryResult.close();
+                resp.addToColumnsList(e.getMessage());
+                resp.addToErrorList(true);
+                return withTransactionState(resp, session);
             }
-            for (String column_name : results.get(0).getColumnNames()) {
+            for (String column_name : queryResult.getColumnNames()) {
                 resp.addToColumnsList(column_name);
             }
+            if (fetchSize > 0 && queryResult.hasMoreRows()) {
+                long queryId = queryCount.getAndIncrement();
+                cursors.put(queryId, queryResult);
+                resp.setQueryId(queryId);
+                resp.setHasMoreRows(true);
+            }
         } else {
             for (QueryResult queryResult : results) {
-                if (queryResult == null)
+                if (queryResult == null) {
                     resp.addToColumnsList("null");
-                else resp.addToColumnsList(queryResult.errorMessage);
+                    resp.addToErrorList(true);
+                } else {
+                    // 多条语句中的查询不返回结果，释放其快照
+                    if (queryResult.resultType == QueryResultType.SELECT)
+                        queryResult.close();
+                    resp.addToColumnsList(queryResult.errorMessage);
+                    resp.addToErrorList(queryResult.isError());
+                }
             }
         }
 
+        return withTransactionState(resp, session);
+    }
+
+    /**
+     * 批量执行：会话不在事务中时整批语句在一个事务中执行，最后提交一次；否则并入会话已开始的事务，由会话自己提交。
+     * 每条语句返回各自的状态和修改的行数。stopOnError 时遇到第一条失败的语句即停止，
+     * 整批自己开始的事务随之回滚；事务被中止（如死锁牺牲者）时同样停止。提交失败时整批回滚，返回失败的状态。
+     */
+    @Override
+    public ExecuteBatchResp executeBatch(ExecuteBatchReq req) throws TException {
+        ExecuteBatchResp resp = new ExecuteBatchResp();
+        long session = req.getSessionId();
+        if (!manager.hasSession(session) && session != 114514) {
+            Status status = new Status(Global.FAILURE_CODE);
+            status.setMsg("please connect first.");
+            resp.setStatus(status);
+            return resp;
+        }
+        boolean stopOnError = req.isSetStopOnError() && req.isStopOnError();
+        Session currentSession = manager.getSession(session);
+        boolean ownTransaction = !currentSession.inTransaction();
+        boolean failed = false;
+        resp.setResults(new ArrayList<>());
+        for (String statement : req.getStatements()) {
+            statement = statement.trim();
+            if (statement.endsWith(";"))
+                statement = statement.substring(0, statement.length() - 1).trim();
+            StatementResult result = new StatementResult(new Status(Global.SUCCESS_CODE), 0);
+            resp.addToResults(result);
+            if (statement.length() == 0) continue;
+            // 事务的日志写在当前数据库中，批中先 use 数据库时等到那之后才开始事务
+            if (ownTransaction && !currentSession.inTransaction() && manager.getCurrentDatabase(session) != null)
+                sqlHandler.evaluate("begin transaction", session);
+            ArrayList<QueryResult> queryResults = sqlHandler.evaluate(statement, session);
+            QueryResult queryResult = queryResults == null || queryResults.isEmpty() ? null : queryResults.get(0);
+            if (queryResult != null && queryResult.resultType == QueryResultType.SELECT)
+                queryResult.close();
+            if (queryResult != null && queryResult.resultType == QueryResultType.ABORT) {
+                // 事务已被回滚，后面的语句不再执行
+                result.getStatus().setCode(Global.FAILURE_CODE);
+                result.getStatus().setMsg(queryResult.errorMessage);
+                resp.setIsAbort(true);
+                break;
+            }
+            if (queryResult == null || queryResult.isError()) {
+                result.getStatus().setCode(Global.FAILURE_CODE);
+                result.getStatus().setMsg(queryResult == null ? "illegal SQL statement!" : queryResult.errorMessage);
+                if (stopOnError) {
+                    failed = true;
+                    break;
+                }
+                continue;
+            }
+            result.setAffectedRows(queryResult.affectedRows);
+            result.getStatus().setMsg(queryResult.errorMessage);
+        }
+        if (ownTransaction && currentSession.inTransaction()) {
+            if (failed) {
+                sqlHandler.rollback(session);
+            } else {
+                QueryResult commit = sqlHandler.evaluate("commit", session).get(0);
+                if (commit.isError()) {
+                    // 提交失败时整批回滚，各条语句的结果都不算数
+                    sqlHandler.rollback(session);
+                    Status status = new Status(Global.FAILURE_CODE);
+                    status.setMsg(commit.errorMessage);
+                    resp.setStatus(status);
+                    resp.setInTransaction(currentSession.inTransaction());
+                    return resp;
+                }
+            }
+        }
+        resp.setStatus(new Status(Global.SUCCESS_CODE));
+        resp.setInTransaction(currentSession.inTransaction());
+        return resp;
+    }
+
+    // 客户端据此得知会话是否还在事务中，不必解析各条语句返回的消息
+    private ExecuteStatementResp withTransactionState(ExecuteStatementResp resp, long session) {
+        resp.setInTransaction(manager.getSession(session).inTransaction());
         return resp;
     }
+
+    @Override
+    public FetchResultsResp fetchResults(FetchResultsReq req) throws TException {
+        FetchResultsResp resp = new FetchResultsResp();
+        QueryResult queryResult = cursors.get(req.getQueryId());
+        if (queryResult == null || queryResult.getSession() != req.getSessionId()) {
+            Status status = new Status(Global.FAILURE_CODE);
+            status.setMsg("query " + req.getQueryId() + " does not exist or has been closed.");
+            resp.setStatus(status);
+            resp.setHasMoreRows(false);
+            return resp;
+        }
+        int fetchSize = req.isSetFetchSize() ? req.getFetchSize() : 0;
+        try {
+            List<Row> rows = queryResult.fetch(fetchSize);
+            if (req.isSetColumnar() && req.isColumnar())
+                resp.setColumnList(ColumnarCodec.encode(rows, queryResult.getColumnTypes()));
+            else
+                resp.setRowList(toRowList(rows));
+        } catch (Exception e) {
+            cursors.remove(req.getQueryId());
+            queryResult.close();
+            Status status = new Status(Global.FAILURE_CODE);
+            status.setMsg(e.getMessage());
+            resp.setStatus(status);
+            resp.setHasMoreRows(false);
+            return resp;
+        }
+        boolean hasMoreRows = queryResult.hasMoreRows();
+        if (!hasMoreRows) {
+            cursors.remove(req.getQueryId());
+        }
+        resp.setStatus(new Status(Global.SUCCESS_CODE));
+        resp.setHasMoreRows(hasMoreRows);
+        return resp;
+    }
+
+    @Override
+    public CloseOperationResp closeOperation(CloseOperationReq req) throws TException {
+        QueryResult queryResult = cursors.get(req.getQueryId());
+        if (queryResult != null && queryResult.getSession() == req.getSessionId()) {
+            cursors.remove(req.getQueryId());
+            queryResult.close();
+        }
+        CloseOperationResp resp = new CloseOperationResp();
+        resp.setStatus(new Status(Global.SUCCESS_CODE));
+        return resp;
+    }
+
+    private static List<List<String>> toRowList(List<Row> rows) {
+        List<List<String>> rowList = new ArrayList<>();
+        for (Row row : rows) {
+            rowList.add(row.toStringList());
+        }
+        return rowList;
+    }
 }
@@ -0,0 +1,51 @@
+package cn.edu.thssdb.service;
+
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.transport.TTransport;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 把会话绑定到打开它的连接上：每个请求执行前告诉 IServiceHandler 当前的连接，connect 打开的会话记在连接上；
+ * 连接关闭时（客户端断开或崩溃，没有调用 disconnect）这些会话被回滚并关闭，它们持有的锁和快照随之释放。
+ * 线程池模式下 deleteContext 在连接的工作线程上调用，选择器模式下在选择器线程上调用。
+ */
+
+public class SessionEventHandler implements TServerEventHandler {
+
+    private final IServiceHandler handler;
+
+    // 一个连接上打开、还未 disconnect 的会话；选择器模式下同一连接的请求可能由不同的工作线程执行
+    static class ConnectionContext implements ServerContext {
+        final Set<Long> sessions = ConcurrentHashMap.newKeySet();
+    }
+
+    public SessionEventHandler(IServiceHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void preServe() {
+    }
+
+    @Override
+    public ServerContext createContext(TProtocol input, TProtocol output) {
+        return new ConnectionContext();
+    }
+
+    @Override
+    public void processContext(ServerContext serverContext, TTransport inputTransport, TTransport outputTransport) {
+        handler.enterConnection((ConnectionContext) serverContext);
+    }
+
+    @Override
+    public void deleteContext(ServerContext serverContext, TProtocol input, TProtocol output) {
+        ConnectionContext context = (ConnectionContext) serverContext;
+        for (long session : context.sessions)
+            handler.closeSession(session);
+        context.sessions.clear();
+    }
+}
@@ -0,0 +1,5 @@
+package cn.edu.thssdb.type;
+
+public enum LockMode {
+    SHARED, EXCLUSIVE
+}
@@ -1,5 +1,5 @@
 package cn.edu.thssdb.type;
 
 public enum QueryResultType {
-    SELECT, MESSAGE
+    SELECT, MESSAGE, ERROR, ABORT
 }
@@ -31,9 +31,38 @@ struct GetTimeResp {
   2: required Status status
 }
 
+// mirrors cn.edu.thssdb.type.ColumnType
+enum ColumnDataType {
+  INT,
+  LONG,
+  FLOAT,
+  DOUBLE,
+  STRING
+}
+
+// one result column in typed columnar form, only the vector matching dataType is set;
+// bit i of nullBitmap (low bit first) marks row i as null, its slot then holds 0 or an empty string
+struct ResultColumn {
+  1: required ColumnDataType dataType
+  2: required binary nullBitmap
+  // INT
+  3: optional list<i32> intValues
+  // LONG
+  4: optional list<i64> longValues
+  // FLOAT and DOUBLE
+  5: optional list<double> doubleValues
+  // STRING: UTF-8 bytes of every value back to back, cut by stringLengths
+  6: optional binary stringBytes
+  7: optional list<i32> stringLengths
+}
+
 struct ExecuteStatementReq {
   1: required i64 sessionId
   2: required string statement
+  // rows per batch for a query, 0 or unset returns every row at once
+  3: optional i32 fetchSize
+  // return query rows in columnList instead of rowList
+  4: optional bool columnar
 }
 
 struct ExecuteStatementResp{
@@ -43,6 +72,63 @@ struct ExecuteStatementResp{
   // only for query
   4: optional list<string> columnsList
   5: optional list<list<string>> rowList
+  // set when a query has more rows than fetchSize, pass it to fetchResults
+  6: optional i64 queryId
+  7: optional bool hasMoreRows
+  // set instead of rowList when the request asked for columnar results
+  8: optional list<ResultColumn> columnList
+  // whether the session is inside a transaction after the statements ran
+  9: optional bool inTransaction
+  // when no rows are returned, one entry per message in columnsList: whether that statement failed
+  10: optional list<bool> errorList
+}
+
+struct FetchResultsReq {
+  1: required i64 sessionId
+  2: required i64 queryId
+  3: optional i32 fetchSize
+  4: optional bool columnar
+}
+
+struct FetchResultsResp {
+  1: required Status status
+  2: required bool hasMoreRows
+  3: optional list<list<string>> rowList
+  4: optional list<ResultColumn> columnList
+}
+
+struct CloseOperationReq {
+  1: required i64 sessionId
+  2: required i64 queryId
+}
+
+struct CloseOperationResp {
+  1: required Status status
+}
+
+struct ExecuteBatchReq {
+  1: required i64 sessionId
+  // one statement per entry, run in order in one transaction
+  2: required list<string> statements
+  // stop at the first failed statement and roll the batch back
+  3: optional bool stopOnError
+}
+
+struct StatementResult {
+  // FAILURE_CODE with the error in msg when the statement failed
+  1: required Status status
+  // rows inserted, deleted or updated, 0 for other statements
+  2: required i32 affectedRows
+}
+
+struct ExecuteBatchResp {
+  1: required Status status
+  // the transaction was aborted, e.g. as a deadlock victim, and the remaining statements did not run
+  2: required bool isAbort
+  // one per statement that ran, in order
+  3: optional list<StatementResult> results
+  // whether the session is inside a transaction after the batch ran
+  4: optional bool inTransaction
 }
 
 service IService {
@@ -50,4 +136,7 @@ service IService {
   ConnectResp connect(1: ConnectReq req);
   DisconnetResp disconnect(1: DisconnetReq req);
   ExecuteStatementResp executeStatement(1: ExecuteStatementReq req);
+  FetchResultsResp fetchResults(1: FetchResultsReq req);
+  CloseOperationResp closeOperation(1: CloseOperationReq req);
+  ExecuteBatchResp executeBatch(1: ExecuteBatchReq req);
 }
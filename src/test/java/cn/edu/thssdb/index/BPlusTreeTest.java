@@ -3,7 +3,10 @@ package cn.edu.thssdb.index;
 import org.junit.Before;
 import org.junit.Test;
 
+import cn.edu.thssdb.common.Pair;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 
@@ -57,6 +60,14 @@ public class BPlusTreeTest {
     for (int i = 1; i < size; i += 2) {
       assertEquals(map.get(keys.get(i)), tree.get(keys.get(i)));
     }
+    // merged leaves must stay linked
+    int c = 0;
+    BPlusTreeIterator<Integer, Integer> iterator = tree.iterator();
+    while (iterator.hasNext()) {
+      iterator.next();
+      c++;
+    }
+    assertEquals(tree.size(), c);
   }
 
   @Test
@@ -69,4 +80,89 @@ public class BPlusTreeTest {
     }
     assertEquals(values.size(), c);
   }
+
+  @Test
+  public void testRange() {
+    int lo = 2500;
+    int hi = 7500;
+    BPlusTreeIterator<Integer, Integer> iterator = tree.range(lo, false, hi, true);
+    int c = 0;
+    Integer last = null;
+    while (iterator.hasNext()) {
+      Integer key = iterator.next().left;
+      assertTrue(key > lo && key <= hi);
+      // keys come out in order along the leaf chain
+      assertTrue(last == null || last < key);
+      last = key;
+      c++;
+    }
+    int expected = 0;
+    for (Integer key : keys)
+      if (key > lo && key <= hi) expected++;
+    assertEquals(expected, c);
+  }
+
+  @Test
+  public void testTailAndHeadRange() {
+    int pivot = keys.get(keys.size() / 2);
+    int tail = 0;
+    BPlusTreeIterator<Integer, Integer> tailIterator = tree.tailRange(pivot, true);
+    while (tailIterator.hasNext()) {
+      assertTrue(tailIterator.next().left >= pivot);
+      tail++;
+    }
+    int head = 0;
+    BPlusTreeIterator<Integer, Integer> headIterator = tree.headRange(pivot, false);
+    while (headIterator.hasNext()) {
+      assertTrue(headIterator.next().left < pivot);
+      head++;
+    }
+    assertEquals(keys.size(), tail + head);
+  }
+
+  @Test
+  public void testIteratorAcrossRemove() {
+    // remove every key while iterating, the iterator must re-seek past the merged leaves
+    int count = 0;
+    Integer last = null;
+    BPlusTreeIterator<Integer, Integer> iterator = tree.iterator();
+    while (iterator.hasNext()) {
+      Integer key = iterator.next().left;
+      if (last != null)
+        assertTrue(key > last);
+      last = key;
+      tree.remove(key);
+      count++;
+    }
+    assertEquals(keys.size(), count);
+    assertEquals(0, tree.size());
+  }
+
+  @Test
+  public void testBulkLoad() {
+    ArrayList<Integer> sortedKeys = new ArrayList<>(keys);
+    Collections.sort(sortedKeys);
+    ArrayList<Pair<Integer, Integer>> entries = new ArrayList<>();
+    for (Integer key : sortedKeys)
+      entries.add(new Pair<>(key, map.get(key)));
+    BPlusTree<Integer, Integer> loaded = new BPlusTree<>();
+    loaded.bulkLoad(entries.iterator());
+    assertEquals(sortedKeys.size(), loaded.size());
+    for (Integer key : sortedKeys)
+      assertEquals(map.get(key), loaded.get(key));
+    // leaves are linked in key order
+    int c = 0;
+    BPlusTreeIterator<Integer, Integer> iterator = loaded.iterator();
+    while (iterator.hasNext())
+      assertEquals(sortedKeys.get(c++), iterator.next().left);
+    assertEquals(sortedKeys.size(), c);
+    // the loaded tree keeps working under later inserts and removes
+    for (int i = 0; i < sortedKeys.size(); i += 2)
+      loaded.remove(sortedKeys.get(i));
+    loaded.put(-1, -1);
+    assertEquals(sortedKeys.size() - (sortedKeys.size() + 1) / 2 + 1, loaded.size());
+    for (int i = 1; i < sortedKeys.size(); i += 2)
+      assertEquals(map.get(sortedKeys.get(i)), loaded.get(sortedKeys.get(i)));
+    assertEquals(Integer.valueOf(-1), loaded.get(-1));
+  }
 }
@@ -0,0 +1,214 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.DeadlockException;
+import cn.edu.thssdb.exception.LockTimeoutException;
+import cn.edu.thssdb.type.ColumnType;
+import cn.edu.thssdb.type.LockMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LockManagerTest {
+  private LockManager locks;
+  private Table table;
+  private Table other;
+  private ArrayList<Long> sessions;
+  private long savedTimeout;
+  // LockManager is shared by the whole JVM, every test uses sessions of its own
+  private static long nextSession = 1L << 40;
+
+  @Before
+  public void setUp() {
+    locks = LockManager.getInstance();
+    table = newTable("t");
+    other = newTable("u");
+    sessions = new ArrayList<>();
+    savedTimeout = Global.LOCK_WAIT_TIMEOUT;
+    Global.LOCK_WAIT_TIMEOUT = 0;
+  }
+
+  @After
+  public void tearDown() {
+    Global.LOCK_WAIT_TIMEOUT = savedTimeout;
+    for (long session : sessions) {
+      locks.release(table, session, LockMode.SHARED);
+      locks.release(table, session, LockMode.EXCLUSIVE);
+      locks.release(other, session, LockMode.SHARED);
+      locks.release(other, session, LockMode.EXCLUSIVE);
+      locks.takeAbortCause(session);
+      locks.endTransaction(session);
+    }
+  }
+
+  private static Table newTable(String name) {
+    Column[] columns = {new Column("id", ColumnType.INT, 1, true, 0)};
+    return new Table("lock_test", name, columns);
+  }
+
+  private long begin() {
+    long session = nextSession++;
+    sessions.add(session);
+    locks.beginTransaction(session);
+    return session;
+  }
+
+  // acquire on another thread, the outcome (true or the exception) is put into result
+  private Thread acquireAsync(Table target, long session, LockMode mode, AtomicReference<Object> result) {
+    Thread thread = new Thread(() -> {
+      try {
+        locks.acquire(target, session, mode);
+        result.set(true);
+      } catch (RuntimeException e) {
+        result.set(e);
+      }
+    });
+    thread.start();
+    return thread;
+  }
+
+  private static void awaitBlocked(Thread thread) throws InterruptedException {
+    for (int i = 0; i < 200; i++) {
+      Thread.State state = thread.getState();
+      if (state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING)
+        return;
+      Thread.sleep(5);
+    }
+    throw new AssertionError("thread did not block");
+  }
+
+  @Test
+  public void testSharedLocksAreCompatible() {
+    long a = begin();
+    long b = begin();
+    assertTrue(locks.acquire(table, a, LockMode.SHARED));
+    assertTrue(locks.acquire(table, b, LockMode.SHARED));
+    // a lock already held is not taken again
+    assertFalse(locks.acquire(table, a, LockMode.SHARED));
+  }
+
+  @Test
+  public void testUpgradeWaitsForOtherReaders() throws InterruptedException {
+    long a = begin();
+    long b = begin();
+    locks.acquire(table, a, LockMode.SHARED);
+    locks.acquire(table, b, LockMode.SHARED);
+    AtomicReference<Object> result = new AtomicReference<>();
+    Thread upgrade = acquireAsync(table, a, LockMode.EXCLUSIVE, result);
+    awaitBlocked(upgrade);
+    assertNull(result.get());
+    locks.release(table, b, LockMode.SHARED);
+    upgrade.join(2000);
+    assertEquals(true, result.get());
+    // holding X covers S
+    assertFalse(locks.acquire(table, a, LockMode.SHARED));
+  }
+
+  @Test
+  public void testUpgradeGoesAheadOfQueuedWriter() throws InterruptedException {
+    long a = begin();
+    long b = begin();
+    long c = begin();
+    locks.acquire(table, a, LockMode.SHARED);
+    locks.acquire(table, b, LockMode.SHARED);
+    AtomicReference<Object> writer = new AtomicReference<>();
+    Thread writerThread = acquireAsync(table, c, LockMode.EXCLUSIVE, writer);
+    awaitBlocked(writerThread);
+    AtomicReference<Object> upgrade = new AtomicReference<>();
+    Thread upgradeThread = acquireAsync(table, a, LockMode.EXCLUSIVE, upgrade);
+    awaitBlocked(upgradeThread);
+    locks.release(table, b, LockMode.SHARED);
+    upgradeThread.join(2000);
+    assertEquals(true, upgrade.get());
+    assertNull(writer.get());
+    locks.release(table, a, LockMode.EXCLUSIVE);
+    locks.release(table, a, LockMode.SHARED);
+    writerThread.join(2000);
+    assertEquals(true, writer.get());
+  }
+
+  @Test
+  public void testWaitersAreGrantedInOrder() throws InterruptedException {
+    long holder = begin();
+    long reader = begin();
+    long writer = begin();
+    long lateReader = begin();
+    locks.acquire(table, holder, LockMode.EXCLUSIVE);
+    AtomicReference<Object> readerResult = new AtomicReference<>();
+    Thread readerThread = acquireAsync(table, reader, LockMode.SHARED, readerResult);
+    awaitBlocked(readerThread);
+    AtomicReference<Object> writerResult = new AtomicReference<>();
+    Thread writerThread = acquireAsync(table, writer, LockMode.EXCLUSIVE, writerResult);
+    awaitBlocked(writerThread);
+    AtomicReference<Object> lateResult = new AtomicReference<>();
+    Thread lateThread = acquireAsync(table, lateReader, LockMode.SHARED, lateResult);
+    awaitBlocked(lateThread);
+
+    locks.release(table, holder, LockMode.EXCLUSIVE);
+    readerThread.join(2000);
+    assertEquals(true, readerResult.get());
+    // the second reader is compatible with the first but queued behind the writer
+    assertNull(writerResult.get());
+    assertNull(lateResult.get());
+
+    locks.release(table, reader, LockMode.SHARED);
+    writerThread.join(2000);
+    assertEquals(true, writerResult.get());
+    assertNull(lateResult.get());
+
+    locks.release(table, writer, LockMode.EXCLUSIVE);
+    lateThread.join(2000);
+    assertEquals(true, lateResult.get());
+  }
+
+  @Test
+  public void testYoungestTransactionIsDeadlockVictim() throws InterruptedException {
+    long older = begin();
+    long younger = begin();
+    locks.acquire(table, older, LockMode.EXCLUSIVE);
+    locks.acquire(other, younger, LockMode.EXCLUSIVE);
+    AtomicReference<Object> olderResult = new AtomicReference<>();
+    Thread olderThread = acquireAsync(other, older, LockMode.EXCLUSIVE, olderResult);
+    awaitBlocked(olderThread);
+    AtomicReference<Object> youngerResult = new AtomicReference<>();
+    Thread youngerThread = acquireAsync(table, younger, LockMode.EXCLUSIVE, youngerResult);
+    youngerThread.join(2000);
+    assertTrue(youngerResult.get() instanceof DeadlockException);
+    assertTrue(locks.takeAbortCause(younger) instanceof DeadlockException);
+    assertNull(locks.takeAbortCause(younger));
+    assertNull(olderResult.get());
+
+    // the victim is rolled back and releases what it held
+    locks.release(other, younger, LockMode.EXCLUSIVE);
+    olderThread.join(2000);
+    assertEquals(true, olderResult.get());
+    assertNull(locks.takeAbortCause(older));
+  }
+
+  @Test
+  public void testLockWaitTimesOut() throws InterruptedException {
+    Global.LOCK_WAIT_TIMEOUT = 50;
+    long holder = begin();
+    long waiter = begin();
+    long next = begin();
+    locks.acquire(table, holder, LockMode.EXCLUSIVE);
+    AtomicReference<Object> result = new AtomicReference<>();
+    Thread thread = acquireAsync(table, waiter, LockMode.SHARED, result);
+    thread.join(2000);
+    assertTrue(result.get() instanceof LockTimeoutException);
+    assertTrue(locks.takeAbortCause(waiter) instanceof LockTimeoutException);
+
+    // the dropped request no longer holds up the queue
+    Global.LOCK_WAIT_TIMEOUT = 0;
+    locks.release(table, holder, LockMode.EXCLUSIVE);
+    assertTrue(locks.acquire(table, next, LockMode.EXCLUSIVE));
+  }
+}
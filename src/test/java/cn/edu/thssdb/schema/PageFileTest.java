@@ -0,0 +1,156 @@
+package cn.edu.thssdb.schema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+public class PageFileTest {
+  private static final int PAGE_SIZE = 128;
+  private static final int DOUBLE_WRITE_MAGIC = 0x54445731;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private String path;
+  private PageFile file;
+
+  @Before
+  public void setUp() {
+    path = folder.getRoot().getPath() + "/t";
+    file = new PageFile(path, PAGE_SIZE);
+  }
+
+  @After
+  public void tearDown() {
+    file.close();
+  }
+
+  private void reopen() {
+    file.close();
+    file = new PageFile(path, PAGE_SIZE);
+  }
+
+  private static byte[] bytes(String record) {
+    return record.getBytes(StandardCharsets.UTF_8);
+  }
+
+  // every record of the file by location
+  private TreeMap<Long, String> scan() {
+    TreeMap<Long, String> records = new TreeMap<>();
+    file.scan((location, record) -> {
+      byte[] copy = new byte[record.remaining()];
+      record.get(copy);
+      records.put(location, new String(copy, StandardCharsets.UTF_8));
+    });
+    return records;
+  }
+
+  // a complete side file holding the one page, as flush writes it
+  private void writeDoubleWrite(Page page) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(12 + 4 + PAGE_SIZE + 8);
+    buffer.putInt(DOUBLE_WRITE_MAGIC).putInt(1).putInt(PAGE_SIZE);
+    buffer.putInt(page.pageId).put(page.data.array());
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), 0, buffer.position());
+    buffer.putLong(crc.getValue());
+    Files.write(new File(path + ".dwb").toPath(), buffer.array());
+  }
+
+  private void tearPage(int pageId) throws IOException {
+    try (RandomAccessFile raw = new RandomAccessFile(path, "rw")) {
+      raw.seek((long) pageId * PAGE_SIZE);
+      raw.write(new byte[PAGE_SIZE / 2]);
+    }
+  }
+
+  @Test
+  public void testRecordsSurviveReopen() {
+    long first = file.insert(bytes("first"));
+    long second = file.insert(bytes("second"));
+    file.flush();
+    reopen();
+    TreeMap<Long, String> records = scan();
+    assertEquals(2, records.size());
+    assertEquals("first", records.get(first));
+    assertEquals("second", records.get(second));
+  }
+
+  @Test
+  public void testDeletedSlotIsReusedAfterReopen() {
+    file.insert(bytes("a"));
+    long deleted = file.insert(bytes("b"));
+    file.insert(bytes("c"));
+    file.delete(deleted);
+    file.flush();
+    reopen();
+    assertEquals(deleted, file.insert(bytes("d")));
+    assertEquals("d", scan().get(deleted));
+  }
+
+  @Test
+  public void testGrownRecordMovesWhenPageIsFull() {
+    long small = file.insert(bytes("x"));
+    StringBuilder filler = new StringBuilder();
+    for (int i = 0; i < 90; i++)
+      filler.append('f');
+    long full = file.insert(bytes(filler.toString()));
+    assertEquals(small >>> 32, full >>> 32);
+    String grown = filler.substring(0, 40);
+    long moved = file.update(small, bytes(grown));
+    assertNotEquals(small >>> 32, moved >>> 32);
+    file.flush();
+    reopen();
+    TreeMap<Long, String> records = scan();
+    assertEquals(2, records.size());
+    assertEquals(grown, records.get(moved));
+  }
+
+  @Test
+  public void testCompleteDoubleWriteIsRestored() throws IOException {
+    file.insert(bytes("old"));
+    file.flush();
+    file.close();
+    Page page = Page.empty(1, PAGE_SIZE);
+    page.insert(bytes("new"));
+    writeDoubleWrite(page);
+    // the crash hit while page 1 was being overwritten in place
+    tearPage(1);
+    file = new PageFile(path, PAGE_SIZE);
+    assertFalse(new File(path + ".dwb").exists());
+    TreeMap<Long, String> records = scan();
+    assertEquals(1, records.size());
+    assertEquals("new", records.get(PageFile.location(1, 0)));
+  }
+
+  @Test
+  public void testIncompleteDoubleWriteIsIgnored() throws IOException {
+    file.insert(bytes("old"));
+    file.flush();
+    file.close();
+    Page page = Page.empty(1, PAGE_SIZE);
+    page.insert(bytes("new"));
+    writeDoubleWrite(page);
+    // the crash hit before the side file was complete, the table file is untouched
+    try (RandomAccessFile raw = new RandomAccessFile(path + ".dwb", "rw")) {
+      raw.setLength(raw.length() - 3);
+    }
+    file = new PageFile(path, PAGE_SIZE);
+    assertFalse(new File(path + ".dwb").exists());
+    assertEquals("old", scan().get(PageFile.location(1, 0)));
+  }
+}
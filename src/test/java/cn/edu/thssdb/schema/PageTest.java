@@ -0,0 +1,73 @@
+package cn.edu.thssdb.schema;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PageTest {
+  private static final int PAGE_SIZE = 64;
+  private Page page;
+
+  @Before
+  public void setUp() {
+    page = Page.empty(1, PAGE_SIZE);
+  }
+
+  private static byte[] record(int length, int value) {
+    byte[] record = new byte[length];
+    Arrays.fill(record, (byte) value);
+    return record;
+  }
+
+  @Test
+  public void testDeletedSlotIsReused() {
+    assertEquals(0, page.insert(record(4, 'a')));
+    assertEquals(1, page.insert(record(4, 'b')));
+    assertEquals(2, page.insert(record(4, 'c')));
+    page.delete(1);
+    assertFalse(page.isLive(1));
+    assertEquals(1, page.insert(record(4, 'd')));
+    assertArrayEquals(record(4, 'd'), page.get(1));
+    assertArrayEquals(record(4, 'c'), page.get(2));
+    // free slots at the end of the directory are given back
+    page.delete(2);
+    assertEquals(2, page.slotCount());
+    assertEquals(PAGE_SIZE - Page.HEADER_SIZE - 2 * Page.SLOT_SIZE - 8, page.freeSpace());
+  }
+
+  @Test
+  public void testInsertCompactsFragmentedPage() {
+    page.insert(record(12, 'a'));
+    page.insert(record(12, 'b'));
+    page.delete(0);
+    // 28 bytes are free, but only 16 of them lie between the directory and the records
+    assertEquals(28, page.freeSpace());
+    assertEquals(0, page.insert(record(20, 'c')));
+    assertArrayEquals(record(20, 'c'), page.get(0));
+    assertArrayEquals(record(12, 'b'), page.get(1));
+    assertEquals(8, page.freeSpace());
+    assertEquals(-1, page.insert(record(9, 'd')));
+  }
+
+  @Test
+  public void testUpdateGrowsInPlace() {
+    page.insert(record(12, 'a'));
+    page.insert(record(12, 'b'));
+    page.delete(0);
+    assertTrue(page.update(1, record(24, 'e')));
+    assertArrayEquals(record(24, 'e'), page.get(1));
+    assertEquals(16, page.freeSpace());
+    // shrinking keeps the record where it is
+    assertTrue(page.update(1, record(4, 'f')));
+    assertArrayEquals(record(4, 'f'), page.get(1));
+    assertEquals(36, page.freeSpace());
+    assertFalse(page.update(1, record(41, 'g')));
+    assertArrayEquals(record(4, 'f'), page.get(1));
+  }
+}
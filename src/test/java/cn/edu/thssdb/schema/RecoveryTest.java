@@ -0,0 +1,109 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.parser.SQLHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+
+public class RecoveryTest {
+  private static final String DATABASE = "recovery_test";
+  // the same id in every run, as the server hands out session ids from 0 again after a restart
+  private static final long SESSION = 1L << 42;
+
+  private SQLHandler savedHandler;
+  private Manager manager;
+
+  @Before
+  public void setUp() {
+    savedHandler = Manager.sqlHandler;
+    deleteFolder(new File(Database.getDatabaseLogFilePath(DATABASE)).getParentFile());
+  }
+
+  @After
+  public void tearDown() {
+    if (manager != null) {
+      try {
+        Database database = manager.get(DATABASE);
+        manager.deleteDatabase(DATABASE);
+        database.closeLog();
+      } catch (RuntimeException ignored) {
+      }
+      manager.quit();
+    }
+    deleteFolder(new File(Database.getDatabaseLogFilePath(DATABASE)).getParentFile());
+    Manager.sqlHandler = savedHandler;
+  }
+
+  private static void deleteFolder(File folder) {
+    File[] files = folder.listFiles();
+    if (files != null)
+      for (File file : files)
+        deleteFolder(file);
+    folder.delete();
+  }
+
+  // a new Manager recovers from the files the previous one left, like a restart
+  private Manager restart() {
+    if (manager != null)
+      manager.quit();
+    manager = new Manager();
+    return manager;
+  }
+
+  private void execute(String statement) {
+    Manager.sqlHandler.evaluate(statement, SESSION);
+  }
+
+  private ArrayList<Object> ids() {
+    Table table = manager.get(DATABASE).get("t");
+    VersionManager versions = VersionManager.getInstance();
+    Snapshot snapshot = versions.openSnapshot(SESSION);
+    ArrayList<Object> ids = new ArrayList<>();
+    try {
+      Iterator<Row> iterator = table.iterator(snapshot);
+      while (iterator.hasNext())
+        ids.add(iterator.next().getEntries().get(0).value);
+    } finally {
+      versions.closeSnapshot(snapshot);
+    }
+    return ids;
+  }
+
+  @Test
+  public void testUncommittedTailIsNotCommittedBySameSessionLater() {
+    restart();
+    execute("create database " + DATABASE);
+    execute("use " + DATABASE);
+    execute("create table t (id int, primary key(id))");
+    Table table = manager.get(DATABASE).get("t");
+    manager.quit();
+
+    // the run crashed in the middle of a transaction: its rows reached the log, its commit did not
+    WriteAheadLog log = new WriteAheadLog(Database.getDatabaseLogFilePath(DATABASE));
+    log.append(SESSION, Global.LOG_BEGIN_TRANSACTION);
+    long lsn = log.appendPut(SESSION, table, new Row(new Cell[]{new Cell(1)}));
+    log.flush(lsn);
+    log.close();
+
+    manager = null;
+    restart();
+    assertEquals(0, ids().size());
+    execute("use " + DATABASE);
+    execute("begin transaction");
+    execute("insert into t values (2)");
+    execute("commit");
+    manager.closeSession(SESSION);
+
+    restart();
+    ArrayList<Object> ids = ids();
+    assertEquals(1, ids.size());
+    assertEquals(2, ids.get(0));
+  }
+}
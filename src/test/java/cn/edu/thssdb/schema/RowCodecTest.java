@@ -0,0 +1,101 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RowCodecTest {
+
+  private static List<Cell> cells(Comparable... values) {
+    ArrayList<Cell> cells = new ArrayList<>();
+    for (Comparable value : values)
+      cells.add(new Cell(value));
+    return cells;
+  }
+
+  private static String repeat(String unit, int times) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < times; i++)
+      builder.append(unit);
+    return builder.toString();
+  }
+
+  private static void assertValues(List<Cell> expected, List<Cell> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++)
+      assertEquals("column " + i, expected.get(i).value, actual.get(i).value);
+  }
+
+  @Test
+  public void testRoundTripOfEveryType() {
+    RowCodec codec = new RowCodec(ColumnType.INT, ColumnType.LONG, ColumnType.FLOAT,
+        ColumnType.DOUBLE, ColumnType.STRING);
+    List<Cell> row = cells(Integer.MIN_VALUE, Long.MAX_VALUE, -1.5f, Math.PI, "");
+    assertValues(row, codec.decode(codec.encode(row)));
+  }
+
+  @Test
+  public void testNullsSpanSeveralBitmapBytes() {
+    ColumnType[] types = new ColumnType[10];
+    Arrays.fill(types, ColumnType.INT);
+    types[9] = ColumnType.STRING;
+    RowCodec codec = new RowCodec(types);
+    List<Cell> row = cells(null, 1, 2, 3, 4, 5, 6, 7, null, null);
+    byte[] bytes = codec.encode(row);
+    // two bitmap bytes and seven ints, nulls take no space
+    assertEquals(2 + 7 * 4, bytes.length);
+    ArrayList<Cell> decoded = codec.decode(bytes);
+    assertValues(row, decoded);
+    assertNull(decoded.get(9).value);
+
+    List<Cell> allNull = cells(null, null, null, null, null, null, null, null, null, null);
+    assertValues(allNull, codec.decode(codec.encode(allNull)));
+  }
+
+  @Test
+  public void testStringLengthsNeedingLongerVarints() {
+    RowCodec codec = new RowCodec(ColumnType.STRING, ColumnType.STRING, ColumnType.STRING,
+        ColumnType.STRING);
+    // 127 bytes fit a one byte length, 128 need two and 16384 need three
+    List<Cell> row = cells(repeat("a", 127), repeat("b", 128), repeat("c", 16384), repeat("\u6570\u636e", 30));
+    byte[] bytes = codec.encode(row);
+    assertEquals(1 + (1 + 127) + (2 + 128) + (3 + 16384) + (2 + 180), bytes.length);
+    assertValues(row, codec.decode(bytes));
+  }
+
+  @Test
+  public void testDecodeReadsOneRowFromBuffer() {
+    RowCodec codec = new RowCodec(ColumnType.INT, ColumnType.STRING);
+    byte[] first = codec.encode(cells(1, repeat("x", 200)));
+    byte[] second = codec.encode(cells(null, "y"));
+    ByteBuffer buffer = ByteBuffer.allocate(3 + first.length + second.length);
+    buffer.position(3);
+    buffer.put(first).put(second);
+    buffer.position(3);
+    assertEquals(repeat("x", 200), codec.decode(buffer).get(1).value);
+    assertEquals(3 + first.length, buffer.position());
+    ArrayList<Cell> decoded = codec.decode(buffer);
+    assertNull(decoded.get(0).value);
+    assertEquals("y", decoded.get(1).value);
+    assertTrue(!buffer.hasRemaining());
+  }
+
+  @Test
+  public void testMaxLengthBoundsEncoding() {
+    ArrayList<Column> columns = new ArrayList<>();
+    columns.add(new Column("id", ColumnType.LONG, 1, true, 0));
+    columns.add(new Column("name", ColumnType.STRING, 0, false, 50));
+    RowCodec codec = RowCodec.of(columns);
+    byte[] bytes = codec.encode(cells(Long.MIN_VALUE, repeat("\u5b57", 50)));
+    assertTrue(bytes.length <= RowCodec.maxLength(columns));
+    assertValues(cells(Long.MIN_VALUE, repeat("\u5b57", 50)), codec.decode(bytes));
+  }
+}
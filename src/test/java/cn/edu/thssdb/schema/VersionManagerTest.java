@@ -0,0 +1,140 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class VersionManagerTest {
+  private VersionManager versions;
+  private Table table;
+  // VersionManager is shared by the whole JVM, every test uses sessions of its own
+  private static long nextSession = 1L << 41;
+
+  @Before
+  public void setUp() {
+    versions = VersionManager.getInstance();
+    Column[] columns = {
+        new Column("id", ColumnType.INT, 1, true, 0),
+        new Column("v", ColumnType.STRING, 0, false, 10)
+    };
+    table = new Table("mvcc_test", "t", columns);
+  }
+
+  private long begin() {
+    long session = nextSession++;
+    versions.begin(session);
+    return session;
+  }
+
+  private static Row row(int id, String v) {
+    return new Row(new Cell[]{new Cell(id), new Cell(v)});
+  }
+
+  // "id:v" of every row the snapshot sees, in key order
+  private ArrayList<String> read(Snapshot snapshot) {
+    ArrayList<String> rows = new ArrayList<>();
+    Iterator<Row> iterator = table.iterator(snapshot);
+    while (iterator.hasNext()) {
+      Row row = iterator.next();
+      rows.add(row.getEntries().get(0).value + ":" + row.getEntries().get(1).value);
+    }
+    return rows;
+  }
+
+  private ArrayList<String> readCommitted(long session) {
+    Snapshot snapshot = versions.openSnapshot(session);
+    try {
+      return read(snapshot);
+    } finally {
+      versions.closeSnapshot(snapshot);
+    }
+  }
+
+  // what a statement outside any transaction reads
+  private ArrayList<String> readLatest() {
+    return readCommitted(nextSession++);
+  }
+
+  private void commitRow(int id, String v) {
+    long writer = begin();
+    table.insert(row(id, v), writer);
+    versions.commit(writer);
+  }
+
+  @Test
+  public void testUncommittedWriteVisibleOnlyToWriter() {
+    long writer = begin();
+    long reader = begin();
+    table.insert(row(1, "a"), writer);
+    assertTrue(readCommitted(reader).isEmpty());
+    assertEquals(1, readCommitted(writer).size());
+    versions.commit(writer);
+    // the reader keeps the snapshot it began with
+    assertTrue(readCommitted(reader).isEmpty());
+    versions.commit(reader);
+    assertEquals("1:a", readLatest().get(0));
+  }
+
+  @Test
+  public void testSnapshotKeepsOldVersionUntilClosed() {
+    commitRow(1, "a");
+    long reader = begin();
+    Snapshot snapshot = versions.openSnapshot(reader);
+
+    long writer = begin();
+    table.update(new Cell(1), row(1, "b"), writer);
+    versions.commit(writer);
+    assertEquals("1:a", read(snapshot).get(0));
+    assertEquals("1:b", readLatest().get(0));
+    assertTrue(table.index.get(new Cell(1)).previous != null);
+
+    versions.closeSnapshot(snapshot);
+    versions.commit(reader);
+    // the next commit vacuums the version no snapshot can see any more
+    commitRow(2, "c");
+    assertNull(table.index.get(new Cell(1)).previous);
+  }
+
+  @Test
+  public void testDeleteHiddenFromOlderSnapshotOnlyAfterCommit() {
+    commitRow(1, "a");
+    commitRow(2, "b");
+    long reader = begin();
+    long writer = begin();
+    table.delete(row(1, "a"), writer);
+    assertEquals(1, readCommitted(writer).size());
+    assertEquals(2, readCommitted(reader).size());
+    versions.commit(writer);
+    assertEquals(2, readCommitted(reader).size());
+    versions.commit(reader);
+    assertEquals("2:b", readLatest().get(0));
+    assertEquals(1, readLatest().size());
+  }
+
+  @Test
+  public void testRollbackRestoresPreviousState() {
+    commitRow(1, "a");
+    long writer = begin();
+    // a rollback runs the undo actions of the transaction, then ends it like a commit
+    table.update(new Cell(1), row(1, "b"), writer);
+    table.insert(row(2, "x"), writer);
+    table.delete(row(2, "x"), writer);
+    table.update(new Cell(1), row(1, "a"), writer);
+    versions.commit(writer);
+
+    ArrayList<String> rows = readLatest();
+    assertEquals(1, rows.size());
+    assertEquals("1:a", rows.get(0));
+    // once no snapshot needs them, the versions of the rolled back insert disappear entirely
+    commitRow(3, "c");
+    assertFalse(table.index.contains(new Cell(2)));
+  }
+}
@@ -0,0 +1,180 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WriteAheadLogTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private String path;
+  private WriteAheadLog log;
+  private Table table;
+
+  @Before
+  public void setUp() throws IOException {
+    path = folder.getRoot().getPath() + "/log";
+    log = new WriteAheadLog(path);
+    Column[] columns = {
+        new Column("id", ColumnType.INT, 1, true, 0),
+        new Column("name", ColumnType.STRING, 0, false, 16)
+    };
+    table = new Table("wal_test", "t", columns);
+  }
+
+  @After
+  public void tearDown() {
+    log.close();
+  }
+
+  private WriteAheadLog reopen() {
+    log.close();
+    log = new WriteAheadLog(path);
+    return log;
+  }
+
+  // file offset of the record with the given LSN, for a log holding only statements
+  private static long offsetOf(long lsn, long firstLsn, String statement) {
+    int recordSize = 8 + 17 + statement.getBytes(StandardCharsets.UTF_8).length;
+    return 12 + (lsn - firstLsn) * recordSize;
+  }
+
+  @Test
+  public void testRecordsSurviveReopen() {
+    long begin = log.append(7, Global.LOG_BEGIN_TRANSACTION);
+    long put = log.appendPut(7, table, new Row(new Cell[]{new Cell(1), new Cell("ab")}));
+    long delete = log.appendDelete(7, table, new Cell(2));
+    long commit = log.append(7, Global.LOG_COMMIT);
+    log.flush(commit);
+    assertEquals(begin + 1, put);
+    assertEquals(put + 1, delete);
+
+    ArrayList<WriteAheadLog.Record> records = reopen().readAll();
+    assertEquals(4, records.size());
+    assertEquals(Global.LOG_BEGIN_TRANSACTION, records.get(0).statement);
+    WriteAheadLog.Record putRecord = records.get(1);
+    assertEquals(WriteAheadLog.ROW_PUT, putRecord.type);
+    assertEquals(7, putRecord.session);
+    assertEquals("t", putRecord.tableName);
+    assertEquals("ab", putRecord.cells(table.getRowCodec()).get(1).value);
+    WriteAheadLog.Record deleteRecord = records.get(2);
+    assertEquals(WriteAheadLog.ROW_DELETE, deleteRecord.type);
+    assertEquals(2, deleteRecord.cells(table.getKeyCodec()).get(0).value);
+    assertEquals(commit, records.get(3).lsn);
+    assertEquals(commit + 1, log.nextLsn());
+  }
+
+  @Test
+  public void testReadingStopsAtCorruptRecord() throws IOException {
+    String statement = Global.LOG_COMMIT;
+    for (int i = 0; i < 3; i++)
+      log.append(1, statement);
+    log.flush(3);
+    log.close();
+    // flip one payload byte of the last record, as a torn write would leave it
+    try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+      long position = offsetOf(3, 1, statement) + 20;
+      file.seek(position);
+      int value = file.read();
+      file.seek(position);
+      file.write(value ^ 0xff);
+    }
+    log = new WriteAheadLog(path);
+    assertEquals(2, log.readAll().size());
+    // the next record takes the place of the corrupt one
+    assertEquals(3, log.append(1, Global.LOG_ROLLBACK));
+    log.flush(3);
+    ArrayList<WriteAheadLog.Record> records = reopen().readAll();
+    assertEquals(3, records.size());
+    assertEquals(Global.LOG_ROLLBACK, records.get(2).statement);
+  }
+
+  @Test
+  public void testReadingStopsAtTornLength() throws IOException {
+    String statement = Global.LOG_COMMIT;
+    for (int i = 0; i < 3; i++)
+      log.append(1, statement);
+    log.flush(3);
+    log.close();
+    // a length running past the end of the file
+    try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+      file.seek(offsetOf(2, 1, statement));
+      file.writeInt(Integer.MAX_VALUE);
+    }
+    log = new WriteAheadLog(path);
+    assertEquals(1, log.readAll().size());
+    assertEquals(2, log.nextLsn());
+  }
+
+  @Test
+  public void testConcurrentCommitsAreAllDurable() throws InterruptedException {
+    int threads = 8;
+    int commits = 50;
+    ArrayList<Thread> committers = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      long session = i;
+      Thread thread = new Thread(() -> {
+        for (int j = 0; j < commits; j++)
+          log.flush(log.append(session, Global.LOG_COMMIT));
+      });
+      committers.add(thread);
+      thread.start();
+    }
+    for (Thread thread : committers)
+      thread.join();
+    ArrayList<WriteAheadLog.Record> records = reopen().readAll();
+    assertEquals(threads * commits, records.size());
+    HashSet<Long> lsns = new HashSet<>();
+    for (WriteAheadLog.Record record : records)
+      lsns.add(record.lsn);
+    assertEquals(threads * commits, lsns.size());
+    // flushing what is already durable returns at once
+    log.flush(1);
+  }
+
+  @Test
+  public void testTruncateBeforeKeepsLaterRecords() {
+    for (int i = 0; i < 5; i++)
+      log.append(i, Global.LOG_COMMIT);
+    log.truncateBefore(3);
+    ArrayList<WriteAheadLog.Record> records = log.readAll();
+    assertEquals(3, records.size());
+    assertEquals(3, records.get(0).lsn);
+    assertEquals(2, records.get(0).session);
+
+    records = reopen().readAll();
+    assertEquals(3, records.size());
+    assertEquals(3, records.get(0).lsn);
+    assertEquals(6, log.append(9, Global.LOG_COMMIT));
+    // a checkpoint older than the log start changes nothing
+    log.truncateBefore(2);
+    assertEquals(4, log.readAll().size());
+  }
+
+  @Test
+  public void testTruncateKeepsLsnsIncreasing() {
+    for (int i = 0; i < 3; i++)
+      log.append(1, Global.LOG_COMMIT);
+    log.truncate();
+    assertTrue(log.readAll().isEmpty());
+    assertEquals(0, log.size());
+    assertEquals(4, reopen().nextLsn());
+    assertEquals(4, log.append(1, Global.LOG_BEGIN_TRANSACTION));
+    assertNull(log.readAll().get(0).tableName);
+  }
+}
@@ -0,0 +1,88 @@
+package cn.edu.thssdb.service;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.rpc.thrift.ConnectReq;
+import cn.edu.thssdb.rpc.thrift.DisconnetReq;
+import cn.edu.thssdb.rpc.thrift.ExecuteBatchReq;
+import cn.edu.thssdb.rpc.thrift.ExecuteBatchResp;
+import cn.edu.thssdb.rpc.thrift.ExecuteStatementReq;
+import cn.edu.thssdb.rpc.thrift.ExecuteStatementResp;
+import org.apache.thrift.TException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class IServiceHandlerTest {
+  private IServiceHandler handler;
+  private long session;
+
+  @Before
+  public void setUp() throws TException {
+    handler = new IServiceHandler();
+    session = handler.connect(new ConnectReq("1", "1")).getSessionId();
+    // a run that was cut short may have left the database behind
+    batch(false, "drop database batch_test");
+    ExecuteBatchResp resp = batch(false, "create database batch_test", "use batch_test",
+        "create table t (id int, v int, primary key(id))", "insert into t values (1, 1)");
+    assertEquals(Global.SUCCESS_CODE, resp.getStatus().code);
+  }
+
+  @After
+  public void tearDown() throws TException {
+    batch(false, "drop database batch_test");
+    handler.disconnect(new DisconnetReq(session));
+  }
+
+  private ExecuteBatchResp batch(boolean stopOnError, String... statements) throws TException {
+    ExecuteBatchReq req = new ExecuteBatchReq(session, Arrays.asList(statements));
+    req.setStopOnError(stopOnError);
+    return handler.executeBatch(req);
+  }
+
+  private List<List<String>> rows() throws TException {
+    ExecuteStatementResp resp = handler.executeStatement(new ExecuteStatementReq(session, "select * from t"));
+    return resp.getRowList();
+  }
+
+  @Test
+  public void testStopOnErrorRollsBackBatch() throws TException {
+    ExecuteBatchResp resp = batch(true, "insert into t values (2, 2)", "insert into t values (1, 9)",
+        "insert into t values (3, 3)");
+    assertEquals(Global.SUCCESS_CODE, resp.getStatus().code);
+    // the statements after the failed one are not run
+    assertEquals(2, resp.getResults().size());
+    assertEquals(Global.SUCCESS_CODE, resp.getResults().get(0).getStatus().code);
+    assertEquals(Global.FAILURE_CODE, resp.getResults().get(1).getStatus().code);
+    assertFalse(resp.isInTransaction());
+    // the insert before the failed one is rolled back with the batch
+    assertEquals(1, rows().size());
+  }
+
+  @Test
+  public void testFailedStatementDoesNotStopBatch() throws TException {
+    ExecuteBatchResp resp = batch(false, "insert into t values (2, 2)", "insert into t values (1, 9)",
+        "insert into t values (3, 3)");
+    assertEquals(3, resp.getResults().size());
+    assertEquals(Global.FAILURE_CODE, resp.getResults().get(1).getStatus().code);
+    assertEquals(1, resp.getResults().get(2).getAffectedRows());
+    assertEquals(3, rows().size());
+  }
+
+  @Test
+  public void testBatchJoinsOpenTransaction() throws TException {
+    handler.executeStatement(new ExecuteStatementReq(session, "begin transaction"));
+    ExecuteBatchResp resp = batch(true, "insert into t values (2, 2)", "insert into t values (1, 9)");
+    assertEquals(Global.FAILURE_CODE, resp.getResults().get(1).getStatus().code);
+    // the failed statement neither ends nor rolls back the session's transaction
+    assertEquals(true, resp.isInTransaction());
+    ExecuteStatementResp commit = handler.executeStatement(new ExecuteStatementReq(session, "commit"));
+    assertFalse(commit.isInTransaction());
+    assertEquals(2, rows().size());
+  }
+}